@@ -1,8 +1,11 @@
 package com.automation.api;
 
 import com.automation.core.ConfigManager;
+import com.automation.core.HttpClientPool;
+import com.automation.core.LogBody;
+import com.automation.core.RequestTemplate;
+import com.automation.performance.LatencyRecorder;
 import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
 import io.restassured.builder.ResponseSpecBuilder;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
@@ -10,10 +13,16 @@ import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
 
 import java.io.File;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 import static io.restassured.RestAssured.*;
 
@@ -25,20 +34,18 @@ public class APIBaseTest {
     private static final Logger logger = LogManager.getLogger(APIBaseTest.class);
     protected static final ConfigManager config = ConfigManager.getInstance();
     
-    protected RequestSpecification requestSpec;
+    // Request defaults for the class, and overrides made by the test running on each thread
+    private final AtomicReference<RequestTemplate> classTemplate = new AtomicReference<>(defaultTemplate());
+    private final ThreadLocal<RequestTemplate> testTemplate = new ThreadLocal<>();
     protected ResponseSpecification responseSpec;
 
     @BeforeClass
     public void setupAPI() {
         // Set base URI
-        RestAssured.baseURI = config.getApiBaseUrl();
+        RestAssured.baseURI = config.getAPIBaseUrl();
         
-        // Create request specification
-        requestSpec = new RequestSpecBuilder()
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addHeader("User-Agent", "Automation-Framework/1.0")
-                .build();
+        // Send requests through the shared keep-alive connection pool
+        HttpClientPool.install();
         
         // Create response specification  
         responseSpec = new ResponseSpecBuilder()
@@ -51,6 +58,66 @@ public class APIBaseTest {
         logger.info("API test setup completed. Base URI: {}", RestAssured.baseURI);
     }
 
+    /**
+     * Create the default request template
+     */
+    private static RequestTemplate defaultTemplate() {
+        return RequestTemplate.empty()
+                .withContentType(ContentType.JSON)
+                .withAccept(ContentType.JSON)
+                .withHeader("User-Agent", "Automation-Framework/1.0");
+    }
+
+    /**
+     * Get the request defaults in effect for the calling thread
+     */
+    protected RequestTemplate template() {
+        RequestTemplate template = testTemplate.get();
+        return template != null ? template : classTemplate.get();
+    }
+
+    /**
+     * Create a request specification for a single call, recording its latency per endpoint
+     */
+    protected RequestSpecification requestSpec() {
+        return LatencyRecorder.attach(template().newRequest());
+    }
+
+    /**
+     * Apply a change to the request defaults
+     * Changes made in a test method or its @BeforeMethod/@AfterMethod only apply to that test,
+     * so tests running in parallel on the same instance never see each other's headers.
+     * Changes made in class or suite configuration methods apply to every test of the class
+     */
+    private void updateTemplate(UnaryOperator<RequestTemplate> change) {
+        if (isTestScoped()) {
+            testTemplate.set(change.apply(template()));
+        } else {
+            classTemplate.updateAndGet(change);
+        }
+    }
+
+    /**
+     * Check if the calling thread runs a test method or one of its per-method configurations
+     */
+    private static boolean isTestScoped() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null || result.getMethod() == null) {
+            return false;
+        }
+        ITestNGMethod method = result.getMethod();
+        return method.isTest() || method.isBeforeMethodConfiguration() || method.isAfterMethodConfiguration();
+    }
+
+    /**
+     * Drop the overrides made by the test that just finished on this thread
+     * TestNG runs this after the @AfterMethod methods of subclasses
+     */
+    @AfterMethod(alwaysRun = true)
+    public void clearTestTemplate() {
+        testTemplate.remove();
+    }
+
     /**
      * Perform GET request
      * @param endpoint API endpoint
@@ -59,8 +126,7 @@ public class APIBaseTest {
     protected Response performGet(String endpoint) {
         logger.info("Performing GET request to: {}", endpoint);
         
-        Response response = given()
-                .spec(requestSpec)
+        Response response = requestSpec()
                 .when()
                 .get(endpoint)
                 .then()
@@ -80,8 +146,7 @@ public class APIBaseTest {
     protected Response performGet(String endpoint, Map<String, Object> queryParams) {
         logger.info("Performing GET request to: {} with query params: {}", endpoint, queryParams);
         
-        Response response = given()
-                .spec(requestSpec)
+        Response response = requestSpec()
                 .queryParams(queryParams)
                 .when()
                 .get(endpoint)
@@ -100,10 +165,9 @@ public class APIBaseTest {
      * @return Response object
      */
     protected Response performPost(String endpoint, String requestBody) {
-        logger.info("Performing POST request to: {} with body: {}", endpoint, requestBody);
+        logger.info("Performing POST request to: {} with body: {}", endpoint, LogBody.of(requestBody));
         
-        Response response = given()
-                .spec(requestSpec)
+        Response response = requestSpec()
                 .body(requestBody)
                 .when()
                 .post(endpoint)
@@ -124,8 +188,7 @@ public class APIBaseTest {
     protected Response performPost(String endpoint, Object requestBody) {
         logger.info("Performing POST request to: {} with object body", endpoint);
         
-        Response response = given()
-                .spec(requestSpec)
+        Response response = requestSpec()
                 .body(requestBody)
                 .when()
                 .post(endpoint)
@@ -146,8 +209,7 @@ public class APIBaseTest {
     protected Response performPut(String endpoint, Object requestBody) {
         logger.info("Performing PUT request to: {}", endpoint);
         
-        Response response = given()
-                .spec(requestSpec)
+        Response response = requestSpec()
                 .body(requestBody)
                 .when()
                 .put(endpoint)
@@ -168,8 +230,7 @@ public class APIBaseTest {
     protected Response performPatch(String endpoint, Object requestBody) {
         logger.info("Performing PATCH request to: {}", endpoint);
         
-        Response response = given()
-                .spec(requestSpec)
+        Response response = requestSpec()
                 .body(requestBody)
                 .when()
                 .patch(endpoint)
@@ -189,8 +250,7 @@ public class APIBaseTest {
     protected Response performDelete(String endpoint) {
         logger.info("Performing DELETE request to: {}", endpoint);
         
-        Response response = given()
-                .spec(requestSpec)
+        Response response = requestSpec()
                 .when()
                 .delete(endpoint)
                 .then()
@@ -228,10 +288,7 @@ public class APIBaseTest {
      * @param token Bearer token
      */
     protected void addBearerToken(String token) {
-        requestSpec = new RequestSpecBuilder()
-                .addToRequestSpecification(requestSpec)
-                .addHeader("Authorization", "Bearer " + token)
-                .build();
+        updateTemplate(template -> template.withHeader("Authorization", "Bearer " + token));
         
         logger.debug("Bearer token added to request specification");
     }
@@ -246,10 +303,8 @@ public class APIBaseTest {
             headerName = "X-API-Key";
         }
         
-        requestSpec = new RequestSpecBuilder()
-                .addToRequestSpecification(requestSpec)
-                .addHeader(headerName, apiKey)
-                .build();
+        String name = headerName;
+        updateTemplate(template -> template.withHeader(name, apiKey));
         
         logger.debug("API key added to request specification with header: {}", headerName);
     }
@@ -260,10 +315,7 @@ public class APIBaseTest {
      * @param headerValue Header value
      */
     protected void addHeader(String headerName, String headerValue) {
-        requestSpec = new RequestSpecBuilder()
-                .addToRequestSpecification(requestSpec)
-                .addHeader(headerName, headerValue)
-                .build();
+        updateTemplate(template -> template.withHeader(headerName, headerValue));
         
         logger.debug("Custom header added: {} = {}", headerName, headerValue);
     }
@@ -273,10 +325,7 @@ public class APIBaseTest {
      * @param contentType Content type
      */
     protected void setContentType(ContentType contentType) {
-        requestSpec = new RequestSpecBuilder()
-                .addToRequestSpecification(requestSpec)
-                .setContentType(contentType)
-                .build();
+        updateTemplate(template -> template.withContentType(contentType));
         
         logger.debug("Content type set to: {}", contentType);
     }
@@ -350,18 +399,18 @@ public class APIBaseTest {
         logger.info("Response Status: {} {}", response.getStatusCode(), response.getStatusLine());
         logger.info("Response Time: {} ms", response.getTime());
         logger.debug("Response Headers: {}", response.getHeaders());
-        logger.debug("Response Body: {}", response.getBody().asString());
+        logger.debug("Response Body: {}", LogBody.of(response.getBody()));
     }
 
     /**
      * Reset request specification to default
      */
     protected void resetRequestSpec() {
-        requestSpec = new RequestSpecBuilder()
-                .setContentType(ContentType.JSON)
-                .setAccept(ContentType.JSON)
-                .addHeader("User-Agent", "Automation-Framework/1.0")
-                .build();
+        if (isTestScoped()) {
+            testTemplate.remove();
+        } else {
+            classTemplate.set(defaultTemplate());
+        }
         
         logger.debug("Request specification reset to default");
     }
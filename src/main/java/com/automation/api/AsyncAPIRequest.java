@@ -0,0 +1,496 @@
+package com.automation.api;
+
+import com.automation.core.ConfigManager;
+import com.automation.core.RequestTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous API requests on the JDK HttpClient
+ * Calls return immediately with a CompletableFuture, so a test can fan out many setup
+ * calls and join them instead of paying their latency one after another. Requests to the
+ * same host are multiplexed over one HTTP/2 connection when the server supports it and
+ * fall back to HTTP/1.1 otherwise. Responses are REST Assured Response objects, so the
+ * usual assertions and JsonPath extraction work on them.
+ * Request defaults come from an immutable RequestTemplate, an instance can be shared by
+ * any number of threads
+ */
+public class AsyncAPIRequest {
+    private static final Logger logger = LogManager.getLogger(AsyncAPIRequest.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final AtomicInteger inFlight = new AtomicInteger();
+
+    // Headers the JDK client manages itself and rejects when set by the caller
+    private static final Set<String> RESTRICTED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        RESTRICTED_HEADERS.addAll(List.of("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    private final String baseUrl;
+    private final RequestTemplate template;
+    private final Duration timeout;
+
+    /**
+     * Create a client for the configured API base URL with the same defaults as BaseAPITest
+     */
+    public AsyncAPIRequest() {
+        this(config.getAPIBaseUrl(), defaultTemplate());
+    }
+
+    /**
+     * Create a client with custom request defaults
+     * @param baseUrl Base URL prepended to relative endpoints
+     * @param template Request defaults
+     */
+    public AsyncAPIRequest(String baseUrl, RequestTemplate template) {
+        this(baseUrl, template, Duration.ofSeconds(config.getAPITimeout()));
+    }
+
+    private AsyncAPIRequest(String baseUrl, RequestTemplate template, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.template = template;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Shared client created on first use
+     */
+    private static class Holder {
+        private static final HttpClient client = createClient();
+    }
+
+    private static HttpClient createClient() {
+        HttpClient.Version version = config.isAPIAsyncHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+        logger.info("Async API client created (version: {}, connect timeout: {}s)", version, config.getAPITimeout());
+        return HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofSeconds(config.getAPITimeout()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    private static RequestTemplate defaultTemplate() {
+        RequestTemplate defaults = RequestTemplate.empty()
+                .withContentType(ContentType.JSON)
+                .withAccept(ContentType.JSON);
+        String token = config.getAPIToken();
+        if (token != null && !token.isEmpty()) {
+            defaults = defaults.withHeader("Authorization", "Bearer " + token);
+        }
+        return defaults;
+    }
+
+    /**
+     * Get a client using different request defaults
+     */
+    public AsyncAPIRequest withTemplate(RequestTemplate template) {
+        return new AsyncAPIRequest(baseUrl, template, timeout);
+    }
+
+    /**
+     * Get a client using a different request timeout
+     */
+    public AsyncAPIRequest withTimeout(int timeoutSeconds) {
+        return new AsyncAPIRequest(baseUrl, template, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    public RequestTemplate getTemplate() {
+        return template;
+    }
+
+    /**
+     * Get number of requests sent and not yet completed in this JVM
+     */
+    public static int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /**
+     * Wait for all responses, the combined future fails if any request fails
+     * @return Responses in the order of the futures
+     */
+    public static CompletableFuture<List<Response>> allOf(Collection<CompletableFuture<Response>> futures) {
+        List<CompletableFuture<Response>> pending = new ArrayList<>(futures);
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> pending.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+    }
+
+    /**
+     * GET request
+     */
+    public CompletableFuture<Response> get(String endpoint) {
+        return send("GET", endpoint, template);
+    }
+
+    /**
+     * GET request with path parameters
+     */
+    public CompletableFuture<Response> get(String endpoint, Map<String, Object> pathParams) {
+        return send("GET", endpoint, template.withPathParams(pathParams));
+    }
+
+    /**
+     * GET request with query parameters
+     */
+    public CompletableFuture<Response> getWithQueryParams(String endpoint, Map<String, Object> queryParams) {
+        return send("GET", endpoint, template.withQueryParams(queryParams));
+    }
+
+    /**
+     * GET request with headers
+     */
+    public CompletableFuture<Response> getWithHeaders(String endpoint, Map<String, String> headers) {
+        return send("GET", endpoint, template.withHeaders(headers));
+    }
+
+    /**
+     * GET request with authentication
+     */
+    public CompletableFuture<Response> getWithAuth(String endpoint, String token) {
+        return send("GET", endpoint, bearer(token));
+    }
+
+    /**
+     * GET request with basic authentication
+     */
+    public CompletableFuture<Response> getWithBasicAuth(String endpoint, String username, String password) {
+        return send("GET", endpoint, basic(username, password));
+    }
+
+    /**
+     * GET request with custom timeout
+     */
+    public CompletableFuture<Response> getWithTimeout(String endpoint, int timeoutSeconds) {
+        return withTimeout(timeoutSeconds).get(endpoint);
+    }
+
+    /**
+     * POST request with body
+     */
+    public CompletableFuture<Response> post(String endpoint, Object body) {
+        return send("POST", endpoint, template.withBody(body));
+    }
+
+    /**
+     * POST request with body and path parameters
+     */
+    public CompletableFuture<Response> post(String endpoint, Object body, Map<String, Object> pathParams) {
+        return send("POST", endpoint, template.withPathParams(pathParams).withBody(body));
+    }
+
+    /**
+     * POST request with form parameters
+     */
+    public CompletableFuture<Response> postWithFormParams(String endpoint, Map<String, String> formParams) {
+        return send("POST", endpoint, template.withContentType(ContentType.URLENC).withBody(formEncode(formParams)));
+    }
+
+    /**
+     * POST request with headers
+     */
+    public CompletableFuture<Response> postWithHeaders(String endpoint, Object body, Map<String, String> headers) {
+        return send("POST", endpoint, template.withHeaders(headers).withBody(body));
+    }
+
+    /**
+     * POST request with authentication
+     */
+    public CompletableFuture<Response> postWithAuth(String endpoint, Object body, String token) {
+        return send("POST", endpoint, bearer(token).withBody(body));
+    }
+
+    /**
+     * POST request with basic authentication
+     */
+    public CompletableFuture<Response> postWithBasicAuth(String endpoint, Object body, String username,
+                                                         String password) {
+        return send("POST", endpoint, basic(username, password).withBody(body));
+    }
+
+    /**
+     * POST request with custom content type
+     */
+    public CompletableFuture<Response> postWithContentType(String endpoint, Object body, String contentType) {
+        return send("POST", endpoint, template.withContentType(contentType).withBody(body));
+    }
+
+    /**
+     * POST request with custom timeout
+     */
+    public CompletableFuture<Response> postWithTimeout(String endpoint, Object body, int timeoutSeconds) {
+        return withTimeout(timeoutSeconds).post(endpoint, body);
+    }
+
+    /**
+     * PUT request with body
+     */
+    public CompletableFuture<Response> put(String endpoint, Object body) {
+        return send("PUT", endpoint, template.withBody(body));
+    }
+
+    /**
+     * PUT request with body and path parameters
+     */
+    public CompletableFuture<Response> put(String endpoint, Object body, Map<String, Object> pathParams) {
+        return send("PUT", endpoint, template.withPathParams(pathParams).withBody(body));
+    }
+
+    /**
+     * PUT request with headers
+     */
+    public CompletableFuture<Response> putWithHeaders(String endpoint, Object body, Map<String, String> headers) {
+        return send("PUT", endpoint, template.withHeaders(headers).withBody(body));
+    }
+
+    /**
+     * PUT request with authentication
+     */
+    public CompletableFuture<Response> putWithAuth(String endpoint, Object body, String token) {
+        return send("PUT", endpoint, bearer(token).withBody(body));
+    }
+
+    /**
+     * PUT request with basic authentication
+     */
+    public CompletableFuture<Response> putWithBasicAuth(String endpoint, Object body, String username,
+                                                        String password) {
+        return send("PUT", endpoint, basic(username, password).withBody(body));
+    }
+
+    /**
+     * PUT request with custom content type
+     */
+    public CompletableFuture<Response> putWithContentType(String endpoint, Object body, String contentType) {
+        return send("PUT", endpoint, template.withContentType(contentType).withBody(body));
+    }
+
+    /**
+     * PUT request with custom timeout
+     */
+    public CompletableFuture<Response> putWithTimeout(String endpoint, Object body, int timeoutSeconds) {
+        return withTimeout(timeoutSeconds).put(endpoint, body);
+    }
+
+    /**
+     * PATCH request with body
+     */
+    public CompletableFuture<Response> patch(String endpoint, Object body) {
+        return send("PATCH", endpoint, template.withBody(body));
+    }
+
+    /**
+     * DELETE request
+     */
+    public CompletableFuture<Response> delete(String endpoint) {
+        return send("DELETE", endpoint, template);
+    }
+
+    /**
+     * DELETE request with path parameters
+     */
+    public CompletableFuture<Response> delete(String endpoint, Map<String, Object> pathParams) {
+        return send("DELETE", endpoint, template.withPathParams(pathParams));
+    }
+
+    /**
+     * DELETE request with body
+     */
+    public CompletableFuture<Response> deleteWithBody(String endpoint, Object body) {
+        return send("DELETE", endpoint, template.withBody(body));
+    }
+
+    /**
+     * DELETE request with headers
+     */
+    public CompletableFuture<Response> deleteWithHeaders(String endpoint, Map<String, String> headers) {
+        return send("DELETE", endpoint, template.withHeaders(headers));
+    }
+
+    /**
+     * DELETE request with authentication
+     */
+    public CompletableFuture<Response> deleteWithAuth(String endpoint, String token) {
+        return send("DELETE", endpoint, bearer(token));
+    }
+
+    /**
+     * DELETE request with basic authentication
+     */
+    public CompletableFuture<Response> deleteWithBasicAuth(String endpoint, String username, String password) {
+        return send("DELETE", endpoint, basic(username, password));
+    }
+
+    /**
+     * DELETE request with custom timeout
+     */
+    public CompletableFuture<Response> deleteWithTimeout(String endpoint, int timeoutSeconds) {
+        return withTimeout(timeoutSeconds).delete(endpoint);
+    }
+
+    /**
+     * Send a request built from a template
+     * @param method HTTP method
+     * @param endpoint Endpoint relative to the base URL, or an absolute URL
+     * @param request Request defaults, path parameters are substituted into {name} placeholders
+     */
+    public CompletableFuture<Response> send(String method, String endpoint, RequestTemplate request) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = buildRequest(method, endpoint, request);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        logger.info("Sending async {} request to: {}", method, httpRequest.uri());
+        long startTime = System.nanoTime();
+        inFlight.incrementAndGet();
+        return Holder.client.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    if (error != null) {
+                        logger.error("Async {} request to {} failed", method, httpRequest.uri(), error);
+                    } else {
+                        logger.debug("Async {} request to {} completed with status {} in {} ms ({})", method,
+                                httpRequest.uri(), response.statusCode(),
+                                (System.nanoTime() - startTime) / 1_000_000, response.version());
+                    }
+                })
+                .thenApply(AsyncAPIRequest::toResponse);
+    }
+
+    private HttpRequest buildRequest(String method, String endpoint, RequestTemplate request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(resolve(endpoint, request)).timeout(timeout);
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (RESTRICTED_HEADERS.contains(header.getKey())) {
+                logger.debug("Header {} is managed by the HTTP client and not sent", header.getKey());
+            } else {
+                builder.header(header.getKey(), header.getValue());
+            }
+        }
+        if (request.getAccept() != null) {
+            builder.setHeader("Accept", request.getAccept());
+        }
+
+        Object body = request.getBody();
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        if (request.getContentType() != null) {
+            builder.setHeader("Content-Type", request.getContentType());
+        }
+        return builder.method(method, publisher(body)).build();
+    }
+
+    /**
+     * Build the request URI from the base URL, path parameters and query parameters
+     */
+    private URI resolve(String endpoint, RequestTemplate request) {
+        String path = endpoint;
+        for (Map.Entry<String, Object> param : request.getPathParams().entrySet()) {
+            path = path.replace("{" + param.getKey() + "}", encode(String.valueOf(param.getValue())).replace("+", "%20"));
+        }
+        StringBuilder uri = new StringBuilder();
+        if (path.startsWith("http://") || path.startsWith("https://")) {
+            uri.append(path);
+        } else {
+            uri.append(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl);
+            uri.append(path.startsWith("/") ? path : "/" + path);
+        }
+
+        char separator = uri.indexOf("?") >= 0 ? '&' : '?';
+        for (Map.Entry<String, Object> param : request.getQueryParams().entrySet()) {
+            uri.append(separator).append(encode(param.getKey())).append('=')
+                    .append(encode(String.valueOf(param.getValue())));
+            separator = '&';
+        }
+        return URI.create(uri.toString());
+    }
+
+    private static HttpRequest.BodyPublisher publisher(Object body) {
+        if (body instanceof String) {
+            return HttpRequest.BodyPublishers.ofString((String) body);
+        }
+        if (body instanceof byte[]) {
+            return HttpRequest.BodyPublishers.ofByteArray((byte[]) body);
+        }
+        if (body instanceof File) {
+            try {
+                return HttpRequest.BodyPublishers.ofFile(((File) body).toPath());
+            } catch (FileNotFoundException e) {
+                throw new RuntimeException("Request body file not found: " + body, e);
+            }
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize request body", e);
+        }
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> httpResponse) {
+        List<Header> headers = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) -> {
+            for (String value : values) {
+                headers.add(new Header(name, value));
+            }
+        });
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine((httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2 " : "HTTP/1.1 ")
+                        + httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(httpResponse.body());
+        httpResponse.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private RequestTemplate bearer(String token) {
+        return template.withHeader("Authorization", "Bearer " + token);
+    }
+
+    private RequestTemplate basic(String username, String password) {
+        String credentials = Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        return template.withHeader("Authorization", "Basic " + credentials);
+    }
+
+    private static String formEncode(Map<String, String> formParams) {
+        return formParams.entrySet().stream()
+                .map(param -> encode(param.getKey()) + "=" + encode(param.getValue()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
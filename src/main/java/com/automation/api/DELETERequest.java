@@ -1,6 +1,8 @@
 package com.automation.api;
 
 import com.automation.core.BaseAPITest;
+import com.automation.core.HttpClientPool;
+import com.automation.core.LogBody;
 import io.restassured.response.Response;
 
 import org.apache.logging.log4j.LogManager;
@@ -35,8 +37,8 @@ public class DELETERequest extends BaseAPITest {
      * DELETE request with body
      */
     public Response deleteWithBody(String endpoint, Object body) {
-        logger.info("Making DELETE request to: {} with body: {}", endpoint, body);
-        return requestSpec.body(body).when().delete(endpoint);
+        logger.info("Making DELETE request to: {} with body: {}", endpoint, LogBody.of(body));
+        return requestSpec().body(body).when().delete(endpoint);
     }
 
     /**
@@ -44,8 +46,8 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithBody(String endpoint, Object body, Map<String, Object> pathParams) {
         logger.info("Making DELETE request to: {} with body: {} and path params: {}", 
-                   endpoint, body, pathParams);
-        return requestSpec.body(body).pathParams(pathParams).when().delete(endpoint);
+                   endpoint, LogBody.of(body), pathParams);
+        return requestSpec().body(body).pathParams(pathParams).when().delete(endpoint);
     }
 
     /**
@@ -53,7 +55,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithHeaders(String endpoint, Map<String, String> headers) {
         logger.info("Making DELETE request to: {} with headers: {}", endpoint, headers);
-        return requestSpec.headers(headers).when().delete(endpoint);
+        return requestSpec().headers(headers).when().delete(endpoint);
     }
 
     /**
@@ -61,7 +63,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithBodyAndHeaders(String endpoint, Object body, Map<String, String> headers) {
         logger.info("Making DELETE request to: {} with body and headers: {}", endpoint, headers);
-        return requestSpec.headers(headers).body(body).when().delete(endpoint);
+        return requestSpec().headers(headers).body(body).when().delete(endpoint);
     }
 
     /**
@@ -69,7 +71,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithAuth(String endpoint, String token) {
         logger.info("Making DELETE request to: {} with authentication", endpoint);
-        return requestSpec.header("Authorization", "Bearer " + token)
+        return requestSpec().header("Authorization", "Bearer " + token)
                          .when()
                          .delete(endpoint);
     }
@@ -79,7 +81,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithAuth(String endpoint, Object body, String token) {
         logger.info("Making DELETE request to: {} with body and authentication", endpoint);
-        return requestSpec.header("Authorization", "Bearer " + token)
+        return requestSpec().header("Authorization", "Bearer " + token)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -90,7 +92,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithBasicAuth(String endpoint, String username, String password) {
         logger.info("Making DELETE request to: {} with basic authentication", endpoint);
-        return requestSpec.auth().basic(username, password)
+        return requestSpec().auth().basic(username, password)
                          .when()
                          .delete(endpoint);
     }
@@ -100,7 +102,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithBasicAuth(String endpoint, Object body, String username, String password) {
         logger.info("Making DELETE request to: {} with body and basic authentication", endpoint);
-        return requestSpec.auth().basic(username, password)
+        return requestSpec().auth().basic(username, password)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -111,7 +113,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithContentType(String endpoint, String contentType) {
         logger.info("Making DELETE request to: {} with content type: {}", endpoint, contentType);
-        return requestSpec.contentType(contentType)
+        return requestSpec().contentType(contentType)
                          .when()
                          .delete(endpoint);
     }
@@ -121,7 +123,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithContentType(String endpoint, Object body, String contentType) {
         logger.info("Making DELETE request to: {} with body and content type: {}", endpoint, contentType);
-        return requestSpec.contentType(contentType)
+        return requestSpec().contentType(contentType)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -132,7 +134,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithTimeout(String endpoint, int timeoutSeconds) {
         logger.info("Making DELETE request to: {} with timeout: {} seconds", endpoint, timeoutSeconds);
-        return requestSpec.timeout(java.time.Duration.ofSeconds(timeoutSeconds))
+        return requestSpec().config(HttpClientPool.config(timeoutSeconds))
                          .when()
                          .delete(endpoint);
     }
@@ -142,7 +144,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithTimeout(String endpoint, Object body, int timeoutSeconds) {
         logger.info("Making DELETE request to: {} with body and timeout: {} seconds", endpoint, timeoutSeconds);
-        return requestSpec.timeout(java.time.Duration.ofSeconds(timeoutSeconds))
+        return requestSpec().config(HttpClientPool.config(timeoutSeconds))
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -153,7 +155,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithCookies(String endpoint, Map<String, String> cookies) {
         logger.info("Making DELETE request to: {} with cookies: {}", endpoint, cookies);
-        return requestSpec.cookies(cookies)
+        return requestSpec().cookies(cookies)
                          .when()
                          .delete(endpoint);
     }
@@ -163,7 +165,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithCookies(String endpoint, Object body, Map<String, String> cookies) {
         logger.info("Making DELETE request to: {} with body and cookies: {}", endpoint, cookies);
-        return requestSpec.cookies(cookies)
+        return requestSpec().cookies(cookies)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -174,7 +176,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithSession(String endpoint, String sessionId) {
         logger.info("Making DELETE request to: {} with session: {}", endpoint, sessionId);
-        return requestSpec.sessionId(sessionId)
+        return requestSpec().sessionId(sessionId)
                          .when()
                          .delete(endpoint);
     }
@@ -184,7 +186,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithSession(String endpoint, Object body, String sessionId) {
         logger.info("Making DELETE request to: {} with body and session: {}", endpoint, sessionId);
-        return requestSpec.sessionId(sessionId)
+        return requestSpec().sessionId(sessionId)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -195,7 +197,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithProxy(String endpoint, String host, int port) {
         logger.info("Making DELETE request to: {} with proxy: {}:{}", endpoint, host, port);
-        return requestSpec.proxy(host, port)
+        return requestSpec().proxy(host, port)
                          .when()
                          .delete(endpoint);
     }
@@ -205,7 +207,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithProxy(String endpoint, Object body, String host, int port) {
         logger.info("Making DELETE request to: {} with body and proxy: {}:{}", endpoint, host, port);
-        return requestSpec.proxy(host, port)
+        return requestSpec().proxy(host, port)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -216,7 +218,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithRelaxedHTTPS(String endpoint) {
         logger.info("Making DELETE request to: {} with relaxed HTTPS validation", endpoint);
-        return requestSpec.relaxedHTTPSValidation()
+        return requestSpec().relaxedHTTPSValidation()
                          .when()
                          .delete(endpoint);
     }
@@ -226,7 +228,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithRelaxedHTTPS(String endpoint, Object body) {
         logger.info("Making DELETE request to: {} with body and relaxed HTTPS validation", endpoint);
-        return requestSpec.relaxedHTTPSValidation()
+        return requestSpec().relaxedHTTPSValidation()
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -237,7 +239,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithUserAgent(String endpoint, String userAgent) {
         logger.info("Making DELETE request to: {} with user agent: {}", endpoint, userAgent);
-        return requestSpec.header("User-Agent", userAgent)
+        return requestSpec().header("User-Agent", userAgent)
                          .when()
                          .delete(endpoint);
     }
@@ -247,7 +249,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithUserAgent(String endpoint, Object body, String userAgent) {
         logger.info("Making DELETE request to: {} with body and user agent: {}", endpoint, userAgent);
-        return requestSpec.header("User-Agent", userAgent)
+        return requestSpec().header("User-Agent", userAgent)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -258,7 +260,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithReferer(String endpoint, String referer) {
         logger.info("Making DELETE request to: {} with referer: {}", endpoint, referer);
-        return requestSpec.header("Referer", referer)
+        return requestSpec().header("Referer", referer)
                          .when()
                          .delete(endpoint);
     }
@@ -268,7 +270,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithReferer(String endpoint, Object body, String referer) {
         logger.info("Making DELETE request to: {} with body and referer: {}", endpoint, referer);
-        return requestSpec.header("Referer", referer)
+        return requestSpec().header("Referer", referer)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -279,7 +281,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithOrigin(String endpoint, String origin) {
         logger.info("Making DELETE request to: {} with origin: {}", endpoint, origin);
-        return requestSpec.header("Origin", origin)
+        return requestSpec().header("Origin", origin)
                          .when()
                          .delete(endpoint);
     }
@@ -289,7 +291,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithOrigin(String endpoint, Object body, String origin) {
         logger.info("Making DELETE request to: {} with body and origin: {}", endpoint, origin);
-        return requestSpec.header("Origin", origin)
+        return requestSpec().header("Origin", origin)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -300,7 +302,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithIfMatch(String endpoint, String etag) {
         logger.info("Making DELETE request to: {} with if match: {}", endpoint, etag);
-        return requestSpec.header("If-Match", etag)
+        return requestSpec().header("If-Match", etag)
                          .when()
                          .delete(endpoint);
     }
@@ -310,7 +312,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithIfMatch(String endpoint, Object body, String etag) {
         logger.info("Making DELETE request to: {} with body and if match: {}", endpoint, etag);
-        return requestSpec.header("If-Match", etag)
+        return requestSpec().header("If-Match", etag)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -321,7 +323,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithIfNoneMatch(String endpoint, String etag) {
         logger.info("Making DELETE request to: {} with if none match: {}", endpoint, etag);
-        return requestSpec.header("If-None-Match", etag)
+        return requestSpec().header("If-None-Match", etag)
                          .when()
                          .delete(endpoint);
     }
@@ -331,7 +333,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithIfNoneMatch(String endpoint, Object body, String etag) {
         logger.info("Making DELETE request to: {} with body and if none match: {}", endpoint, etag);
-        return requestSpec.header("If-None-Match", etag)
+        return requestSpec().header("If-None-Match", etag)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -342,7 +344,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithIfModifiedSince(String endpoint, String date) {
         logger.info("Making DELETE request to: {} with if modified since: {}", endpoint, date);
-        return requestSpec.header("If-Modified-Since", date)
+        return requestSpec().header("If-Modified-Since", date)
                          .when()
                          .delete(endpoint);
     }
@@ -352,7 +354,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithIfModifiedSince(String endpoint, Object body, String date) {
         logger.info("Making DELETE request to: {} with body and if modified since: {}", endpoint, date);
-        return requestSpec.header("If-Modified-Since", date)
+        return requestSpec().header("If-Modified-Since", date)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -363,7 +365,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithIfUnmodifiedSince(String endpoint, String date) {
         logger.info("Making DELETE request to: {} with if unmodified since: {}", endpoint, date);
-        return requestSpec.header("If-Unmodified-Since", date)
+        return requestSpec().header("If-Unmodified-Since", date)
                          .when()
                          .delete(endpoint);
     }
@@ -373,7 +375,7 @@ public class DELETERequest extends BaseAPITest {
      */
     public Response deleteWithIfUnmodifiedSince(String endpoint, Object body, String date) {
         logger.info("Making DELETE request to: {} with body and if unmodified since: {}", endpoint, date);
-        return requestSpec.header("If-Unmodified-Since", date)
+        return requestSpec().header("If-Unmodified-Since", date)
                          .body(body)
                          .when()
                          .delete(endpoint);
@@ -1,6 +1,7 @@
 package com.automation.api;
 
 import com.automation.core.BaseAPITest;
+import com.automation.core.HttpClientPool;
 import io.restassured.response.Response;
 
 import org.apache.logging.log4j.LogManager;
@@ -45,7 +46,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithQueryParams(String endpoint, Map<String, Object> queryParams) {
         logger.info("Making GET request to: {} with query params: {}", endpoint, queryParams);
-        return requestSpec.queryParams(queryParams).when().get(endpoint);
+        return requestSpec().queryParams(queryParams).when().get(endpoint);
     }
 
     /**
@@ -53,7 +54,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithHeaders(String endpoint, Map<String, String> headers) {
         logger.info("Making GET request to: {} with headers: {}", endpoint, headers);
-        return requestSpec.headers(headers).when().get(endpoint);
+        return requestSpec().headers(headers).when().get(endpoint);
     }
 
     /**
@@ -61,7 +62,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithTimeout(String endpoint, int timeoutSeconds) {
         logger.info("Making GET request to: {} with timeout: {} seconds", endpoint, timeoutSeconds);
-        return requestSpec.timeout(java.time.Duration.ofSeconds(timeoutSeconds))
+        return requestSpec().config(HttpClientPool.config(timeoutSeconds))
                          .when()
                          .get(endpoint);
     }
@@ -71,7 +72,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithAuth(String endpoint, String token) {
         logger.info("Making GET request to: {} with authentication", endpoint);
-        return requestSpec.header("Authorization", "Bearer " + token)
+        return requestSpec().header("Authorization", "Bearer " + token)
                          .when()
                          .get(endpoint);
     }
@@ -81,7 +82,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithBasicAuth(String endpoint, String username, String password) {
         logger.info("Making GET request to: {} with basic authentication", endpoint);
-        return requestSpec.auth().basic(username, password)
+        return requestSpec().auth().basic(username, password)
                          .when()
                          .get(endpoint);
     }
@@ -91,7 +92,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithDigestAuth(String endpoint, String username, String password) {
         logger.info("Making GET request to: {} with digest authentication", endpoint);
-        return requestSpec.auth().digest(username, password)
+        return requestSpec().auth().digest(username, password)
                          .when()
                          .get(endpoint);
     }
@@ -101,7 +102,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithPreemptiveAuth(String endpoint, String username, String password) {
         logger.info("Making GET request to: {} with preemptive authentication", endpoint);
-        return requestSpec.auth().preemptive().basic(username, password)
+        return requestSpec().auth().preemptive().basic(username, password)
                          .when()
                          .get(endpoint);
     }
@@ -111,7 +112,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithFormParams(String endpoint, Map<String, String> formParams) {
         logger.info("Making GET request to: {} with form params: {}", endpoint, formParams);
-        return requestSpec.formParams(formParams)
+        return requestSpec().formParams(formParams)
                          .when()
                          .get(endpoint);
     }
@@ -121,7 +122,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithMultipart(String endpoint, String controlName, String filePath) {
         logger.info("Making GET request to: {} with multipart file: {}", endpoint, filePath);
-        return requestSpec.multiPart(controlName, new java.io.File(filePath))
+        return requestSpec().multiPart(controlName, new java.io.File(filePath))
                          .when()
                          .get(endpoint);
     }
@@ -131,7 +132,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithCookies(String endpoint, Map<String, String> cookies) {
         logger.info("Making GET request to: {} with cookies: {}", endpoint, cookies);
-        return requestSpec.cookies(cookies)
+        return requestSpec().cookies(cookies)
                          .when()
                          .get(endpoint);
     }
@@ -141,7 +142,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithSession(String endpoint, String sessionId) {
         logger.info("Making GET request to: {} with session: {}", endpoint, sessionId);
-        return requestSpec.sessionId(sessionId)
+        return requestSpec().sessionId(sessionId)
                          .when()
                          .get(endpoint);
     }
@@ -151,7 +152,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithProxy(String endpoint, String host, int port) {
         logger.info("Making GET request to: {} with proxy: {}:{}", endpoint, host, port);
-        return requestSpec.proxy(host, port)
+        return requestSpec().proxy(host, port)
                          .when()
                          .get(endpoint);
     }
@@ -161,7 +162,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithSSL(String endpoint, String keystorePath, String keystorePassword) {
         logger.info("Making GET request to: {} with SSL keystore", endpoint);
-        return requestSpec.keystore(keystorePath, keystorePassword)
+        return requestSpec().keystore(keystorePath, keystorePassword)
                          .when()
                          .get(endpoint);
     }
@@ -171,7 +172,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithRelaxedHTTPS(String endpoint) {
         logger.info("Making GET request to: {} with relaxed HTTPS validation", endpoint);
-        return requestSpec.relaxedHTTPSValidation()
+        return requestSpec().relaxedHTTPSValidation()
                          .when()
                          .get(endpoint);
     }
@@ -181,7 +182,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithContentType(String endpoint, String contentType) {
         logger.info("Making GET request to: {} with content type: {}", endpoint, contentType);
-        return requestSpec.contentType(contentType)
+        return requestSpec().contentType(contentType)
                          .when()
                          .get(endpoint);
     }
@@ -191,7 +192,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithAccept(String endpoint, String acceptType) {
         logger.info("Making GET request to: {} with accept: {}", endpoint, acceptType);
-        return requestSpec.accept(acceptType)
+        return requestSpec().accept(acceptType)
                          .when()
                          .get(endpoint);
     }
@@ -201,7 +202,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithUserAgent(String endpoint, String userAgent) {
         logger.info("Making GET request to: {} with user agent: {}", endpoint, userAgent);
-        return requestSpec.header("User-Agent", userAgent)
+        return requestSpec().header("User-Agent", userAgent)
                          .when()
                          .get(endpoint);
     }
@@ -211,7 +212,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithReferer(String endpoint, String referer) {
         logger.info("Making GET request to: {} with referer: {}", endpoint, referer);
-        return requestSpec.header("Referer", referer)
+        return requestSpec().header("Referer", referer)
                          .when()
                          .get(endpoint);
     }
@@ -221,7 +222,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithOrigin(String endpoint, String origin) {
         logger.info("Making GET request to: {} with origin: {}", endpoint, origin);
-        return requestSpec.header("Origin", origin)
+        return requestSpec().header("Origin", origin)
                          .when()
                          .get(endpoint);
     }
@@ -231,7 +232,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithCacheControl(String endpoint, String cacheControl) {
         logger.info("Making GET request to: {} with cache control: {}", endpoint, cacheControl);
-        return requestSpec.header("Cache-Control", cacheControl)
+        return requestSpec().header("Cache-Control", cacheControl)
                          .when()
                          .get(endpoint);
     }
@@ -241,7 +242,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithIfNoneMatch(String endpoint, String etag) {
         logger.info("Making GET request to: {} with if-none-match: {}", endpoint, etag);
-        return requestSpec.header("If-None-Match", etag)
+        return requestSpec().header("If-None-Match", etag)
                          .when()
                          .get(endpoint);
     }
@@ -251,7 +252,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithIfModifiedSince(String endpoint, String date) {
         logger.info("Making GET request to: {} with if-modified-since: {}", endpoint, date);
-        return requestSpec.header("If-Modified-Since", date)
+        return requestSpec().header("If-Modified-Since", date)
                          .when()
                          .get(endpoint);
     }
@@ -261,7 +262,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithRange(String endpoint, String range) {
         logger.info("Making GET request to: {} with range: {}", endpoint, range);
-        return requestSpec.header("Range", range)
+        return requestSpec().header("Range", range)
                          .when()
                          .get(endpoint);
     }
@@ -271,7 +272,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithAcceptEncoding(String endpoint, String encoding) {
         logger.info("Making GET request to: {} with accept encoding: {}", endpoint, encoding);
-        return requestSpec.header("Accept-Encoding", encoding)
+        return requestSpec().header("Accept-Encoding", encoding)
                          .when()
                          .get(endpoint);
     }
@@ -281,7 +282,7 @@ public class GETRequest extends BaseAPITest {
      */
     public Response getWithAcceptLanguage(String endpoint, String language) {
         logger.info("Making GET request to: {} with accept language: {}", endpoint, language);
-        return requestSpec.header("Accept-Language", language)
+        return requestSpec().header("Accept-Language", language)
                          .when()
                          .get(endpoint);
     }
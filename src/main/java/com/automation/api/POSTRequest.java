@@ -1,6 +1,8 @@
 package com.automation.api;
 
 import com.automation.core.BaseAPITest;
+import com.automation.core.HttpClientPool;
+import com.automation.core.LogBody;
 import io.restassured.response.Response;
 
 import org.apache.logging.log4j.LogManager;
@@ -19,7 +21,7 @@ public class POSTRequest extends BaseAPITest {
      * POST request with body
      */
     public Response post(String endpoint, Object body) {
-        logger.info("Making POST request to: {} with body: {}", endpoint, body);
+        logger.info("Making POST request to: {} with body: {}", endpoint, LogBody.of(body));
         return super.post(endpoint, body);
     }
 
@@ -28,7 +30,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response post(String endpoint, Object body, Map<String, Object> pathParams) {
         logger.info("Making POST request to: {} with body: {} and path params: {}", 
-                   endpoint, body, pathParams);
+                   endpoint, LogBody.of(body), pathParams);
         return super.post(endpoint, body, pathParams);
     }
 
@@ -37,7 +39,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithFormParams(String endpoint, Map<String, String> formParams) {
         logger.info("Making POST request to: {} with form params: {}", endpoint, formParams);
-        return requestSpec.formParams(formParams).when().post(endpoint);
+        return requestSpec().formParams(formParams).when().post(endpoint);
     }
 
     /**
@@ -45,7 +47,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithMultipart(String endpoint, String controlName, String filePath) {
         logger.info("Making POST request to: {} with multipart file: {}", endpoint, filePath);
-        return requestSpec.multiPart(controlName, new java.io.File(filePath))
+        return requestSpec().multiPart(controlName, new java.io.File(filePath))
                          .when()
                          .post(endpoint);
     }
@@ -55,10 +57,11 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithMultipleFiles(String endpoint, Map<String, String> files) {
         logger.info("Making POST request to: {} with multiple files: {}", endpoint, files);
+        io.restassured.specification.RequestSpecification request = requestSpec();
         for (Map.Entry<String, String> entry : files.entrySet()) {
-            requestSpec.multiPart(entry.getKey(), new java.io.File(entry.getValue()));
+            request.multiPart(entry.getKey(), new java.io.File(entry.getValue()));
         }
-        return requestSpec.when().post(endpoint);
+        return request.when().post(endpoint);
     }
 
     /**
@@ -66,7 +69,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithHeaders(String endpoint, Object body, Map<String, String> headers) {
         logger.info("Making POST request to: {} with headers: {}", endpoint, headers);
-        return requestSpec.headers(headers).body(body).when().post(endpoint);
+        return requestSpec().headers(headers).body(body).when().post(endpoint);
     }
 
     /**
@@ -74,7 +77,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithAuth(String endpoint, Object body, String token) {
         logger.info("Making POST request to: {} with authentication", endpoint);
-        return requestSpec.header("Authorization", "Bearer " + token)
+        return requestSpec().header("Authorization", "Bearer " + token)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -85,7 +88,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithBasicAuth(String endpoint, Object body, String username, String password) {
         logger.info("Making POST request to: {} with basic authentication", endpoint);
-        return requestSpec.auth().basic(username, password)
+        return requestSpec().auth().basic(username, password)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -96,7 +99,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithContentType(String endpoint, Object body, String contentType) {
         logger.info("Making POST request to: {} with content type: {}", endpoint, contentType);
-        return requestSpec.contentType(contentType)
+        return requestSpec().contentType(contentType)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -107,7 +110,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithTimeout(String endpoint, Object body, int timeoutSeconds) {
         logger.info("Making POST request to: {} with timeout: {} seconds", endpoint, timeoutSeconds);
-        return requestSpec.timeout(java.time.Duration.ofSeconds(timeoutSeconds))
+        return requestSpec().config(HttpClientPool.config(timeoutSeconds))
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -118,7 +121,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithCookies(String endpoint, Object body, Map<String, String> cookies) {
         logger.info("Making POST request to: {} with cookies: {}", endpoint, cookies);
-        return requestSpec.cookies(cookies)
+        return requestSpec().cookies(cookies)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -129,7 +132,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithSession(String endpoint, Object body, String sessionId) {
         logger.info("Making POST request to: {} with session: {}", endpoint, sessionId);
-        return requestSpec.sessionId(sessionId)
+        return requestSpec().sessionId(sessionId)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -140,7 +143,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithProxy(String endpoint, Object body, String host, int port) {
         logger.info("Making POST request to: {} with proxy: {}:{}", endpoint, host, port);
-        return requestSpec.proxy(host, port)
+        return requestSpec().proxy(host, port)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -151,7 +154,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithRelaxedHTTPS(String endpoint, Object body) {
         logger.info("Making POST request to: {} with relaxed HTTPS validation", endpoint);
-        return requestSpec.relaxedHTTPSValidation()
+        return requestSpec().relaxedHTTPSValidation()
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -162,7 +165,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithUserAgent(String endpoint, Object body, String userAgent) {
         logger.info("Making POST request to: {} with user agent: {}", endpoint, userAgent);
-        return requestSpec.header("User-Agent", userAgent)
+        return requestSpec().header("User-Agent", userAgent)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -173,7 +176,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithReferer(String endpoint, Object body, String referer) {
         logger.info("Making POST request to: {} with referer: {}", endpoint, referer);
-        return requestSpec.header("Referer", referer)
+        return requestSpec().header("Referer", referer)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -184,7 +187,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithOrigin(String endpoint, Object body, String origin) {
         logger.info("Making POST request to: {} with origin: {}", endpoint, origin);
-        return requestSpec.header("Origin", origin)
+        return requestSpec().header("Origin", origin)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -195,7 +198,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithContentLength(String endpoint, Object body, int contentLength) {
         logger.info("Making POST request to: {} with content length: {}", endpoint, contentLength);
-        return requestSpec.header("Content-Length", String.valueOf(contentLength))
+        return requestSpec().header("Content-Length", String.valueOf(contentLength))
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -206,7 +209,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithExpect(String endpoint, Object body, String expect) {
         logger.info("Making POST request to: {} with expect: {}", endpoint, expect);
-        return requestSpec.header("Expect", expect)
+        return requestSpec().header("Expect", expect)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -217,7 +220,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithTransferEncoding(String endpoint, Object body, String encoding) {
         logger.info("Making POST request to: {} with transfer encoding: {}", endpoint, encoding);
-        return requestSpec.header("Transfer-Encoding", encoding)
+        return requestSpec().header("Transfer-Encoding", encoding)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -228,7 +231,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithContentEncoding(String endpoint, Object body, String encoding) {
         logger.info("Making POST request to: {} with content encoding: {}", endpoint, encoding);
-        return requestSpec.header("Content-Encoding", encoding)
+        return requestSpec().header("Content-Encoding", encoding)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -239,7 +242,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithContentLanguage(String endpoint, Object body, String language) {
         logger.info("Making POST request to: {} with content language: {}", endpoint, language);
-        return requestSpec.header("Content-Language", language)
+        return requestSpec().header("Content-Language", language)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -250,7 +253,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithContentDisposition(String endpoint, Object body, String disposition) {
         logger.info("Making POST request to: {} with content disposition: {}", endpoint, disposition);
-        return requestSpec.header("Content-Disposition", disposition)
+        return requestSpec().header("Content-Disposition", disposition)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -261,7 +264,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithContentRange(String endpoint, Object body, String range) {
         logger.info("Making POST request to: {} with content range: {}", endpoint, range);
-        return requestSpec.header("Content-Range", range)
+        return requestSpec().header("Content-Range", range)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -272,7 +275,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithIfMatch(String endpoint, Object body, String etag) {
         logger.info("Making POST request to: {} with if match: {}", endpoint, etag);
-        return requestSpec.header("If-Match", etag)
+        return requestSpec().header("If-Match", etag)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -283,7 +286,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithIfNoneMatch(String endpoint, Object body, String etag) {
         logger.info("Making POST request to: {} with if none match: {}", endpoint, etag);
-        return requestSpec.header("If-None-Match", etag)
+        return requestSpec().header("If-None-Match", etag)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -294,7 +297,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithIfModifiedSince(String endpoint, Object body, String date) {
         logger.info("Making POST request to: {} with if modified since: {}", endpoint, date);
-        return requestSpec.header("If-Modified-Since", date)
+        return requestSpec().header("If-Modified-Since", date)
                          .body(body)
                          .when()
                          .post(endpoint);
@@ -305,7 +308,7 @@ public class POSTRequest extends BaseAPITest {
      */
     public Response postWithIfUnmodifiedSince(String endpoint, Object body, String date) {
         logger.info("Making POST request to: {} with if unmodified since: {}", endpoint, date);
-        return requestSpec.header("If-Unmodified-Since", date)
+        return requestSpec().header("If-Unmodified-Since", date)
                          .body(body)
                          .when()
                          .post(endpoint);
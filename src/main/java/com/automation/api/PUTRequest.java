@@ -1,6 +1,8 @@
 package com.automation.api;
 
 import com.automation.core.BaseAPITest;
+import com.automation.core.HttpClientPool;
+import com.automation.core.LogBody;
 import io.restassured.response.Response;
 
 import org.apache.logging.log4j.LogManager;
@@ -19,7 +21,7 @@ public class PUTRequest extends BaseAPITest {
      * PUT request with body
      */
     public Response put(String endpoint, Object body) {
-        logger.info("Making PUT request to: {} with body: {}", endpoint, body);
+        logger.info("Making PUT request to: {} with body: {}", endpoint, LogBody.of(body));
         return super.put(endpoint, body);
     }
 
@@ -28,7 +30,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response put(String endpoint, Object body, Map<String, Object> pathParams) {
         logger.info("Making PUT request to: {} with body: {} and path params: {}", 
-                   endpoint, body, pathParams);
+                   endpoint, LogBody.of(body), pathParams);
         return super.put(endpoint, body, pathParams);
     }
 
@@ -37,7 +39,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithHeaders(String endpoint, Object body, Map<String, String> headers) {
         logger.info("Making PUT request to: {} with headers: {}", endpoint, headers);
-        return requestSpec.headers(headers).body(body).when().put(endpoint);
+        return requestSpec().headers(headers).body(body).when().put(endpoint);
     }
 
     /**
@@ -45,7 +47,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithAuth(String endpoint, Object body, String token) {
         logger.info("Making PUT request to: {} with authentication", endpoint);
-        return requestSpec.header("Authorization", "Bearer " + token)
+        return requestSpec().header("Authorization", "Bearer " + token)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -56,7 +58,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithBasicAuth(String endpoint, Object body, String username, String password) {
         logger.info("Making PUT request to: {} with basic authentication", endpoint);
-        return requestSpec.auth().basic(username, password)
+        return requestSpec().auth().basic(username, password)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -67,7 +69,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithContentType(String endpoint, Object body, String contentType) {
         logger.info("Making PUT request to: {} with content type: {}", endpoint, contentType);
-        return requestSpec.contentType(contentType)
+        return requestSpec().contentType(contentType)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -78,7 +80,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithTimeout(String endpoint, Object body, int timeoutSeconds) {
         logger.info("Making PUT request to: {} with timeout: {} seconds", endpoint, timeoutSeconds);
-        return requestSpec.timeout(java.time.Duration.ofSeconds(timeoutSeconds))
+        return requestSpec().config(HttpClientPool.config(timeoutSeconds))
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -89,7 +91,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithCookies(String endpoint, Object body, Map<String, String> cookies) {
         logger.info("Making PUT request to: {} with cookies: {}", endpoint, cookies);
-        return requestSpec.cookies(cookies)
+        return requestSpec().cookies(cookies)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -100,7 +102,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithSession(String endpoint, Object body, String sessionId) {
         logger.info("Making PUT request to: {} with session: {}", endpoint, sessionId);
-        return requestSpec.sessionId(sessionId)
+        return requestSpec().sessionId(sessionId)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -111,7 +113,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithProxy(String endpoint, Object body, String host, int port) {
         logger.info("Making PUT request to: {} with proxy: {}:{}", endpoint, host, port);
-        return requestSpec.proxy(host, port)
+        return requestSpec().proxy(host, port)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -122,7 +124,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithRelaxedHTTPS(String endpoint, Object body) {
         logger.info("Making PUT request to: {} with relaxed HTTPS validation", endpoint);
-        return requestSpec.relaxedHTTPSValidation()
+        return requestSpec().relaxedHTTPSValidation()
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -133,7 +135,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithUserAgent(String endpoint, Object body, String userAgent) {
         logger.info("Making PUT request to: {} with user agent: {}", endpoint, userAgent);
-        return requestSpec.header("User-Agent", userAgent)
+        return requestSpec().header("User-Agent", userAgent)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -144,7 +146,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithReferer(String endpoint, Object body, String referer) {
         logger.info("Making PUT request to: {} with referer: {}", endpoint, referer);
-        return requestSpec.header("Referer", referer)
+        return requestSpec().header("Referer", referer)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -155,7 +157,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithOrigin(String endpoint, Object body, String origin) {
         logger.info("Making PUT request to: {} with origin: {}", endpoint, origin);
-        return requestSpec.header("Origin", origin)
+        return requestSpec().header("Origin", origin)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -166,7 +168,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithContentLength(String endpoint, Object body, int contentLength) {
         logger.info("Making PUT request to: {} with content length: {}", endpoint, contentLength);
-        return requestSpec.header("Content-Length", String.valueOf(contentLength))
+        return requestSpec().header("Content-Length", String.valueOf(contentLength))
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -177,7 +179,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithExpect(String endpoint, Object body, String expect) {
         logger.info("Making PUT request to: {} with expect: {}", endpoint, expect);
-        return requestSpec.header("Expect", expect)
+        return requestSpec().header("Expect", expect)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -188,7 +190,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithTransferEncoding(String endpoint, Object body, String encoding) {
         logger.info("Making PUT request to: {} with transfer encoding: {}", endpoint, encoding);
-        return requestSpec.header("Transfer-Encoding", encoding)
+        return requestSpec().header("Transfer-Encoding", encoding)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -199,7 +201,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithContentEncoding(String endpoint, Object body, String encoding) {
         logger.info("Making PUT request to: {} with content encoding: {}", endpoint, encoding);
-        return requestSpec.header("Content-Encoding", encoding)
+        return requestSpec().header("Content-Encoding", encoding)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -210,7 +212,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithContentLanguage(String endpoint, Object body, String language) {
         logger.info("Making PUT request to: {} with content language: {}", endpoint, language);
-        return requestSpec.header("Content-Language", language)
+        return requestSpec().header("Content-Language", language)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -221,7 +223,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithContentDisposition(String endpoint, Object body, String disposition) {
         logger.info("Making PUT request to: {} with content disposition: {}", endpoint, disposition);
-        return requestSpec.header("Content-Disposition", disposition)
+        return requestSpec().header("Content-Disposition", disposition)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -232,7 +234,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithContentRange(String endpoint, Object body, String range) {
         logger.info("Making PUT request to: {} with content range: {}", endpoint, range);
-        return requestSpec.header("Content-Range", range)
+        return requestSpec().header("Content-Range", range)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -243,7 +245,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithIfMatch(String endpoint, Object body, String etag) {
         logger.info("Making PUT request to: {} with if match: {}", endpoint, etag);
-        return requestSpec.header("If-Match", etag)
+        return requestSpec().header("If-Match", etag)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -254,7 +256,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithIfNoneMatch(String endpoint, Object body, String etag) {
         logger.info("Making PUT request to: {} with if none match: {}", endpoint, etag);
-        return requestSpec.header("If-None-Match", etag)
+        return requestSpec().header("If-None-Match", etag)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -265,7 +267,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithIfModifiedSince(String endpoint, Object body, String date) {
         logger.info("Making PUT request to: {} with if modified since: {}", endpoint, date);
-        return requestSpec.header("If-Modified-Since", date)
+        return requestSpec().header("If-Modified-Since", date)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -276,7 +278,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithIfUnmodifiedSince(String endpoint, Object body, String date) {
         logger.info("Making PUT request to: {} with if unmodified since: {}", endpoint, date);
-        return requestSpec.header("If-Unmodified-Since", date)
+        return requestSpec().header("If-Unmodified-Since", date)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -287,7 +289,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithContentLocation(String endpoint, Object body, String location) {
         logger.info("Making PUT request to: {} with content location: {}", endpoint, location);
-        return requestSpec.header("Content-Location", location)
+        return requestSpec().header("Content-Location", location)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -298,7 +300,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithLastModified(String endpoint, Object body, String lastModified) {
         logger.info("Making PUT request to: {} with last modified: {}", endpoint, lastModified);
-        return requestSpec.header("Last-Modified", lastModified)
+        return requestSpec().header("Last-Modified", lastModified)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -309,7 +311,7 @@ public class PUTRequest extends BaseAPITest {
      */
     public Response putWithETag(String endpoint, Object body, String etag) {
         logger.info("Making PUT request to: {} with etag: {}", endpoint, etag);
-        return requestSpec.header("ETag", etag)
+        return requestSpec().header("ETag", etag)
                          .body(body)
                          .when()
                          .put(endpoint);
@@ -1,5 +1,6 @@
 package com.automation.core;
 
+import com.automation.performance.LatencyRecorder;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.http.Header;
@@ -12,6 +13,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * Base class for API automation tests
@@ -20,7 +23,7 @@ import java.util.Map;
 public class BaseAPITest {
     protected static final Logger logger = LogManager.getLogger(BaseAPITest.class);
     protected ConfigManager config;
-    protected RequestSpecification requestSpec;
+    private final AtomicReference<RequestTemplate> template = new AtomicReference<>();
 
     public BaseAPITest() {
         this.config = ConfigManager.getInstance();
@@ -32,19 +35,53 @@ public class BaseAPITest {
      */
     private void setupRestAssured() {
         RestAssured.baseURI = config.getAPIBaseUrl();
-        RestAssured.timeout = java.time.Duration.ofSeconds(config.getAPITimeout());
+        HttpClientPool.install();
+        template.set(defaultTemplate());
         
-        requestSpec = RestAssured.given()
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON);
+        logger.info("REST Assured configured with base URI: {}", config.getAPIBaseUrl());
+    }
+
+    /**
+     * Create the default request template
+     */
+    private RequestTemplate defaultTemplate() {
+        RequestTemplate defaults = RequestTemplate.empty()
+                .withContentType(ContentType.JSON)
+                .withAccept(ContentType.JSON);
         
         // Add authentication token if available
         String token = config.getAPIToken();
         if (token != null && !token.isEmpty()) {
-            requestSpec.header("Authorization", "Bearer " + token);
+            defaults = defaults.withHeader("Authorization", "Bearer " + token);
         }
-        
-        logger.info("REST Assured configured with base URI: {}", config.getAPIBaseUrl());
+        return defaults;
+    }
+
+    /**
+     * Create a request specification for a single call
+     * Each call gets its own specification built from the immutable template, so concurrent
+     * tests using the same request object never see each other's headers or bodies.
+     * The call's latency is recorded in the per-endpoint histograms of LatencyRecorder
+     */
+    protected RequestSpecification requestSpec() {
+        return LatencyRecorder.attach(template.get().newRequest());
+    }
+
+    /**
+     * Get the current request defaults
+     * Derive per-call variations with the template's withX methods, for example
+     * template().withHeader(name, value).newRequest()
+     */
+    protected RequestTemplate template() {
+        return template.get();
+    }
+
+    /**
+     * Replace the shared template with a modified copy
+     * Request objects are shared between tests, so this is only safe during setup
+     */
+    private void updateTemplate(UnaryOperator<RequestTemplate> change) {
+        template.updateAndGet(change);
     }
 
     /**
@@ -52,7 +89,7 @@ public class BaseAPITest {
      */
     protected Response get(String endpoint) {
         logger.info("Making GET request to: {}", endpoint);
-        return requestSpec.when().get(endpoint);
+        return requestSpec().when().get(endpoint);
     }
 
     /**
@@ -60,7 +97,7 @@ public class BaseAPITest {
      */
     protected Response get(String endpoint, Map<String, Object> pathParams) {
         logger.info("Making GET request to: {} with path params: {}", endpoint, pathParams);
-        return requestSpec.pathParams(pathParams).when().get(endpoint);
+        return requestSpec().pathParams(pathParams).when().get(endpoint);
     }
 
     /**
@@ -69,7 +106,7 @@ public class BaseAPITest {
     protected Response get(String endpoint, Map<String, Object> pathParams, Map<String, Object> queryParams) {
         logger.info("Making GET request to: {} with path params: {} and query params: {}", 
                    endpoint, pathParams, queryParams);
-        return requestSpec.pathParams(pathParams)
+        return requestSpec().pathParams(pathParams)
                         .queryParams(queryParams)
                         .when()
                         .get(endpoint);
@@ -79,8 +116,8 @@ public class BaseAPITest {
      * POST request with body
      */
     protected Response post(String endpoint, Object body) {
-        logger.info("Making POST request to: {} with body: {}", endpoint, body);
-        return requestSpec.body(body).when().post(endpoint);
+        logger.info("Making POST request to: {} with body: {}", endpoint, LogBody.of(body));
+        return requestSpec().body(body).when().post(endpoint);
     }
 
     /**
@@ -88,8 +125,8 @@ public class BaseAPITest {
      */
     protected Response post(String endpoint, Object body, Map<String, Object> pathParams) {
         logger.info("Making POST request to: {} with body: {} and path params: {}", 
-                   endpoint, body, pathParams);
-        return requestSpec.body(body)
+                   endpoint, LogBody.of(body), pathParams);
+        return requestSpec().body(body)
                         .pathParams(pathParams)
                         .when()
                         .post(endpoint);
@@ -99,8 +136,8 @@ public class BaseAPITest {
      * PUT request with body
      */
     protected Response put(String endpoint, Object body) {
-        logger.info("Making PUT request to: {} with body: {}", endpoint, body);
-        return requestSpec.body(body).when().put(endpoint);
+        logger.info("Making PUT request to: {} with body: {}", endpoint, LogBody.of(body));
+        return requestSpec().body(body).when().put(endpoint);
     }
 
     /**
@@ -108,8 +145,8 @@ public class BaseAPITest {
      */
     protected Response put(String endpoint, Object body, Map<String, Object> pathParams) {
         logger.info("Making PUT request to: {} with body: {} and path params: {}", 
-                   endpoint, body, pathParams);
-        return requestSpec.body(body)
+                   endpoint, LogBody.of(body), pathParams);
+        return requestSpec().body(body)
                         .pathParams(pathParams)
                         .when()
                         .put(endpoint);
@@ -120,7 +157,7 @@ public class BaseAPITest {
      */
     protected Response delete(String endpoint) {
         logger.info("Making DELETE request to: {}", endpoint);
-        return requestSpec.when().delete(endpoint);
+        return requestSpec().when().delete(endpoint);
     }
 
     /**
@@ -128,70 +165,91 @@ public class BaseAPITest {
      */
     protected Response delete(String endpoint, Map<String, Object> pathParams) {
         logger.info("Making DELETE request to: {} with path params: {}", endpoint, pathParams);
-        return requestSpec.pathParams(pathParams).when().delete(endpoint);
+        return requestSpec().pathParams(pathParams).when().delete(endpoint);
     }
 
     /**
      * PATCH request with body
      */
     protected Response patch(String endpoint, Object body) {
-        logger.info("Making PATCH request to: {} with body: {}", endpoint, body);
-        return requestSpec.body(body).when().patch(endpoint);
+        logger.info("Making PATCH request to: {} with body: {}", endpoint, LogBody.of(body));
+        return requestSpec().body(body).when().patch(endpoint);
     }
 
     /**
      * Add header to request
+     * @deprecated Changes the defaults of every thread using this object, build a single call
+     * with template().withHeader(name, value).newRequest() instead
      */
+    @Deprecated
     protected void addHeader(String name, String value) {
-        requestSpec.header(name, value);
+        updateTemplate(current -> current.withHeader(name, value));
         logger.info("Added header: {} = {}", name, value);
     }
 
     /**
      * Add multiple headers to request
+     * @deprecated Changes the defaults of every thread using this object, build a single call
+     * with template().withHeaders(headers).newRequest() instead
      */
+    @Deprecated
     protected void addHeaders(Map<String, String> headers) {
-        requestSpec.headers(headers);
+        updateTemplate(current -> current.withHeaders(headers));
         logger.info("Added headers: {}", headers);
     }
 
     /**
      * Add query parameter
+     * @deprecated Changes the defaults of every thread using this object, build a single call
+     * with template().withQueryParam(name, value).newRequest() instead
      */
+    @Deprecated
     protected void addQueryParam(String name, Object value) {
-        requestSpec.queryParam(name, value);
+        updateTemplate(current -> current.withQueryParam(name, value));
         logger.info("Added query param: {} = {}", name, value);
     }
 
     /**
      * Add path parameter
+     * @deprecated Changes the defaults of every thread using this object, build a single call
+     * with template().withPathParam(name, value).newRequest() instead
      */
+    @Deprecated
     protected void addPathParam(String name, Object value) {
-        requestSpec.pathParam(name, value);
+        updateTemplate(current -> current.withPathParam(name, value));
         logger.info("Added path param: {} = {}", name, value);
     }
 
     /**
      * Set request body
+     * @deprecated Changes the defaults of every thread using this object, build a single call
+     * with template().withBody(body).newRequest() instead
      */
+    @Deprecated
     protected void setBody(Object body) {
-        requestSpec.body(body);
-        logger.info("Set request body: {}", body);
+        updateTemplate(current -> current.withBody(body));
+        logger.info("Set request body: {}", LogBody.of(body));
     }
 
     /**
      * Set content type
+     * @deprecated Changes the defaults of every thread using this object, build a single call
+     * with template().withContentType(contentType).newRequest() instead
      */
+    @Deprecated
     protected void setContentType(ContentType contentType) {
-        requestSpec.contentType(contentType);
+        updateTemplate(current -> current.withContentType(contentType));
         logger.info("Set content type: {}", contentType);
     }
 
     /**
      * Set accept header
+     * @deprecated Changes the defaults of every thread using this object, build a single call
+     * with template().withAccept(contentType).newRequest() instead
      */
+    @Deprecated
     protected void setAccept(ContentType contentType) {
-        requestSpec.accept(contentType);
+        updateTemplate(current -> current.withAccept(contentType));
         logger.info("Set accept: {}", contentType);
     }
 
@@ -338,7 +396,7 @@ public class BaseAPITest {
     protected void logResponse(Response response) {
         logger.info("Response Status Code: {}", response.getStatusCode());
         logger.info("Response Headers: {}", response.getHeaders());
-        logger.info("Response Body: {}", getResponseBody(response));
+        logger.info("Response Body: {}", LogBody.of(response.getBody()));
         logger.info("Response Time: {}ms", response.getTime());
     }
 
@@ -346,6 +404,7 @@ public class BaseAPITest {
      * Reset request specification
      */
     protected void resetRequestSpec() {
-        setupRestAssured();
+        template.set(defaultTemplate());
+        logger.info("Request specification reset to default");
     }
 }
\ No newline at end of file
@@ -1,15 +1,25 @@
 package com.automation.core;
 
+import com.automation.database.BulkLoader;
+import com.automation.database.CompactRow;
+import com.automation.database.ConnectionPool;
+import com.automation.database.ResultSetMapper;
+import com.automation.database.RowCursor;
 import org.testng.Assert;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterMethod;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Base class for Database automation tests
@@ -17,84 +27,104 @@ import java.util.Map;
  */
 public class BaseDBTest {
     protected static final Logger logger = LogManager.getLogger(BaseDBTest.class);
+    public static final String CURSOR_HIGH_WATER_MARK_ATTRIBUTE = "db.cursor.highWaterMark";
     protected ConfigManager config;
-    protected Connection connection;
 
     public BaseDBTest() {
         this.config = ConfigManager.getInstance();
     }
 
     /**
-     * Establish database connection
+     * Get the database connection pinned to the current thread
+     * The connection is borrowed from the shared pool on first use, so parallel
+     * test methods never share a connection and transactions stay on one connection
      */
     protected Connection getConnection() {
-        if (connection == null || isConnectionClosed()) {
-            try {
-                String url = buildConnectionUrl();
-                logger.info("Connecting to database: {}", url);
-                
-                connection = DriverManager.getConnection(
-                    url,
-                    config.getDBUsername(),
-                    config.getDBPassword()
-                );
-                
-                logger.info("Database connection established successfully");
-            } catch (SQLException e) {
-                logger.error("Failed to establish database connection", e);
-                throw new RuntimeException("Database connection failed", e);
-            }
-        }
-        return connection;
+        return getConnectionPool().getThreadConnection();
     }
 
     /**
-     * Build database connection URL
+     * Get the shared connection pool
      */
-    private String buildConnectionUrl() {
-        String host = config.getDBHost();
-        int port = config.getDBPort();
-        String database = config.getDBName();
-        
-        // Default to MySQL if no specific driver is configured
-        return String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC", 
-                           host, port, database);
+    protected ConnectionPool getConnectionPool() {
+        return ConnectionPool.getInstance("mysql");
     }
 
     /**
      * Check if connection is closed
      */
-    private boolean isConnectionClosed() {
+    protected boolean isConnectionClosed() {
+        if (!getConnectionPool().hasThreadConnection()) {
+            return true;
+        }
         try {
-            return connection == null || connection.isClosed();
+            return getConnectionPool().getThreadConnection().isClosed();
         } catch (SQLException e) {
             return true;
         }
     }
 
     /**
-     * Close database connection
+     * Return the current thread's connection to the pool
+     * Uncommitted changes are rolled back
      */
     protected void closeConnection() {
-        if (connection != null && !isConnectionClosed()) {
-            try {
-                connection.close();
-                logger.info("Database connection closed successfully");
-            } catch (SQLException e) {
-                logger.error("Error closing database connection", e);
+        if (getConnectionPool().hasThreadConnection()) {
+            getConnectionPool().releaseThreadConnection();
+            logger.info("Database connection returned to pool");
+        }
+    }
+
+    /**
+     * Return the connection borrowed by the test method to the pool
+     * Records the test's open cursor high-water mark, statements the test left open
+     * are closed by the pool and reported with the test that created them
+     */
+    @AfterMethod(alwaysRun = true)
+    public void releaseConnection(ITestResult result) {
+        ConnectionPool pool = getConnectionPool();
+        if (pool.hasThreadConnection()) {
+            int highWaterMark = pool.getThreadCursorHighWaterMark();
+            result.setAttribute(CURSOR_HIGH_WATER_MARK_ATTRIBUTE, highWaterMark);
+            logger.debug("Open cursor high-water mark for {}: {}", result.getMethod().getQualifiedName(),
+                    highWaterMark);
+
+            int openStatements = pool.getThreadOpenStatements();
+            if (openStatements > 0) {
+                logger.warn("{} left {} statements open, closing them", result.getMethod().getQualifiedName(),
+                        openStatements);
             }
         }
+        closeConnection();
+    }
+
+    /**
+     * Get number of result sets the current test has open
+     */
+    protected int getOpenCursorCount() {
+        return getConnectionPool().getThreadOpenCursors();
+    }
+
+    /**
+     * Get the most result sets the current test had open at once
+     */
+    protected int getCursorHighWaterMark() {
+        return getConnectionPool().getThreadCursorHighWaterMark();
     }
 
     /**
      * Execute SELECT query and return ResultSet
+     * Closing the ResultSet also closes its statement
      */
     protected ResultSet executeQuery(String sql) {
+        Statement statement = null;
         try {
             logger.info("Executing query: {}", sql);
-            Statement statement = getConnection().createStatement();
+            statement = getConnection().createStatement();
+            statement.closeOnCompletion();
             return statement.executeQuery(sql);
         } catch (SQLException e) {
+            closeQuietly(statement);
             logger.error("Error executing query: {}", sql, e);
             throw new RuntimeException("Query execution failed", e);
         }
@@ -104,9 +134,8 @@ public class BaseDBTest {
      * Execute UPDATE, INSERT, DELETE query and return affected rows
      */
     protected int executeUpdate(String sql) {
-        try {
-            logger.info("Executing update: {}", sql);
-            Statement statement = getConnection().createStatement();
+        logger.info("Executing update: {}", sql);
+        try (Statement statement = getConnection().createStatement()) {
             int affectedRows = statement.executeUpdate(sql);
             logger.info("Query affected {} rows", affectedRows);
             return affectedRows;
@@ -120,16 +149,20 @@ public class BaseDBTest {
      * Execute prepared statement with parameters
      */
     protected ResultSet executePreparedQuery(String sql, Object... parameters) {
+        PreparedStatement statement = null;
         try {
             logger.info("Executing prepared query: {} with parameters: {}", sql, parameters);
-            PreparedStatement statement = getConnection().prepareStatement(sql);
+            statement = getConnection().prepareStatement(sql);
             
             for (int i = 0; i < parameters.length; i++) {
                 statement.setObject(i + 1, parameters[i]);
             }
             
+            // Closing the ResultSet returns the statement to the connection's statement cache
+            statement.closeOnCompletion();
             return statement.executeQuery();
         } catch (SQLException e) {
+            closeQuietly(statement);
             logger.error("Error executing prepared query: {}", sql, e);
             throw new RuntimeException("Prepared query execution failed", e);
         }
@@ -139,10 +172,8 @@ public class BaseDBTest {
      * Execute prepared update with parameters
      */
     protected int executePreparedUpdate(String sql, Object... parameters) {
-        try {
-            logger.info("Executing prepared update: {} with parameters: {}", sql, parameters);
-            PreparedStatement statement = getConnection().prepareStatement(sql);
-            
+        logger.info("Executing prepared update: {} with parameters: {}", sql, parameters);
+        try (PreparedStatement statement = getConnection().prepareStatement(sql)) {
             for (int i = 0; i < parameters.length; i++) {
                 statement.setObject(i + 1, parameters[i]);
             }
@@ -160,11 +191,8 @@ public class BaseDBTest {
      * Get single value from query result
      */
     protected Object getSingleValue(String sql, String columnName) {
-        try (ResultSet rs = executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getObject(columnName);
-            }
-            return null;
+        try {
+            return query(sql, null, rs -> rs.next() ? rs.getObject(columnName) : null);
         } catch (SQLException e) {
             logger.error("Error getting single value from query", e);
             throw new RuntimeException("Failed to get single value", e);
@@ -175,11 +203,8 @@ public class BaseDBTest {
      * Get single value from prepared query
      */
     protected Object getSingleValue(String sql, String columnName, Object... parameters) {
-        try (ResultSet rs = executePreparedQuery(sql, parameters)) {
-            if (rs.next()) {
-                return rs.getObject(columnName);
-            }
-            return null;
+        try {
+            return query(sql, parameters, rs -> rs.next() ? rs.getObject(columnName) : null);
         } catch (SQLException e) {
             logger.error("Error getting single value from prepared query", e);
             throw new RuntimeException("Failed to get single value", e);
@@ -190,84 +215,149 @@ public class BaseDBTest {
      * Get list of values from query result
      */
     protected List<Object> getColumnValues(String sql, String columnName) {
-        List<Object> values = new ArrayList<>();
-        try (ResultSet rs = executeQuery(sql)) {
-            while (rs.next()) {
-                values.add(rs.getObject(columnName));
-            }
+        try {
+            return query(sql, null, rs -> readColumn(rs, columnName));
         } catch (SQLException e) {
             logger.error("Error getting column values from query", e);
             throw new RuntimeException("Failed to get column values", e);
         }
-        return values;
     }
 
     /**
      * Get list of values from prepared query
      */
     protected List<Object> getColumnValues(String sql, String columnName, Object... parameters) {
-        List<Object> values = new ArrayList<>();
-        try (ResultSet rs = executePreparedQuery(sql, parameters)) {
-            while (rs.next()) {
-                values.add(rs.getObject(columnName));
-            }
+        try {
+            return query(sql, parameters, rs -> readColumn(rs, columnName));
         } catch (SQLException e) {
             logger.error("Error getting column values from prepared query", e);
             throw new RuntimeException("Failed to get column values", e);
         }
-        return values;
     }
 
     /**
      * Get result as list of maps
      */
     protected List<Map<String, Object>> getResultAsList(String sql) {
-        List<Map<String, Object>> results = new ArrayList<>();
-        try (ResultSet rs = executeQuery(sql)) {
-            ResultSetMetaData metaData = rs.getMetaData();
-            int columnCount = metaData.getColumnCount();
-            
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = metaData.getColumnName(i);
-                    Object value = rs.getObject(i);
-                    row.put(columnName, value);
-                }
-                results.add(row);
-            }
+        try {
+            return query(sql, null, this::readRows);
         } catch (SQLException e) {
             logger.error("Error getting result as list", e);
             throw new RuntimeException("Failed to get result as list", e);
         }
-        return results;
     }
 
     /**
      * Get result as list of maps from prepared query
      */
     protected List<Map<String, Object>> getResultAsList(String sql, Object... parameters) {
-        List<Map<String, Object>> results = new ArrayList<>();
-        try (ResultSet rs = executePreparedQuery(sql, parameters)) {
-            ResultSetMetaData metaData = rs.getMetaData();
-            int columnCount = metaData.getColumnCount();
-            
-            while (rs.next()) {
-                Map<String, Object> row = new HashMap<>();
-                for (int i = 1; i <= columnCount; i++) {
-                    String columnName = metaData.getColumnName(i);
-                    Object value = rs.getObject(i);
-                    row.put(columnName, value);
-                }
-                results.add(row);
-            }
+        try {
+            return query(sql, parameters, this::readRows);
         } catch (SQLException e) {
             logger.error("Error getting result as list from prepared query", e);
             throw new RuntimeException("Failed to get result as list", e);
         }
+    }
+
+    /**
+     * Run a query on a statement owned by this call and map its result set
+     * The statement and result set are always closed before returning
+     * @param parameters Prepared statement parameters, null runs a plain statement
+     */
+    private <T> T query(String sql, Object[] parameters, ResultSetMapper<T> mapper) throws SQLException {
+        if (parameters == null) {
+            logger.info("Executing query: {}", sql);
+            try (Statement statement = getConnection().createStatement();
+                 ResultSet rs = statement.executeQuery(sql)) {
+                return mapper.map(rs);
+            }
+        }
+
+        logger.info("Executing prepared query: {} with parameters: {}", sql, parameters);
+        try (PreparedStatement statement = getConnection().prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                return mapper.map(rs);
+            }
+        }
+    }
+
+    private List<Object> readColumn(ResultSet rs, String columnName) throws SQLException {
+        List<Object> values = new ArrayList<>();
+        int columnIndex = rs.findColumn(columnName);
+        while (rs.next()) {
+            values.add(rs.getObject(columnIndex));
+        }
+        return values;
+    }
+
+    private static void closeQuietly(Statement statement) {
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                logger.debug("Error closing statement", e);
+            }
+        }
+    }
+
+    /**
+     * Read all rows into maps, resolving column names once per result set
+     */
+    private List<Map<String, Object>> readRows(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        String[] columnNames = new String[metaData.getColumnCount()];
+        for (int i = 0; i < columnNames.length; i++) {
+            columnNames[i] = metaData.getColumnName(i + 1);
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        while (rs.next()) {
+            Map<String, Object> row = new HashMap<>(columnNames.length * 4 / 3 + 1);
+            for (int i = 0; i < columnNames.length; i++) {
+                row.put(columnNames[i], rs.getObject(i + 1));
+            }
+            results.add(row);
+        }
         return results;
     }
 
+    /**
+     * Open a forward-only cursor that fetches rows in batches of db.fetch.size
+     * The cursor must be closed, for example with try-with-resources
+     */
+    protected RowCursor openCursor(String sql, Object... parameters) {
+        logger.info("Opening cursor: {} with parameters: {}", sql, parameters);
+        return RowCursor.open(getConnection(), sql, config.getDbFetchSize(), parameters);
+    }
+
+    /**
+     * Stream query rows as compact rows sharing one column index
+     * The stream must be closed, for example with try-with-resources
+     */
+    protected Stream<CompactRow> streamRows(String sql, Object... parameters) {
+        return openCursor(sql, parameters).stream();
+    }
+
+    /**
+     * Call the consumer for every query row, reading values in place from the cursor
+     * @return Number of rows processed
+     */
+    protected long forEachRow(String sql, Consumer<RowCursor> action, Object... parameters) {
+        RowCursor cursor = openCursor(sql, parameters);
+        cursor.forEachRemaining(action);
+        return cursor.getRowCount();
+    }
+
+    /**
+     * Create a bulk loader for seeding a table through the current thread's connection
+     */
+    protected BulkLoader bulkLoader(String tableName, String... columns) {
+        return new BulkLoader(getConnection(), tableName, Arrays.asList(columns));
+    }
+
     /**
      * Get first row as map
      */
@@ -313,9 +403,8 @@ public class BaseDBTest {
      * Insert record and return generated key
      */
     protected int insertRecord(String sql, Object... parameters) {
-        try {
-            logger.info("Inserting record with SQL: {} and parameters: {}", sql, parameters);
-            PreparedStatement statement = getConnection().prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+        logger.info("Inserting record with SQL: {} and parameters: {}", sql, parameters);
+        try (PreparedStatement statement = getConnection().prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
             for (int i = 0; i < parameters.length; i++) {
                 statement.setObject(i + 1, parameters[i]);
@@ -325,9 +414,10 @@ public class BaseDBTest {
             logger.info("Insert affected {} rows", affectedRows);
             
             if (affectedRows > 0) {
-                ResultSet generatedKeys = statement.getGeneratedKeys();
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
+                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                    if (generatedKeys.next()) {
+                        return generatedKeys.getInt(1);
+                    }
                 }
             }
             
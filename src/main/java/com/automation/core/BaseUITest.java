@@ -6,15 +6,11 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -22,19 +18,51 @@ import java.time.format.DateTimeFormatter;
 /**
  * Base class for UI automation tests
  * Provides common WebDriver operations and utilities
+ * The WebDriver, wait and Actions are created on first UI interaction,
+ * so page objects and API/DB-only tests never launch a browser
  */
 public class BaseUITest {
     protected static final Logger logger = LogManager.getLogger(BaseUITest.class);
-    protected WebDriver driver;
-    protected WebDriverWait wait;
-    protected Actions actions;
     protected ConfigManager config;
+    private Actions actions;
+    private WebDriver actionsDriver;
 
     public BaseUITest() {
         this.config = ConfigManager.getInstance();
-        this.driver = WebDriverManager.getDriver();
-        this.wait = WebDriverManager.getWait();
-        this.actions = new Actions(driver);
+    }
+
+    /**
+     * Get WebDriver for the current thread, launching the browser on first use
+     */
+    protected WebDriver getDriver() {
+        return DriverManager.getOrCreateDriver();
+    }
+
+    /**
+     * Get WebDriverWait for the current thread's WebDriver
+     */
+    protected WebDriverWait getWait() {
+        return DriverManager.getWait();
+    }
+
+    /**
+     * Get Actions bound to the current thread's WebDriver
+     */
+    protected Actions getActions() {
+        WebDriver driver = getDriver();
+        if (actions == null || actionsDriver != driver) {
+            actions = new Actions(driver);
+            actionsDriver = driver;
+        }
+        return actions;
+    }
+
+    /**
+     * Release a WebDriver created lazily by this test if its scope ends with the method
+     */
+    @AfterMethod(alwaysRun = true)
+    public void releaseLazyDriver() {
+        DriverManager.releaseDriver(DriverScope.METHOD);
     }
 
     /**
@@ -42,7 +70,7 @@ public class BaseUITest {
      */
     protected void navigateTo(String url) {
         logger.info("Navigating to: {}", url);
-        driver.get(url);
+        getDriver().get(url);
     }
 
     /**
@@ -57,14 +85,14 @@ public class BaseUITest {
      * Find element with explicit wait
      */
     protected WebElement findElement(By locator) {
-        return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        return getWait().until(ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     /**
      * Find element with custom timeout
      */
     protected WebElement findElement(By locator, int timeoutSeconds) {
-        WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        WebDriverWait customWait = new WebDriverWait(getDriver(), Duration.ofSeconds(timeoutSeconds));
         return customWait.until(ExpectedConditions.presenceOfElementLocated(locator));
     }
 
@@ -73,7 +101,7 @@ public class BaseUITest {
      */
     protected void click(By locator) {
         logger.info("Clicking element: {}", locator);
-        wait.until(ExpectedConditions.elementToBeClickable(locator)).click();
+        getWait().until(ExpectedConditions.elementToBeClickable(locator)).click();
     }
 
     /**
@@ -82,7 +110,7 @@ public class BaseUITest {
     protected void clickWithJS(By locator) {
         logger.info("Clicking element with JavaScript: {}", locator);
         WebElement element = findElement(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+        ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();", element);
     }
 
     /**
@@ -135,21 +163,21 @@ public class BaseUITest {
      * Wait for element to be visible
      */
     protected void waitForElementVisible(By locator) {
-        wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     /**
      * Wait for element to be clickable
      */
     protected void waitForElementClickable(By locator) {
-        wait.until(ExpectedConditions.elementToBeClickable(locator));
+        getWait().until(ExpectedConditions.elementToBeClickable(locator));
     }
 
     /**
      * Wait for element to disappear
      */
     protected void waitForElementInvisible(By locator) {
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     /**
@@ -180,14 +208,14 @@ public class BaseUITest {
      * Hover over element
      */
     protected void hoverOver(By locator) {
-        actions.moveToElement(findElement(locator)).perform();
+        getActions().moveToElement(findElement(locator)).perform();
     }
 
     /**
      * Drag and drop
      */
     protected void dragAndDrop(By source, By target) {
-        actions.dragAndDrop(findElement(source), findElement(target)).perform();
+        getActions().dragAndDrop(findElement(source), findElement(target)).perform();
     }
 
     /**
@@ -195,37 +223,37 @@ public class BaseUITest {
      */
     protected void scrollToElement(By locator) {
         WebElement element = findElement(locator);
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
+        ((JavascriptExecutor) getDriver()).executeScript("arguments[0].scrollIntoView(true);", element);
     }
 
     /**
      * Scroll to bottom of page
      */
     protected void scrollToBottom() {
-        ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
+        ((JavascriptExecutor) getDriver()).executeScript("window.scrollTo(0, document.body.scrollHeight);");
     }
 
     /**
      * Switch to frame
      */
     protected void switchToFrame(By locator) {
-        driver.switchTo().frame(findElement(locator));
+        getDriver().switchTo().frame(findElement(locator));
     }
 
     /**
      * Switch to default content
      */
     protected void switchToDefaultContent() {
-        driver.switchTo().defaultContent();
+        getDriver().switchTo().defaultContent();
     }
 
     /**
      * Switch to window by title
      */
     protected void switchToWindowByTitle(String title) {
-        for (String windowHandle : driver.getWindowHandles()) {
-            driver.switchTo().window(windowHandle);
-            if (driver.getTitle().contains(title)) {
+        for (String windowHandle : getDriver().getWindowHandles()) {
+            getDriver().switchTo().window(windowHandle);
+            if (getDriver().getTitle().contains(title)) {
                 break;
             }
         }
@@ -235,44 +263,34 @@ public class BaseUITest {
      * Accept alert
      */
     protected void acceptAlert() {
-        wait.until(ExpectedConditions.alertIsPresent());
-        driver.switchTo().alert().accept();
+        getWait().until(ExpectedConditions.alertIsPresent());
+        getDriver().switchTo().alert().accept();
     }
 
     /**
      * Dismiss alert
      */
     protected void dismissAlert() {
-        wait.until(ExpectedConditions.alertIsPresent());
-        driver.switchTo().alert().dismiss();
+        getWait().until(ExpectedConditions.alertIsPresent());
+        getDriver().switchTo().alert().dismiss();
     }
 
     /**
      * Get alert text
      */
     protected String getAlertText() {
-        wait.until(ExpectedConditions.alertIsPresent());
-        return driver.switchTo().alert().getText();
+        getWait().until(ExpectedConditions.alertIsPresent());
+        return getDriver().switchTo().alert().getText();
     }
 
     /**
-     * Take screenshot
+     * Take screenshot, the file is written in the background
      */
     protected String takeScreenshot(String testName) {
         try {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = testName + "_" + timestamp + ".png";
-            String screenshotPath = config.getProperty("screenshot.path", "target/screenshots/") + fileName;
-            
-            Path path = Paths.get(screenshotPath);
-            Files.createDirectories(path.getParent());
-            
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            Files.copy(screenshot.toPath(), path);
-            
-            logger.info("Screenshot saved: {}", screenshotPath);
-            return screenshotPath;
-        } catch (IOException e) {
+            return ScreenshotPipeline.capture(getDriver(), config.getScreenshotPath(), testName + "_" + timestamp);
+        } catch (WebDriverException e) {
             logger.error("Failed to take screenshot", e);
             return null;
         }
@@ -312,34 +330,34 @@ public class BaseUITest {
      * Get current URL
      */
     protected String getCurrentUrl() {
-        return driver.getCurrentUrl();
+        return getDriver().getCurrentUrl();
     }
 
     /**
      * Get page title
      */
     protected String getPageTitle() {
-        return driver.getTitle();
+        return getDriver().getTitle();
     }
 
     /**
      * Refresh page
      */
     protected void refreshPage() {
-        driver.navigate().refresh();
+        getDriver().navigate().refresh();
     }
 
     /**
      * Go back
      */
     protected void goBack() {
-        driver.navigate().back();
+        getDriver().navigate().back();
     }
 
     /**
      * Go forward
      */
     protected void goForward() {
-        driver.navigate().forward();
+        getDriver().navigate().forward();
     }
 }
\ No newline at end of file
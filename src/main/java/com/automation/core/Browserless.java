@@ -0,0 +1,18 @@
+package com.automation.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test method or class that must never launch a browser
+ * UI base classes skip WebDriver setup for these tests, and DriverManager
+ * fails fast if one of them requests a WebDriver anyway
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Browserless {
+}
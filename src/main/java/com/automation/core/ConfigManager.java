@@ -80,6 +80,127 @@ public class ConfigManager {
         return Integer.parseInt(properties.getProperty("db.port", "3306"));
     }
 
+    public String getDbUrl() {
+        return properties.getProperty("db.url", String.format("jdbc:mysql://%s:%d/%s?useSSL=false&serverTimezone=UTC",
+                getDBHost(), getDBPort(), getDBName()));
+    }
+
+    public String getDbUsername() {
+        return getDBUsername();
+    }
+
+    public String getDbPassword() {
+        return getDBPassword();
+    }
+
+    public String getDbDriver() {
+        return properties.getProperty("db.driver", "com.mysql.cj.jdbc.Driver");
+    }
+
+    public String getPostgresUrl() {
+        return properties.getProperty("postgres.url", String.format("jdbc:postgresql://%s:%s/%s",
+                getDBHost(), properties.getProperty("postgres.port", "5432"), getDBName()));
+    }
+
+    public String getPostgresUsername() {
+        return properties.getProperty("postgres.username", getDBUsername());
+    }
+
+    public String getPostgresPassword() {
+        return properties.getProperty("postgres.password", getDBPassword());
+    }
+
+    public String getPostgresDriver() {
+        return properties.getProperty("postgres.driver", "org.postgresql.Driver");
+    }
+
+    public int getDbPoolMinIdle() {
+        return Integer.parseInt(properties.getProperty("db.pool.min.idle", "2"));
+    }
+
+    public int getDbPoolMaxSize() {
+        return Integer.parseInt(properties.getProperty("db.pool.max.size", "10"));
+    }
+
+    public int getDbPoolBorrowTimeout() {
+        return Integer.parseInt(properties.getProperty("db.pool.borrow.timeout", "30"));
+    }
+
+    public int getDbPoolValidationTimeout() {
+        return Integer.parseInt(properties.getProperty("db.pool.validation.timeout", "5"));
+    }
+
+    public int getDbPoolIdleTimeout() {
+        return Integer.parseInt(properties.getProperty("db.pool.idle.timeout", "600"));
+    }
+
+    public int getDbPoolLeakDetectionThreshold() {
+        return Integer.parseInt(properties.getProperty("db.pool.leak.detection.threshold", "60"));
+    }
+
+    public int getDbStatementCacheSize() {
+        return Integer.parseInt(properties.getProperty("db.statement.cache.size", "64"));
+    }
+
+    public boolean isDbServerPreparedStatements() {
+        return Boolean.parseBoolean(properties.getProperty("db.server.prepared.statements", "false"));
+    }
+
+    public boolean isDbStatementLeakTrace() {
+        return Boolean.parseBoolean(properties.getProperty("db.statement.leak.trace", "false"));
+    }
+
+    public int getDbBatchChunkSize() {
+        return Integer.parseInt(properties.getProperty("db.batch.chunk.size", "1000"));
+    }
+
+    public int getDbBatchCommitInterval() {
+        return Integer.parseInt(properties.getProperty("db.batch.commit.interval", "10000"));
+    }
+
+    public boolean isDbBatchRewrite() {
+        return Boolean.parseBoolean(properties.getProperty("db.batch.rewrite", "true"));
+    }
+
+    public boolean isDbBulkNativeLoad() {
+        return Boolean.parseBoolean(properties.getProperty("db.bulk.native.load", "false"));
+    }
+
+    public int getDbFetchSize() {
+        return Integer.parseInt(properties.getProperty("db.fetch.size", "1000"));
+    }
+
+    public boolean isDbMysqlCursorFetch() {
+        return Boolean.parseBoolean(properties.getProperty("db.mysql.cursor.fetch", "false"));
+    }
+
+    public boolean isTestDataCacheEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("test.data.cache.enabled", "true"));
+    }
+
+    public int getTestDataCacheMaxEntries() {
+        return Integer.parseInt(properties.getProperty("test.data.cache.max.entries", "64"));
+    }
+
+    public long getTestDataCacheMaxCells() {
+        return Long.parseLong(properties.getProperty("test.data.cache.max.cells", "5000000"));
+    }
+
+    public boolean isTestDataCompiledEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("test.data.compiled.enabled", "true"));
+    }
+
+    public String getTestDataCompiledPath() {
+        return properties.getProperty("test.data.compiled.path", "target/compiled-testdata/");
+    }
+
+    /**
+     * Get number of rows a lazy data provider may parse ahead of the tests
+     */
+    public int getTestDataReadAheadRows() {
+        return Integer.parseInt(properties.getProperty("test.data.readahead.rows", "256"));
+    }
+
     public String getEnvironment() {
         return environment;
     }
@@ -104,10 +225,172 @@ public class ConfigManager {
         return Integer.parseInt(properties.getProperty("ui.page.load.timeout", "30"));
     }
 
+    public DriverScope getDriverScope() {
+        return DriverScope.fromValue(properties.getProperty("driver.scope", "method"));
+    }
+
+    public boolean isDriverPoolEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("driver.pool.enabled", "false"));
+    }
+
+    public int getDriverPoolMinSize() {
+        return Integer.parseInt(properties.getProperty("driver.pool.min.size", "1"));
+    }
+
+    public int getDriverPoolMaxSize() {
+        return Integer.parseInt(properties.getProperty("driver.pool.max.size", "4"));
+    }
+
+    public int getDriverPoolMaxUses() {
+        return Integer.parseInt(properties.getProperty("driver.pool.max.uses", "20"));
+    }
+
+    public int getDriverPoolIdleTimeout() {
+        return Integer.parseInt(properties.getProperty("driver.pool.idle.timeout", "300"));
+    }
+
+    public int getDriverPoolBorrowTimeout() {
+        return Integer.parseInt(properties.getProperty("driver.pool.borrow.timeout", "120"));
+    }
+
+    public String getDriverManifestPath() {
+        return properties.getProperty("driver.manifest.path", "target/driver-manifest.properties");
+    }
+
+    /**
+     * Check if manifest entries are only reused while the installed browser version is unchanged
+     */
+    public boolean isDriverManifestBrowserCheck() {
+        return Boolean.parseBoolean(properties.getProperty("driver.manifest.browser.check", "true"));
+    }
+
+    public String getExecutionMode() {
+        return System.getProperty("execution.mode", properties.getProperty("execution.mode", "platform"));
+    }
+
+    public boolean isVirtualThreadExecution() {
+        return "virtual".equalsIgnoreCase(getExecutionMode());
+    }
+
+    public int getVirtualThreadMaxConcurrency() {
+        return Integer.parseInt(properties.getProperty("execution.virtual.max.concurrency", "1000"));
+    }
+
+    /**
+     * Check if ready test methods start longest-first based on previous runs
+     */
+    public boolean isSchedulerDurationAware() {
+        return Boolean.parseBoolean(properties.getProperty("scheduler.duration.aware", "true"));
+    }
+
+    public String getSchedulerDurationsPath() {
+        return properties.getProperty("scheduler.durations.path", "target/test-durations.properties");
+    }
+
+    /**
+     * Get zero-based index of the shard this JVM runs, -Dshard.index overrides the file
+     */
+    public int getShardIndex() {
+        return Integer.parseInt(System.getProperty("shard.index", properties.getProperty("shard.index", "0")));
+    }
+
+    /**
+     * Get number of shards the suite is split into, 1 runs everything
+     */
+    public int getShardCount() {
+        return Integer.parseInt(System.getProperty("shard.count", properties.getProperty("shard.count", "1")));
+    }
+
+    /**
+     * Get durations file every shard reads to balance the partition, empty to partition by hash
+     */
+    public String getShardDurationsPath() {
+        return System.getProperty("shard.durations.path", properties.getProperty("shard.durations.path", ""));
+    }
+
     public int getAPITimeout() {
         return Integer.parseInt(properties.getProperty("api.timeout", "30"));
     }
 
+    public int getAPIPoolMaxTotal() {
+        return Integer.parseInt(properties.getProperty("api.pool.max.total", "50"));
+    }
+
+    public int getAPIPoolMaxPerRoute() {
+        return Integer.parseInt(properties.getProperty("api.pool.max.per.route", "20"));
+    }
+
+    /**
+     * Get longest time in seconds an idle HTTP connection is kept open for reuse
+     */
+    public int getAPIKeepAliveSeconds() {
+        return Integer.parseInt(properties.getProperty("api.keepalive.seconds", "30"));
+    }
+
+    /**
+     * Get socket send and receive buffer size in bytes, 0 keeps the OS default
+     */
+    public int getAPISocketBufferSize() {
+        return Integer.parseInt(properties.getProperty("api.socket.buffer.size", "0"));
+    }
+
+    public boolean isAPITcpNoDelay() {
+        return Boolean.parseBoolean(properties.getProperty("api.tcp.nodelay", "true"));
+    }
+
+    /**
+     * Check if async API requests negotiate HTTP/2, servers without HTTP/2 fall back to HTTP/1.1
+     */
+    public boolean isAPIAsyncHttp2() {
+        return Boolean.parseBoolean(properties.getProperty("api.async.http2", "true"));
+    }
+
+    public int getLoadMaxConcurrency() {
+        return Integer.parseInt(properties.getProperty("load.max.concurrency", "200"));
+    }
+
+    public boolean isLatencyRecordingEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("latency.recording.enabled", "true"));
+    }
+
+    public String getLatencyReportPath() {
+        return properties.getProperty("latency.report.path", "target/latency-reports/");
+    }
+
+    public String getExtentReportPath() {
+        return properties.getProperty("extent.report.path", "target/extent-reports/");
+    }
+
+    public String getScreenshotPath() {
+        return properties.getProperty("screenshot.path", "target/screenshots/");
+    }
+
+    /**
+     * Get screenshot file format, png or jpg
+     */
+    public String getScreenshotFormat() {
+        return properties.getProperty("screenshot.format", "png").toLowerCase();
+    }
+
+    /**
+     * Get width screenshots are downscaled to, 0 keeps the original size
+     */
+    public int getScreenshotMaxWidth() {
+        return Integer.parseInt(properties.getProperty("screenshot.max.width", "0"));
+    }
+
+    public int getScreenshotWriterThreads() {
+        return Integer.parseInt(properties.getProperty("screenshot.writer.threads", "2"));
+    }
+
+    public int getScreenshotQueueCapacity() {
+        return Integer.parseInt(properties.getProperty("screenshot.queue.capacity", "16"));
+    }
+
+    public int getScreenshotFlushTimeout() {
+        return Integer.parseInt(properties.getProperty("screenshot.flush.timeout", "60"));
+    }
+
     public boolean isParallelExecution() {
         return Boolean.parseBoolean(properties.getProperty("parallel.execution", "true"));
     }
@@ -123,4 +406,11 @@ public class ConfigManager {
     public int getRetryInterval() {
         return Integer.parseInt(properties.getProperty("retry.interval", "1000"));
     }
+
+    /**
+     * Get number of characters of a request or response body written to the log, 0 logs the whole body
+     */
+    public int getLogBodyMaxLength() {
+        return Integer.parseInt(properties.getProperty("log.body.max.length", "2000"));
+    }
 }
\ No newline at end of file
@@ -40,16 +40,11 @@ public class CucumberHooks {
     public void tearDown(Scenario scenario) {
         logger.info("Finishing scenario: {}", scenario.getName());
         
-        // Quit WebDriver for current thread
-        if (WebDriverManager.hasDriver()) {
-            WebDriverManager.quitDriver();
-        }
-        
         // Log scenario result
         if (scenario.isFailed()) {
             logger.error("Scenario failed: {}", scenario.getName());
-            // Take screenshot on failure
-            if (WebDriverManager.hasDriver()) {
+            // Take screenshot on failure, before the driver is released
+            if (DriverManager.isDriverInitialized()) {
                 String screenshotPath = takeScreenshot(scenario.getName());
                 if (screenshotPath != null) {
                     scenario.attach(screenshotPath, "image/png", "Screenshot");
@@ -58,6 +53,9 @@ public class CucumberHooks {
         } else {
             logger.info("Scenario passed: {}", scenario.getName());
         }
+        
+        // Release WebDriver for current thread if its scope ends with the scenario
+        DriverManager.releaseDriver(DriverScope.METHOD);
     }
 
     /**
@@ -87,8 +85,8 @@ public class CucumberHooks {
     public void tearDownFramework() {
         logger.info("Cleaning up automation framework");
         
-        // Quit all WebDriver instances
-        WebDriverManager.quitAllDrivers();
+        // Suite-wide WebDriver cleanup is handled by DriverLifecycleListener,
+        // quitting all drivers here would kill sessions of parallel scenarios
         
         logger.info("Framework cleanup completed");
     }
@@ -203,8 +201,9 @@ public class CucumberHooks {
      */
     private String takeScreenshot(String testName) {
         try {
-            if (WebDriverManager.hasDriver()) {
-                return WebDriverManager.getDriver().getScreenshotAs(org.openqa.selenium.OutputType.FILE).getAbsolutePath();
+            if (DriverManager.isDriverInitialized()) {
+                return ((org.openqa.selenium.TakesScreenshot) DriverManager.getDriver())
+                        .getScreenshotAs(org.openqa.selenium.OutputType.FILE).getAbsolutePath();
             }
         } catch (Exception e) {
             logger.error("Failed to take screenshot", e);
@@ -0,0 +1,176 @@
+package com.automation.core;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide resolver for browser driver binaries
+ * Resolves each browser driver once per JVM and records the resolved path
+ * in an on-disk manifest so later runs can skip resolution entirely.
+ * The manifest also records the installed browser version, an entry is only
+ * reused while the browser still reports that version, so a browser update
+ * resolves a matching driver again. Asking the browser for its version runs a
+ * shell command on every JVM start, driver.manifest.browser.check=false trusts
+ * the manifest without it
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Map<String, String> resolvedPaths = new ConcurrentHashMap<>();
+    private static final Map<String, Object> resolveLocks = new ConcurrentHashMap<>();
+    private static final Object manifestLock = new Object();
+
+    private DriverBinaryResolver() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Resolve the driver binary for a browser, at most once per JVM
+     * @param browser Browser name (chrome, firefox, edge)
+     * @return Absolute path of the driver binary
+     */
+    public static String resolve(String browser) {
+        String key = browser.toLowerCase();
+        String driverPath = resolvedPaths.get(key);
+        if (driverPath != null) {
+            return driverPath;
+        }
+        // Lock per browser, so a download never blocks resolution of other browsers
+        synchronized (resolveLocks.computeIfAbsent(key, k -> new Object())) {
+            driverPath = resolvedPaths.get(key);
+            if (driverPath == null) {
+                driverPath = resolveBinary(key);
+                resolvedPaths.put(key, driverPath);
+            }
+            return driverPath;
+        }
+    }
+
+    private static String resolveBinary(String browser) {
+        long startTime = System.nanoTime();
+        String source = "manifest";
+
+        Properties manifest = readManifest();
+        String driverPath = manifest.getProperty(browser + ".path");
+        boolean browserCheck = config.isDriverManifestBrowserCheck();
+        String browserVersion = browserCheck ? detectBrowserVersion(browser) : null;
+        boolean browserChanged = browserCheck
+                && !Objects.equals(browserVersion, manifest.getProperty(browser + ".browser.version"));
+        if (driverPath == null || browserChanged || !Files.isExecutable(Paths.get(driverPath))) {
+            if (driverPath != null && browserChanged) {
+                logger.info("{} browser version changed from {} to {}, resolving driver again", browser,
+                        manifest.getProperty(browser + ".browser.version"), browserVersion);
+            }
+            source = "WebDriverManager";
+            WebDriverManager manager = WebDriverManager.getInstance(browser);
+            manager.setup();
+            driverPath = manager.getDownloadedDriverPath();
+            writeManifest(browser, driverPath, manager.getDownloadedDriverVersion(), browserVersion);
+        }
+
+        System.setProperty(getDriverProperty(browser), driverPath);
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        logger.info("Resolved {} driver from {} in {} ms: {}", browser, source, elapsedMillis, driverPath);
+        return driverPath;
+    }
+
+    /**
+     * Get the installed browser version from the shell, null when it cannot be detected
+     */
+    private static String detectBrowserVersion(String browser) {
+        try {
+            return new VersionDetector(new Config(), null).getBrowserVersionFromTheShell(browser).orElse(null);
+        } catch (RuntimeException e) {
+            logger.debug("Unable to detect {} browser version", browser, e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the Selenium system property that points at a browser's driver binary
+     */
+    private static String getDriverProperty(String browser) {
+        switch (browser) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                throw new IllegalArgumentException("No driver binary for browser: " + browser);
+        }
+    }
+
+    private static Properties readManifest() {
+        Properties manifest = new Properties();
+        Path manifestPath = Paths.get(config.getDriverManifestPath());
+
+        synchronized (manifestLock) {
+            if (Files.exists(manifestPath)) {
+                try (InputStream input = Files.newInputStream(manifestPath)) {
+                    manifest.load(input);
+                } catch (IOException e) {
+                    logger.warn("Unable to read driver manifest: {}", manifestPath, e);
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private static void writeManifest(String browser, String driverPath, String driverVersion, String browserVersion) {
+        Path manifestPath = Paths.get(config.getDriverManifestPath());
+
+        synchronized (manifestLock) {
+            Properties manifest = readManifest();
+            manifest.setProperty(browser + ".path", driverPath);
+            if (driverVersion != null) {
+                manifest.setProperty(browser + ".version", driverVersion);
+            }
+            if (browserVersion != null) {
+                manifest.setProperty(browser + ".browser.version", browserVersion);
+            } else {
+                manifest.remove(browser + ".browser.version");
+            }
+
+            try {
+                Path directory = manifestPath.toAbsolutePath().getParent();
+                Files.createDirectories(directory);
+                // Other JVMs read the manifest without this lock, replace it in one step
+                Path temp = Files.createTempFile(directory, "driver-manifest", ".tmp");
+                try {
+                    try (OutputStream output = Files.newOutputStream(temp)) {
+                        manifest.store(output, "Resolved WebDriver binaries");
+                    }
+                    try {
+                        Files.move(temp, manifestPath, StandardCopyOption.REPLACE_EXISTING,
+                                StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(temp, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+            } catch (IOException e) {
+                logger.warn("Unable to write driver manifest: {}", manifestPath, e);
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.automation.core;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
@@ -11,22 +10,67 @@ import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * WebDriver Manager for handling browser initialization and cleanup
- * Uses ThreadLocal for thread-safe parallel execution
+ * WebDriver lifecycle engine for handling browser initialization and cleanup
+ * Uses ThreadLocal for thread-safe parallel execution and releases sessions
+ * according to the configured driver scope (method, class or suite)
  */
 public class DriverManager {
     private static final Logger logger = LogManager.getLogger(DriverManager.class);
-    private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<DriverSession> sessionThreadLocal = new ThreadLocal<>();
+    private static final Set<DriverSession> activeSessions = ConcurrentHashMap.newKeySet();
     private static final ConfigManager config = ConfigManager.getInstance();
 
+    private DriverManager() {
+        // Private constructor to prevent instantiation
+    }
+
     /**
      * Initialize WebDriver based on configuration
+     * Borrows a warm session from the driver pool when pooling is enabled
      */
     public static void initializeDriver() {
+        if (isBrowserlessTest()) {
+            ITestResult result = Reporter.getCurrentTestResult();
+            logger.error("WebDriver requested by browserless test: {}", result.getMethod().getQualifiedName());
+            throw new IllegalStateException("Test is marked @Browserless but requested a WebDriver: "
+                    + result.getMethod().getQualifiedName());
+        }
+
+        if (ownedSession() != null) {
+            logger.warn("WebDriver already initialized for current thread, releasing it first");
+            quitDriver();
+        }
+
+        WebDriver driver;
+        if (config.isDriverPoolEnabled()) {
+            driver = DriverPool.getInstance().borrow();
+        } else {
+            driver = createDriver();
+        }
+
+        DriverSession session = new DriverSession(driver, resolveOwner(config.getDriverScope()));
+        sessionThreadLocal.set(session);
+        activeSessions.add(session);
+        logger.info("Driver initialized successfully: {} (scope: {})",
+                driver.getClass().getSimpleName(), config.getDriverScope());
+    }
+
+    /**
+     * Create a new WebDriver instance based on configuration
+     */
+    static WebDriver createDriver() {
         String browser = config.getBrowser().toLowerCase();
         boolean headless = config.isHeadless();
         
@@ -61,38 +105,176 @@ public class DriverManager {
             driver.manage().window().maximize();
         }
         
-        driverThreadLocal.set(driver);
-        logger.info("Driver initialized successfully: {}", driver.getClass().getSimpleName());
+        return driver;
     }
 
     /**
      * Get current WebDriver instance
      */
     public static WebDriver getDriver() {
-        WebDriver driver = driverThreadLocal.get();
-        if (driver == null) {
+        DriverSession session = currentSession();
+        if (session == null) {
             logger.error("WebDriver not initialized. Call initializeDriver() first.");
             throw new IllegalStateException("WebDriver not initialized");
         }
-        return driver;
+        return session.driver;
+    }
+
+    /**
+     * Get current WebDriver instance, initializing one if the thread has none
+     * A session owned by another scope is never reused, so a test does not run on a browser
+     * that is released when another class finishes
+     */
+    public static WebDriver getOrCreateDriver() {
+        if (ownedSession() == null) {
+            initializeDriver();
+        }
+        return getDriver();
+    }
+
+    /**
+     * Get WebDriverWait bound to the current thread's WebDriver
+     */
+    public static WebDriverWait getWait() {
+        WebDriver driver = getOrCreateDriver();
+        DriverSession session = ownedSession();
+        if (session.wait == null) {
+            session.wait = new WebDriverWait(driver, Duration.ofSeconds(config.getExplicitWait()));
+        }
+        return session.wait;
+    }
+
+    /**
+     * Release the current thread's WebDriver if its lifecycle ends with the given scope
+     * Sessions with a wider scope are kept for reuse by later tests
+     */
+    public static void releaseDriver(DriverScope endingScope) {
+        if (currentSession() != null && config.getDriverScope().isReleasedAt(endingScope)) {
+            quitDriver();
+        }
+    }
+
+    /**
+     * Release every session owned by the given scope, regardless of the thread that created it
+     * @param endingScope Scope that is ending
+     * @param owner Owner key of the scope (test class name for class scope)
+     */
+    public static void releaseScope(DriverScope endingScope, String owner) {
+        if (!config.getDriverScope().isReleasedAt(endingScope)) {
+            return;
+        }
+
+        for (DriverSession session : new ArrayList<>(activeSessions)) {
+            if (owner.equals(session.owner)) {
+                release(session);
+            }
+        }
     }
 
     /**
      * Quit current WebDriver instance
+     * Pooled sessions are returned to the driver pool instead of being quit
      */
     public static void quitDriver() {
-        WebDriver driver = driverThreadLocal.get();
-        if (driver != null) {
-            try {
+        DriverSession session = currentSession();
+        sessionThreadLocal.remove();
+        if (session != null) {
+            release(session);
+        } else {
+            logger.warn("No WebDriver instance found to quit");
+        }
+    }
+
+    /**
+     * Quit all WebDriver instances across all threads and shut down the driver pool
+     */
+    public static void quitAllDrivers() {
+        logger.info("Quitting all WebDriver instances");
+        sessionThreadLocal.remove();
+
+        List<DriverSession> sessions = new ArrayList<>(activeSessions);
+        for (DriverSession session : sessions) {
+            release(session);
+        }
+
+        if (DriverPool.isInitialized()) {
+            DriverPool.getInstance().shutdown();
+        }
+    }
+
+    /**
+     * Get the current thread's session, discarding it if another thread already released it
+     */
+    private static DriverSession currentSession() {
+        DriverSession session = sessionThreadLocal.get();
+        if (session != null && session.released) {
+            sessionThreadLocal.remove();
+            return null;
+        }
+        return session;
+    }
+
+    /**
+     * Get the current thread's session if it belongs to the scope of the running test
+     * With class scope and parallel methods a thread also runs tests of other classes, their
+     * sessions are detached from the thread and left to the owning class to release
+     */
+    private static DriverSession ownedSession() {
+        DriverSession session = currentSession();
+        if (session == null || Reporter.getCurrentTestResult() == null) {
+            return session;
+        }
+        String owner = resolveOwner(config.getDriverScope());
+        if (!owner.equals(session.owner)) {
+            logger.debug("Detaching WebDriver session of {} from thread running {}", session.owner, owner);
+            sessionThreadLocal.remove();
+            return null;
+        }
+        return session;
+    }
+
+    /**
+     * Return a session to the pool or quit it, exactly once
+     */
+    private static void release(DriverSession session) {
+        synchronized (session) {
+            if (session.released) {
+                return;
+            }
+            session.released = true;
+        }
+        activeSessions.remove(session);
+
+        WebDriver driver = session.driver;
+        try {
+            if (DriverPool.isInitialized() && DriverPool.getInstance().isPooled(driver)) {
+                DriverPool.getInstance().release(driver);
+                logger.info("WebDriver returned to pool");
+            } else {
                 driver.quit();
                 logger.info("WebDriver quit successfully");
-            } catch (Exception e) {
-                logger.error("Error while quitting WebDriver", e);
-            } finally {
-                driverThreadLocal.remove();
             }
-        } else {
-            logger.warn("No WebDriver instance found to quit");
+        } catch (Exception e) {
+            logger.error("Error while quitting WebDriver", e);
+        }
+    }
+
+    /**
+     * Determine which scope owns a new session
+     */
+    private static String resolveOwner(DriverScope scope) {
+        switch (scope) {
+            case SUITE:
+                return "suite";
+            case CLASS:
+                ITestResult result = Reporter.getCurrentTestResult();
+                if (result != null && result.getTestClass() != null) {
+                    return result.getTestClass().getRealClass().getName();
+                }
+                return "class:" + Thread.currentThread().getId();
+            default:
+                // Thread ids stay unique for virtual threads, which are unnamed by default
+                return "method:" + Thread.currentThread().getId();
         }
     }
 
@@ -100,7 +282,7 @@ public class DriverManager {
      * Create Chrome WebDriver
      */
     private static WebDriver createChromeDriver(boolean headless) {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolve("chrome");
         ChromeOptions options = new ChromeOptions();
         
         if (headless) {
@@ -129,7 +311,7 @@ public class DriverManager {
      * Create Firefox WebDriver
      */
     private static WebDriver createFirefoxDriver(boolean headless) {
-        WebDriverManager.firefoxdriver().setup();
+        DriverBinaryResolver.resolve("firefox");
         FirefoxOptions options = new FirefoxOptions();
         
         if (headless) {
@@ -147,7 +329,7 @@ public class DriverManager {
      * Create Edge WebDriver
      */
     private static WebDriver createEdgeDriver(boolean headless) {
-        WebDriverManager.edgedriver().setup();
+        DriverBinaryResolver.resolve("edge");
         EdgeOptions options = new EdgeOptions();
         
         if (headless) {
@@ -176,17 +358,51 @@ public class DriverManager {
      * Check if driver is initialized
      */
     public static boolean isDriverInitialized() {
-        return driverThreadLocal.get() != null;
+        return currentSession() != null;
+    }
+
+    /**
+     * Check if the currently running test is marked @Browserless
+     */
+    public static boolean isBrowserlessTest() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null || result.getMethod() == null) {
+            return false;
+        }
+        return isBrowserless(result.getMethod().getConstructorOrMethod().getMethod());
+    }
+
+    /**
+     * Check if a test method or its declaring class is marked @Browserless
+     */
+    public static boolean isBrowserless(Method method) {
+        return method != null && (method.isAnnotationPresent(Browserless.class)
+                || method.getDeclaringClass().isAnnotationPresent(Browserless.class));
     }
 
     /**
      * Get current browser name
      */
     public static String getCurrentBrowser() {
-        WebDriver driver = driverThreadLocal.get();
-        if (driver != null) {
-            return driver.getClass().getSimpleName().replace("Driver", "");
+        DriverSession session = currentSession();
+        if (session != null) {
+            return session.driver.getClass().getSimpleName().replace("Driver", "");
         }
         return "No Driver";
     }
+
+    /**
+     * WebDriver and its wait, owned by a single scope
+     */
+    private static class DriverSession {
+        private final WebDriver driver;
+        private final String owner;
+        private WebDriverWait wait;
+        private volatile boolean released;
+
+        private DriverSession(WebDriver driver, String owner) {
+            this.driver = driver;
+            this.owner = owner;
+        }
+    }
 }
\ No newline at end of file
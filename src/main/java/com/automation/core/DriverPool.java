@@ -0,0 +1,313 @@
+package com.automation.core;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of pre-warmed WebDriver sessions
+ * Sessions are borrowed per test, reset on return and recycled after a
+ * configurable number of uses or when a health check fails
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static DriverPool instance;
+
+    private final LinkedBlockingDeque<PooledDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledDriver> borrowedDrivers = new ConcurrentHashMap<>();
+    private final AtomicInteger totalDrivers = new AtomicInteger();
+    private final Semaphore permits;
+    private final ScheduledExecutorService maintenance;
+
+    private final int minSize;
+    private final int maxSize;
+    private final int maxUses;
+    private final long idleTimeoutMillis;
+    private final long borrowTimeoutMillis;
+    private volatile boolean shutdown;
+
+    private DriverPool() {
+        this.minSize = config.getDriverPoolMinSize();
+        this.maxSize = Math.max(config.getDriverPoolMaxSize(), Math.max(minSize, 1));
+        this.maxUses = config.getDriverPoolMaxUses();
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getDriverPoolIdleTimeout());
+        this.borrowTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getDriverPoolBorrowTimeout());
+        this.permits = new Semaphore(maxSize, true);
+
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenance.execute(this::warmUp);
+        maintenance.scheduleWithFixedDelay(this::evictIdleDrivers,
+                idleTimeoutMillis, Math.max(idleTimeoutMillis / 2, 1000), TimeUnit.MILLISECONDS);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+        logger.info("Driver pool created (min: {}, max: {}, max uses: {}, idle timeout: {} ms)",
+                minSize, maxSize, maxUses, idleTimeoutMillis);
+    }
+
+    public static synchronized DriverPool getInstance() {
+        if (instance == null) {
+            instance = new DriverPool();
+        }
+        return instance;
+    }
+
+    /**
+     * Check if the pool has been created
+     */
+    public static synchronized boolean isInitialized() {
+        return instance != null;
+    }
+
+    /**
+     * Borrow a WebDriver session, creating one if no healthy idle session is available
+     */
+    public WebDriver borrow() {
+        if (shutdown) {
+            throw new IllegalStateException("Driver pool has been shut down");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                logger.error("Timed out after {} ms waiting for a pooled WebDriver", borrowTimeoutMillis);
+                throw new IllegalStateException("No WebDriver available in pool within timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a pooled WebDriver", e);
+        }
+
+        try {
+            PooledDriver pooled;
+            while ((pooled = idleDrivers.pollFirst()) != null) {
+                if (isHealthy(pooled)) {
+                    break;
+                }
+                logger.warn("Discarding unhealthy pooled WebDriver after {} uses", pooled.uses);
+                destroy(pooled);
+            }
+
+            if (pooled == null) {
+                pooled = new PooledDriver(DriverManager.createDriver());
+                totalDrivers.incrementAndGet();
+            }
+
+            // Remember the window the test starts in, getWindowHandles() has no defined order
+            pooled.mainHandle = pooled.driver.getWindowHandle();
+            pooled.uses++;
+            borrowedDrivers.put(pooled.driver, pooled);
+            logger.debug("Borrowed WebDriver from pool (use {} of {}, idle: {}, total: {})",
+                    pooled.uses, maxUses, idleDrivers.size(), totalDrivers.get());
+            return pooled.driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return a borrowed WebDriver session, resetting its state for the next test
+     */
+    public void release(WebDriver driver) {
+        PooledDriver pooled = borrowedDrivers.remove(driver);
+        if (pooled == null) {
+            logger.warn("Attempted to return a WebDriver that was not borrowed from the pool");
+            return;
+        }
+
+        try {
+            if (shutdown || pooled.uses >= maxUses) {
+                logger.debug("Recycling WebDriver after {} uses", pooled.uses);
+                destroy(pooled);
+            } else if (resetState(pooled)) {
+                pooled.lastReturned = System.currentTimeMillis();
+                idleDrivers.offerFirst(pooled);
+            } else {
+                destroy(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Check if a WebDriver was borrowed from this pool
+     */
+    public boolean isPooled(WebDriver driver) {
+        return borrowedDrivers.containsKey(driver);
+    }
+
+    /**
+     * Quit all pooled sessions
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        maintenance.shutdownNow();
+
+        List<PooledDriver> drivers = new ArrayList<>();
+        idleDrivers.drainTo(drivers);
+        drivers.addAll(borrowedDrivers.values());
+        borrowedDrivers.clear();
+
+        for (PooledDriver pooled : drivers) {
+            destroy(pooled);
+        }
+        logger.info("Driver pool shut down, {} sessions quit", drivers.size());
+    }
+
+    public int getIdleCount() {
+        return idleDrivers.size();
+    }
+
+    public int getActiveCount() {
+        return borrowedDrivers.size();
+    }
+
+    public int getTotalCount() {
+        return totalDrivers.get();
+    }
+
+    /**
+     * Pre-create the minimum number of sessions
+     */
+    private void warmUp() {
+        while (!shutdown && totalDrivers.get() < minSize && permits.tryAcquire()) {
+            try {
+                PooledDriver pooled = new PooledDriver(DriverManager.createDriver());
+                totalDrivers.incrementAndGet();
+                idleDrivers.offerLast(pooled);
+            } catch (Exception e) {
+                logger.error("Failed to pre-warm WebDriver session", e);
+                break;
+            } finally {
+                permits.release();
+            }
+        }
+        logger.info("Driver pool warmed up with {} idle sessions", idleDrivers.size());
+    }
+
+    /**
+     * Quit sessions idle for longer than the idle timeout, keeping the minimum size
+     */
+    private void evictIdleDrivers() {
+        long now = System.currentTimeMillis();
+        for (PooledDriver pooled : idleDrivers) {
+            if (totalDrivers.get() <= minSize) {
+                break;
+            }
+            if (now - pooled.lastReturned > idleTimeoutMillis && idleDrivers.remove(pooled)) {
+                logger.debug("Evicting WebDriver idle for {} ms", now - pooled.lastReturned);
+                destroy(pooled);
+            }
+        }
+    }
+
+    /**
+     * Clear browser state left behind by the previous test
+     */
+    private boolean resetState(PooledDriver pooled) {
+        WebDriver driver = pooled.driver;
+        try {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException e) {
+                // No open alert
+            }
+
+            Set<String> handles = driver.getWindowHandles();
+            if (!handles.contains(pooled.mainHandle)) {
+                logger.debug("Test closed the main window of a pooled WebDriver");
+                return false;
+            }
+            for (String handle : handles) {
+                if (!handle.equals(pooled.mainHandle)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(pooled.mainHandle);
+
+            // Undo resizing by the test, e.g. responsive layout checks
+            WebDriver.Window window = driver.manage().window();
+            if (!window.getSize().equals(pooled.windowSize)) {
+                window.setSize(pooled.windowSize);
+            }
+            if (!window.getPosition().equals(pooled.windowPosition)) {
+                window.setPosition(pooled.windowPosition);
+            }
+
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to reset pooled WebDriver state, session will be recycled", e);
+            return false;
+        }
+    }
+
+    /**
+     * Verify that the browser session is still responsive
+     */
+    private boolean isHealthy(PooledDriver pooled) {
+        try {
+            pooled.driver.getWindowHandle();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void destroy(PooledDriver pooled) {
+        totalDrivers.decrementAndGet();
+        try {
+            pooled.driver.quit();
+        } catch (Exception e) {
+            logger.error("Error while quitting pooled WebDriver", e);
+        }
+    }
+
+    /**
+     * WebDriver session tracked by the pool
+     */
+    private static class PooledDriver {
+        private final WebDriver driver;
+        private final Dimension windowSize;
+        private final Point windowPosition;
+        private String mainHandle;
+        private int uses;
+        private volatile long lastReturned = System.currentTimeMillis();
+
+        /**
+         * Record the window geometry the driver was created with, restored on every return
+         */
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+            this.windowSize = driver.manage().window().getSize();
+            this.windowPosition = driver.manage().window().getPosition();
+        }
+    }
+}
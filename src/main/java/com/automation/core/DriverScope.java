@@ -0,0 +1,28 @@
+package com.automation.core;
+
+/**
+ * Lifecycle scope of a WebDriver session
+ * Declared from the narrowest to the widest scope
+ */
+public enum DriverScope {
+    METHOD,
+    CLASS,
+    SUITE;
+
+    /**
+     * Check if a session with this scope must be released when the given scope ends
+     */
+    public boolean isReleasedAt(DriverScope endingScope) {
+        return endingScope.ordinal() >= ordinal();
+    }
+
+    /**
+     * Parse scope from configuration value
+     */
+    public static DriverScope fromValue(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return METHOD;
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+}
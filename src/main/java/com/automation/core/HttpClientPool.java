@@ -0,0 +1,405 @@
+package com.automation.core;
+
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared HTTP connection pool for REST Assured
+ * Every request object and API base class sends its calls through one pooling connection
+ * manager, so keep-alive connections are reused across tests instead of each request
+ * object opening its own. REST Assured gets a fresh lightweight client per request over
+ * the shared pool, which keeps per-call settings such as timeouts isolated between threads,
+ * and response bodies are read eagerly so connections go back to the pool right away.
+ * Each client sees its own copy of the scheme registry. HTTPS trust settings applied by a
+ * request (relaxedHTTPSValidation, keyStore) replace a scheme in that copy, and such a client
+ * connects through its own unpooled manager, so the settings never reach other requests
+ */
+// REST Assured 5 is built on the HttpClient 4 classic API (DefaultHttpClient, SchemeRegistry)
+@SuppressWarnings("deprecation")
+public final class HttpClientPool {
+    private static final Logger logger = LogManager.getLogger(HttpClientPool.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private static final LongAdder clientCount = new LongAdder();
+    private static final LongAdder connectionCount = new LongAdder();
+    private static volatile boolean started;
+
+    private HttpClientPool() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Pool created on first use
+     */
+    private static class Holder {
+        private static final SchemeRegistry registry = createRegistry();
+        private static final PoolingClientConnectionManager manager = createManager(registry);
+        private static final ConnectionKeepAliveStrategy keepAliveStrategy =
+                keepAliveStrategy(TimeUnit.SECONDS.toMillis(config.getAPIKeepAliveSeconds()));
+        private static final RestAssuredConfig defaultConfig = createConfig(config.getAPITimeout());
+        private static final ScheduledExecutorService evictor = startEvictor(manager);
+    }
+
+    /**
+     * Get the REST Assured configuration using the shared pool and the default API timeout
+     */
+    public static RestAssuredConfig config() {
+        return Holder.defaultConfig;
+    }
+
+    /**
+     * Get the REST Assured configuration using the shared pool with a custom timeout
+     * @param timeoutSeconds Connect and read timeout in seconds
+     */
+    public static RestAssuredConfig config(int timeoutSeconds) {
+        return timeoutSeconds == config.getAPITimeout() ? Holder.defaultConfig : createConfig(timeoutSeconds);
+    }
+
+    /**
+     * Route all REST Assured calls that do not set their own configuration through the pool
+     */
+    public static void install() {
+        RestAssured.config = config();
+        synchronized (HttpClientPool.class) {
+            if (RestAssured.filters().stream().noneMatch(ReleaseConnectionFilter.class::isInstance)) {
+                RestAssured.filters(new ReleaseConnectionFilter());
+            }
+        }
+    }
+
+    /**
+     * Read the response body as soon as it arrives
+     * REST Assured keeps the body stream open until the body is first accessed, which would
+     * hold the pooled connection for responses that are only checked for their status code
+     */
+    private static class ReleaseConnectionFilter implements Filter {
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec, FilterContext context) {
+            Response response = context.next(requestSpec, responseSpec);
+            response.asByteArray();
+            return response;
+        }
+    }
+
+    private static RestAssuredConfig createConfig(int timeoutSeconds) {
+        int timeoutMillis = (int) TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .httpClientFactory(HttpClientPool::createClient)
+                .dontReuseHttpClientInstance()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, timeoutMillis)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, timeoutMillis);
+        return RestAssuredConfig.config().httpClient(httpClientConfig);
+    }
+
+    /**
+     * Create a client over the shared pool, REST Assured writes its settings into the client
+     * parameters so every client gets its own copy
+     */
+    private static DefaultHttpClient createClient() {
+        ClientConnectionManager manager = new ClientConnectionView(Holder.manager, Holder.registry);
+        HttpParams params = new BasicHttpParams();
+        HttpConnectionParams.setTcpNoDelay(params, config.isAPITcpNoDelay());
+        HttpConnectionParams.setSoKeepalive(params, true);
+        DefaultHttpClient client = new DefaultHttpClient(manager, params);
+        client.setKeepAliveStrategy(Holder.keepAliveStrategy);
+        clientCount.increment();
+        return client;
+    }
+
+    private static SchemeRegistry createRegistry() {
+        int bufferSize = config.getAPISocketBufferSize();
+        boolean tcpNoDelay = config.isAPITcpNoDelay();
+
+        SchemeRegistry registry = new SchemeRegistry();
+        registry.register(new Scheme("http", 80, new PlainSocketFactory() {
+            @Override
+            public Socket createSocket(HttpParams params) {
+                return configure(super.createSocket(params), bufferSize, tcpNoDelay);
+            }
+        }));
+        registry.register(new Scheme("https", 443, new SSLSocketFactory(SSLContexts.createDefault(),
+                SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER) {
+            @Override
+            public Socket createSocket(HttpContext context) throws IOException {
+                return configure(super.createSocket(context), bufferSize, tcpNoDelay);
+            }
+        }));
+        return registry;
+    }
+
+    private static PoolingClientConnectionManager createManager(SchemeRegistry registry) {
+        int maxTotal = Math.max(config.getAPIPoolMaxTotal(), 1);
+        int maxPerRoute = Math.max(Math.min(config.getAPIPoolMaxPerRoute(), maxTotal), 1);
+
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager(registry);
+        manager.setMaxTotal(maxTotal);
+        manager.setDefaultMaxPerRoute(maxPerRoute);
+        Runtime.getRuntime().addShutdownHook(new Thread(HttpClientPool::shutdown, "http-pool-shutdown"));
+        logger.info("HTTP connection pool created (max total: {}, max per route: {}, keep-alive: {}s, "
+                + "socket buffer: {} bytes, TCP_NODELAY: {})", maxTotal, maxPerRoute,
+                config.getAPIKeepAliveSeconds(), config.getAPISocketBufferSize(), config.isAPITcpNoDelay());
+        return manager;
+    }
+
+    /**
+     * Connection manager of a single client
+     * Connections come from the shared pool while the client's scheme registry copy matches the
+     * shared one. Once a request replaces a scheme, e.g. with relaxed HTTPS validation, the client
+     * switches to its own manager over the copy and closes its connections after use
+     */
+    private static class ClientConnectionView implements ClientConnectionManager {
+        private final PoolingClientConnectionManager pool;
+        private final SchemeRegistry shared;
+        private final SchemeRegistry registry = new SchemeRegistry();
+        private BasicClientConnectionManager isolated;
+
+        private ClientConnectionView(PoolingClientConnectionManager pool, SchemeRegistry shared) {
+            this.pool = pool;
+            this.shared = shared;
+            for (String name : shared.getSchemeNames()) {
+                registry.register(shared.get(name));
+            }
+        }
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return registry;
+        }
+
+        @Override
+        public synchronized ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            if (isolated == null && !matchesShared()) {
+                isolated = new BasicClientConnectionManager(registry);
+            }
+            return isolated == null ? pool.requestConnection(route, state) : isolated.requestConnection(route, state);
+        }
+
+        @Override
+        public synchronized void releaseConnection(ManagedClientConnection connection, long validDuration,
+                                                   TimeUnit timeUnit) {
+            if (isolated == null) {
+                pool.releaseConnection(connection, validDuration, timeUnit);
+                return;
+            }
+            // Custom trust settings are not worth keeping a connection alive for
+            isolated.releaseConnection(connection, validDuration, timeUnit);
+            isolated.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public synchronized void closeIdleConnections(long idleTime, TimeUnit timeUnit) {
+            // The shared pool is cleaned up by the evictor
+            if (isolated != null) {
+                isolated.closeIdleConnections(idleTime, timeUnit);
+            }
+        }
+
+        @Override
+        public synchronized void closeExpiredConnections() {
+            if (isolated != null) {
+                isolated.closeExpiredConnections();
+            }
+        }
+
+        @Override
+        public synchronized void shutdown() {
+            // Never shut down the shared pool on behalf of one client
+            if (isolated != null) {
+                isolated.shutdown();
+            }
+        }
+
+        private boolean matchesShared() {
+            for (String name : registry.getSchemeNames()) {
+                if (registry.get(name) != shared.get(name)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Apply socket options before connecting, receive buffers above 64 KB only take effect
+     * when set before the TCP handshake
+     */
+    private static Socket configure(Socket socket, int bufferSize, boolean tcpNoDelay) {
+        try {
+            socket.setTcpNoDelay(tcpNoDelay);
+            socket.setKeepAlive(true);
+            if (bufferSize > 0) {
+                socket.setReceiveBufferSize(bufferSize);
+                socket.setSendBufferSize(bufferSize);
+            }
+        } catch (SocketException e) {
+            logger.debug("Could not apply socket options", e);
+        }
+        connectionCount.increment();
+        return socket;
+    }
+
+    /**
+     * Keep connections for the duration the server advertises, capped at the configured keep-alive
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long maxKeepAliveMillis) {
+        return (HttpResponse response, HttpContext context) -> {
+            HeaderElementIterator elements = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (elements.hasNext()) {
+                HeaderElement element = elements.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Math.min(Long.parseLong(element.getValue()) * 1000, maxKeepAliveMillis);
+                    } catch (NumberFormatException e) {
+                        break;
+                    }
+                }
+            }
+            return maxKeepAliveMillis;
+        };
+    }
+
+    /**
+     * Close expired connections and connections idle longer than the keep-alive in the background
+     */
+    private static ScheduledExecutorService startEvictor(PoolingClientConnectionManager manager) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long keepAliveSeconds = Math.max(config.getAPIKeepAliveSeconds(), 1);
+        long period = Math.max(1, keepAliveSeconds / 2);
+        started = true;
+        executor.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(keepAliveSeconds, TimeUnit.SECONDS);
+        }, period, period, TimeUnit.SECONDS);
+        return executor;
+    }
+
+    /**
+     * Close all pooled connections
+     */
+    public static void shutdown() {
+        if (!started) {
+            return;
+        }
+        Holder.evictor.shutdownNow();
+        Holder.manager.shutdown();
+        logger.info("HTTP connection pool shut down: {}", getStats());
+    }
+
+    private static PoolStats totalStats() {
+        return Holder.manager.getTotalStats();
+    }
+
+    /**
+     * Check whether the pool has been created, it is created by the first API request or setup
+     */
+    public static boolean isStarted() {
+        return started;
+    }
+
+    /**
+     * Get number of connections currently leased to requests
+     */
+    public static int getLeasedCount() {
+        return totalStats().getLeased();
+    }
+
+    /**
+     * Get number of idle keep-alive connections ready for reuse
+     */
+    public static int getAvailableCount() {
+        return totalStats().getAvailable();
+    }
+
+    /**
+     * Get number of requests waiting for a connection
+     */
+    public static int getPendingCount() {
+        return totalStats().getPending();
+    }
+
+    public static int getMaxTotal() {
+        return totalStats().getMax();
+    }
+
+    public static int getMaxPerRoute() {
+        return Holder.manager.getDefaultMaxPerRoute();
+    }
+
+    /**
+     * Get number of requests sent through the pool
+     */
+    public static long getRequestCount() {
+        return clientCount.sum();
+    }
+
+    /**
+     * Get number of TCP connections opened by the pool
+     */
+    public static long getConnectionCount() {
+        return connectionCount.sum();
+    }
+
+    /**
+     * Get share of requests that reused an open connection
+     */
+    public static double getReuseRatio() {
+        long requests = getRequestCount();
+        return requests == 0 ? 0 : Math.max(0, requests - getConnectionCount()) / (double) requests;
+    }
+
+    /**
+     * Get pool statistics
+     */
+    public static String getStats() {
+        PoolStats stats = totalStats();
+        return String.format("HttpClientPool[leased=%d, available=%d, pending=%d, max=%d, maxPerRoute=%d, "
+                        + "requests=%d, connections=%d, reuseRatio=%.2f]",
+                stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax(), getMaxPerRoute(),
+                getRequestCount(), getConnectionCount(), getReuseRatio());
+    }
+}
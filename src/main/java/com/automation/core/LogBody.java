@@ -0,0 +1,148 @@
+package com.automation.core;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.ResponseBody;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Request or response body as a log parameter
+ * The body is only rendered when the logger level is enabled. Rendering happens on the calling
+ * thread, Async appenders receive the already formatted message. Text is appended straight into
+ * Log4j's reusable buffer cut to log.body.max.length characters, other objects are serialized as
+ * JSON through a writer that stops at the limit, so a large payload never produces a full-size
+ * copy just to be logged.
+ * <pre>
+ * logger.info("Response Body: {}", LogBody.of(response.getBody()));
+ * </pre>
+ */
+public final class LogBody implements StringBuilderFormattable {
+    private static final int MAX_LENGTH = ConfigManager.getInstance().getLogBodyMaxLength();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Object body;
+
+    private LogBody(Object body) {
+        this.body = body;
+    }
+
+    /**
+     * Wrap a request body, strings are logged as is and other objects as JSON
+     */
+    public static LogBody of(Object body) {
+        return new LogBody(body);
+    }
+
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        if (body == null || body instanceof CharSequence || body instanceof ResponseBody) {
+            appendText(buffer, text());
+        } else {
+            appendObject(buffer);
+        }
+    }
+
+    private void appendText(StringBuilder buffer, CharSequence text) {
+        int length = text.length();
+        if (MAX_LENGTH <= 0 || length <= MAX_LENGTH) {
+            buffer.append(text);
+        } else {
+            buffer.append(text, 0, MAX_LENGTH)
+                    .append("... (")
+                    .append(length - MAX_LENGTH)
+                    .append(" more characters)");
+        }
+    }
+
+    /**
+     * Serialize the body into the buffer, abandoning serialization once the limit is reached
+     */
+    private void appendObject(StringBuilder buffer) {
+        int start = buffer.length();
+        BoundedWriter writer = new BoundedWriter(buffer, MAX_LENGTH);
+        try {
+            objectMapper.writeValue(writer, body);
+        } catch (IOException e) {
+            if (!writer.isFull()) {
+                // Not serializable as JSON, fall back to toString
+                buffer.setLength(start);
+                appendText(buffer, String.valueOf(body));
+                return;
+            }
+        }
+        if (writer.isFull()) {
+            buffer.append("... (truncated)");
+        }
+    }
+
+    private CharSequence text() {
+        if (body instanceof CharSequence) {
+            return (CharSequence) body;
+        }
+        if (body instanceof ResponseBody) {
+            // Already held in memory, the pool reads response bodies eagerly
+            return ((ResponseBody<?>) body).asString();
+        }
+        return String.valueOf(body);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buffer = new StringBuilder();
+        formatTo(buffer);
+        return buffer.toString();
+    }
+
+    /**
+     * Appends to a buffer until the limit, then fails the write to stop the serializer
+     */
+    private static final class BoundedWriter extends Writer {
+        private final StringBuilder buffer;
+        private final int limit;
+        private int written;
+        private boolean full;
+
+        private BoundedWriter(StringBuilder buffer, int limit) {
+            this.buffer = buffer;
+            this.limit = limit <= 0 ? Integer.MAX_VALUE : limit;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            int accepted = Math.min(length, limit - written);
+            buffer.append(chars, offset, accepted);
+            written += accepted;
+            if (accepted < length) {
+                full = true;
+                throw new IOException("Log body limit reached");
+            }
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            int accepted = Math.min(length, limit - written);
+            buffer.append(text, offset, offset + accepted);
+            written += accepted;
+            if (accepted < length) {
+                full = true;
+                throw new IOException("Log body limit reached");
+            }
+        }
+
+        private boolean isFull() {
+            return full;
+        }
+
+        @Override
+        public void flush() {
+            // Nothing buffered
+        }
+
+        @Override
+        public void close() {
+            // The target buffer stays open
+        }
+    }
+}
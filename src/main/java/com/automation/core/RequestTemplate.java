@@ -0,0 +1,196 @@
+package com.automation.core;
+
+import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable request defaults for REST Assured
+ * Every withX call returns a new template and leaves the original untouched, so a template
+ * can be shared by any number of threads and derived per call without locking. A derivation
+ * copies only the part it changes and shares the rest with the original.
+ * REST Assured specifications are mutable, so each call gets its own from newRequest
+ */
+public final class RequestTemplate {
+    private static final RequestTemplate EMPTY = new RequestTemplate(Collections.emptyMap(),
+            Collections.emptyMap(), Collections.emptyMap(), null, null, null, null);
+
+    private final Map<String, String> headers;
+    private final Map<String, Object> queryParams;
+    private final Map<String, Object> pathParams;
+    private final String contentType;
+    private final String accept;
+    private final Object body;
+    private final RestAssuredConfig config;
+
+    private RequestTemplate(Map<String, String> headers, Map<String, Object> queryParams,
+                            Map<String, Object> pathParams, String contentType, String accept, Object body,
+                            RestAssuredConfig config) {
+        this.headers = headers;
+        this.queryParams = queryParams;
+        this.pathParams = pathParams;
+        this.contentType = contentType;
+        this.accept = accept;
+        this.body = body;
+        this.config = config;
+    }
+
+    /**
+     * Get a template without any defaults
+     */
+    public static RequestTemplate empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Set a header, replacing an existing header with the same name
+     */
+    public RequestTemplate withHeader(String name, String value) {
+        return new RequestTemplate(with(headers, name, value), queryParams, pathParams, contentType, accept, body,
+                config);
+    }
+
+    /**
+     * Set several headers, replacing existing headers with the same names
+     */
+    public RequestTemplate withHeaders(Map<String, String> values) {
+        return new RequestTemplate(with(headers, values), queryParams, pathParams, contentType, accept, body, config);
+    }
+
+    /**
+     * Remove a header
+     */
+    public RequestTemplate withoutHeader(String name) {
+        if (!headers.containsKey(name)) {
+            return this;
+        }
+        Map<String, String> copy = new LinkedHashMap<>(headers);
+        copy.remove(name);
+        return new RequestTemplate(Collections.unmodifiableMap(copy), queryParams, pathParams, contentType, accept,
+                body, config);
+    }
+
+    public RequestTemplate withQueryParam(String name, Object value) {
+        return new RequestTemplate(headers, with(queryParams, name, value), pathParams, contentType, accept, body,
+                config);
+    }
+
+    public RequestTemplate withQueryParams(Map<String, ?> values) {
+        return new RequestTemplate(headers, with(queryParams, values), pathParams, contentType, accept, body, config);
+    }
+
+    public RequestTemplate withPathParam(String name, Object value) {
+        return new RequestTemplate(headers, queryParams, with(pathParams, name, value), contentType, accept, body,
+                config);
+    }
+
+    public RequestTemplate withPathParams(Map<String, ?> values) {
+        return new RequestTemplate(headers, queryParams, with(pathParams, values), contentType, accept, body, config);
+    }
+
+    public RequestTemplate withContentType(ContentType contentType) {
+        return withContentType(contentType.toString());
+    }
+
+    public RequestTemplate withContentType(String contentType) {
+        return new RequestTemplate(headers, queryParams, pathParams, contentType, accept, body, config);
+    }
+
+    public RequestTemplate withAccept(ContentType accept) {
+        return withAccept(accept.getAcceptHeader());
+    }
+
+    public RequestTemplate withAccept(String accept) {
+        return new RequestTemplate(headers, queryParams, pathParams, contentType, accept, body, config);
+    }
+
+    /**
+     * Set the body sent with every request, the object itself is shared and should not be modified
+     */
+    public RequestTemplate withBody(Object body) {
+        return new RequestTemplate(headers, queryParams, pathParams, contentType, accept, body, config);
+    }
+
+    /**
+     * Set the REST Assured configuration, null uses RestAssured.config
+     */
+    public RequestTemplate withConfig(RestAssuredConfig config) {
+        return new RequestTemplate(headers, queryParams, pathParams, contentType, accept, body, config);
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public Map<String, Object> getQueryParams() {
+        return queryParams;
+    }
+
+    public Map<String, Object> getPathParams() {
+        return pathParams;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getAccept() {
+        return accept;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    /**
+     * Create a request specification holding these defaults for a single call
+     */
+    public RequestSpecification newRequest() {
+        RequestSpecification spec = RestAssured.given();
+        if (config != null) {
+            spec.config(config);
+        }
+        if (!headers.isEmpty()) {
+            spec.headers(headers);
+        }
+        if (!queryParams.isEmpty()) {
+            spec.queryParams(queryParams);
+        }
+        if (!pathParams.isEmpty()) {
+            spec.pathParams(pathParams);
+        }
+        if (contentType != null) {
+            spec.contentType(contentType);
+        }
+        if (accept != null) {
+            spec.accept(accept);
+        }
+        if (body != null) {
+            spec.body(body);
+        }
+        return spec;
+    }
+
+    private static <V> Map<String, V> with(Map<String, V> map, String key, V value) {
+        Map<String, V> copy = new LinkedHashMap<>(map);
+        copy.put(key, value);
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static <V> Map<String, V> with(Map<String, V> map, Map<String, ? extends V> values) {
+        Map<String, V> copy = new LinkedHashMap<>(map);
+        copy.putAll(values);
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RequestTemplate[headers=%s, queryParams=%s, pathParams=%s, contentType=%s, accept=%s, "
+                + "body=%s]", headers.keySet(), queryParams, pathParams, contentType, accept, body != null);
+    }
+}
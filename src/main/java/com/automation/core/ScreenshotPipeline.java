@@ -0,0 +1,230 @@
+package com.automation.core;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background writer for screenshots
+ * The test thread only grabs the PNG bytes from the driver, which is the one step that needs
+ * the browser. Downscaling, re-encoding and the file write run on a small dedicated pool, so
+ * teardown and the next test's driver reuse are not held up by disk I/O.
+ * The queue is bounded: when it is full the test thread writes the screenshot itself, which
+ * slows a burst of failures down instead of dropping screenshots or growing memory.
+ * The returned path is final right away and can be attached to reports, the file exists once
+ * the write completes; flush waits for all pending writes and runs at suite end
+ */
+public final class ScreenshotPipeline {
+    private static final Logger logger = LogManager.getLogger(ScreenshotPipeline.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private static final AtomicLong sequence = new AtomicLong();
+    private static final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+    private static final LongAdder writtenCount = new LongAdder();
+    private static final LongAdder failedCount = new LongAdder();
+    private static final LongAdder callerRunsCount = new LongAdder();
+    private static volatile boolean started;
+
+    private ScreenshotPipeline() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Writer pool created on first screenshot
+     */
+    private static class Holder {
+        private static final ThreadPoolExecutor executor = createExecutor();
+    }
+
+    /**
+     * Take a screenshot and write it in the background
+     * @param driver Driver to take the screenshot from
+     * @param directory Target directory
+     * @param baseName File name without extension, a sequence number and the extension
+     *                 following screenshot.format are appended
+     * @return Path the screenshot is written to
+     */
+    public static String capture(WebDriver driver, String directory, String baseName) {
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        return submit(png, directory, baseName);
+    }
+
+    /**
+     * Write PNG bytes in the background
+     * Parallel data-driven rows share a test name and timestamp, the sequence number keeps
+     * their screenshots apart
+     * @return Path the screenshot is written to
+     */
+    public static String submit(byte[] png, String directory, String baseName) {
+        String format = config.getScreenshotFormat();
+        Path path = Paths.get(directory, baseName + "_" + sequence.incrementAndGet() + "." + format);
+        pending.add(Holder.executor.submit(() -> write(png, path, format)));
+        pending.removeIf(Future::isDone);
+        return path.toString();
+    }
+
+    /**
+     * Wait for all submitted screenshots to be written
+     * @param timeoutSeconds Longest time to wait in total
+     * @return true if every write completed in time
+     */
+    public static boolean flush(long timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        Future<?> future;
+        while ((future = pending.poll()) != null) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                // Already logged by the writer
+            } catch (TimeoutException e) {
+                logger.warn("Screenshot writes still pending after {}s: {}", timeoutSeconds, pending.size() + 1);
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Wait for all submitted screenshots using the configured timeout
+     */
+    public static boolean flush() {
+        return flush(config.getScreenshotFlushTimeout());
+    }
+
+    private static void write(byte[] png, Path path, String format) {
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            int maxWidth = config.getScreenshotMaxWidth();
+            if ("png".equals(format) && maxWidth <= 0) {
+                Files.write(path, png, StandardOpenOption.CREATE_NEW);
+            } else {
+                BufferedImage image = encodeable(ImageIO.read(new ByteArrayInputStream(png)), maxWidth, format);
+                boolean encoded;
+                try (OutputStream output = Files.newOutputStream(path, StandardOpenOption.CREATE_NEW)) {
+                    encoded = ImageIO.write(image, format, output);
+                }
+                if (!encoded) {
+                    Files.deleteIfExists(path);
+                    throw new IOException("No image writer for format: " + format);
+                }
+            }
+            writtenCount.increment();
+            logger.info("Screenshot saved: {}", path);
+        } catch (IOException | RuntimeException e) {
+            failedCount.increment();
+            logger.error("Failed to write screenshot: {}", path, e);
+        }
+    }
+
+    /**
+     * Downscale to the maximum width and drop the alpha channel for formats without one
+     */
+    private static BufferedImage encodeable(BufferedImage image, int maxWidth, String format) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (maxWidth > 0 && width > maxWidth) {
+            height = Math.max(1, (int) ((long) height * maxWidth / width));
+            width = maxWidth;
+        }
+        boolean alpha = "png".equals(format);
+        if (width == image.getWidth() && (alpha || !image.getColorModel().hasAlpha())) {
+            return image;
+        }
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        int threads = Math.max(1, config.getScreenshotWriterThreads());
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.getScreenshotQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    // Queue full, write on the calling thread
+                    callerRunsCount.increment();
+                    runnable.run();
+                });
+        Runtime.getRuntime().addShutdownHook(new Thread(ScreenshotPipeline::flush, "screenshot-flush"));
+        started = true;
+        logger.info("Screenshot pipeline started (writer threads: {}, queue capacity: {}, format: {}, max width: {})",
+                threads, config.getScreenshotQueueCapacity(), config.getScreenshotFormat(),
+                config.getScreenshotMaxWidth());
+        return executor;
+    }
+
+    /**
+     * Check if any screenshot was submitted
+     */
+    public static boolean isStarted() {
+        return started;
+    }
+
+    public static int getPendingCount() {
+        pending.removeIf(Future::isDone);
+        return pending.size();
+    }
+
+    public static long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public static long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    /**
+     * Get number of screenshots written on the test thread because the queue was full
+     */
+    public static long getCallerRunsCount() {
+        return callerRunsCount.sum();
+    }
+
+    /**
+     * Get pipeline statistics for logging
+     */
+    public static String getStats() {
+        return String.format("written=%d, failed=%d, pending=%d, written on test thread=%d",
+                getWrittenCount(), getFailedCount(), getPendingCount(), getCallerRunsCount());
+    }
+}
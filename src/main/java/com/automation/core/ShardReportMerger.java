@@ -0,0 +1,66 @@
+package com.automation.core;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Combines the Extent JSON archives of sharded runs into one HTML report
+ * Copy the shard-*.json files of all runners into one directory and run
+ * java com.automation.core.ShardReportMerger [directory]. Allure needs no merge step, every
+ * result file has a unique name, so the allure-results directories can be copied together
+ */
+public final class ShardReportMerger {
+    private static final Logger logger = LogManager.getLogger(ShardReportMerger.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private ShardReportMerger() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : config.getExtentReportPath());
+        Path report = merge(directory);
+        if (report == null) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Merge all shard archives of a directory into index.html
+     * @param directory Directory holding the shard-*.json archives
+     * @return Path of the merged report, null when no archive was found
+     */
+    public static Path merge(Path directory) throws IOException {
+        List<Path> archives = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "shard-*.json")) {
+            stream.forEach(archives::add);
+        }
+        if (archives.isEmpty()) {
+            logger.error("No shard archives found in: {}", directory);
+            return null;
+        }
+        archives.sort(null);
+
+        ExtentReports extent = new ExtentReports();
+        for (Path archive : archives) {
+            extent.createDomainFromJsonArchive(archive.toString());
+            logger.info("Merged shard archive: {}", archive);
+        }
+        Path report = directory.resolve("index.html");
+        extent.attachReporter(new ExtentSparkReporter(report.toString()));
+        extent.flush();
+
+        logger.info("Merged {} shards into: {}", archives.size(), report);
+        return report;
+    }
+}
@@ -0,0 +1,172 @@
+package com.automation.core;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Historical test method durations used to schedule long tests first
+ * TestListener adds the duration of every finished invocation, at suite end the total per
+ * method is folded into a moving average and saved to scheduler.durations.path. The next run
+ * starts ready methods longest-processing-time first, so a slow test does not start last and
+ * leave the other threads idle at the end of the run. Methods without history are assumed
+ * to take as long as the average method of their class
+ */
+public final class TestDurations {
+    private static final Logger logger = LogManager.getLogger(TestDurations.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    // Weight of the latest run in the moving average
+    private static final double SMOOTHING = 0.5;
+
+    private static final Map<String, Long> history = load(Paths.get(config.getSchedulerDurationsPath()));
+    private static final Map<String, Long> classAverages = averageByClass(history);
+    private static final Map<String, LongAdder> currentRun = new ConcurrentHashMap<>();
+
+    private TestDurations() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Add the duration of a finished test invocation to the current run
+     */
+    public static void record(ITestResult result) {
+        long millis = result.getEndMillis() - result.getStartMillis();
+        if (millis >= 0) {
+            currentRun.computeIfAbsent(key(result.getMethod()), k -> new LongAdder()).add(millis);
+        }
+    }
+
+    /**
+     * Get the expected duration of a method in milliseconds
+     * @return Average of previous runs, the class average without history, 0 when nothing is known
+     */
+    public static long getExpectedMillis(ITestNGMethod method) {
+        Long millis = history.get(key(method));
+        if (millis != null) {
+            return millis;
+        }
+        return classAverages.getOrDefault(method.getRealClass().getName(), 0L);
+    }
+
+    /**
+     * Wrap a TestNG method comparator so longer methods come first
+     * Explicit priorities still win, methods of equal expected duration keep the original order
+     */
+    public static Comparator<ITestNGMethod> longestFirst(Comparator<ITestNGMethod> comparator) {
+        Comparator<ITestNGMethod> lpt = Comparator.comparingInt(ITestNGMethod::getPriority)
+                .thenComparing(Comparator.comparingLong(TestDurations::getExpectedMillis).reversed());
+        return comparator == null ? lpt : lpt.thenComparing(comparator);
+    }
+
+    public static boolean hasHistory() {
+        return !history.isEmpty();
+    }
+
+    /**
+     * Fold the current run into the stored averages and save them
+     * The file is re-read first, so runs sharing the store only update their own methods
+     */
+    public static synchronized void save() {
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        Path path = Paths.get(config.getSchedulerDurationsPath());
+        Map<String, Long> merged = load(path);
+        for (Map.Entry<String, LongAdder> entry : currentRun.entrySet()) {
+            long millis = entry.getValue().sum();
+            Long previous = merged.get(entry.getKey());
+            merged.put(entry.getKey(), previous == null ? millis
+                    : Math.round(previous * (1 - SMOOTHING) + millis * SMOOTHING));
+        }
+
+        Properties properties = new Properties();
+        merged.forEach((key, millis) -> properties.setProperty(key, Long.toString(millis)));
+        try {
+            Path absolute = path.toAbsolutePath();
+            Files.createDirectories(absolute.getParent());
+            Path temp = Files.createTempFile(absolute.getParent(), "durations", ".tmp");
+            try {
+                try (OutputStream output = Files.newOutputStream(temp)) {
+                    properties.store(output, "Test method durations in milliseconds");
+                }
+                try {
+                    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            logger.info("Saved durations of {} test methods to: {}", currentRun.size(), path);
+            currentRun.clear();
+        } catch (IOException e) {
+            logger.error("Failed to save test durations to: {}", path, e);
+        }
+    }
+
+    /**
+     * Read a durations file without folding it into the scheduling history
+     * @return Method durations keyed by class#method, empty when the file is missing or unreadable
+     */
+    public static Map<String, Long> read(Path path) {
+        return load(path);
+    }
+
+    private static Map<String, Long> load(Path path) {
+        Map<String, Long> durations = new ConcurrentHashMap<>();
+        if (!Files.exists(path)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(path)) {
+            properties.load(input);
+        } catch (IOException e) {
+            logger.warn("Failed to read test durations from: {}", path, e);
+            return durations;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            if (key.indexOf('#') < 0) {
+                continue;
+            }
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring invalid duration for {}", key);
+            }
+        }
+        return durations;
+    }
+
+    private static Map<String, Long> averageByClass(Map<String, Long> durations) {
+        Map<String, long[]> totals = new HashMap<>();
+        durations.forEach((key, millis) -> {
+            long[] total = totals.computeIfAbsent(key.substring(0, key.indexOf('#')), k -> new long[2]);
+            total[0] += millis;
+            total[1]++;
+        });
+        Map<String, Long> averages = new HashMap<>();
+        totals.forEach((className, total) -> averages.put(className, total[0] / total[1]));
+        return averages;
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+}
@@ -1,6 +1,5 @@
 package com.automation.core;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
@@ -12,8 +11,7 @@ import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 
-import java.io.File;
-import java.io.IOException;
+import java.lang.reflect.Method;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -33,15 +31,22 @@ public class UIBaseTest {
     protected Actions actions;
 
     @BeforeMethod
-    public void setUp() {
+    public void setUp(Method method) {
+        if (DriverManager.isBrowserless(method)) {
+            logger.info("Skipping WebDriver setup for browserless test: {}", method.getName());
+            driver = null;
+            wait = null;
+            actions = null;
+            return;
+        }
+        
         logger.info("Starting UI test setup");
         
-        // Initialize WebDriver
-        DriverManager.initializeDriver();
-        driver = DriverManager.getDriver();
+        // Initialize WebDriver, reusing the session when driver scope is wider than a method
+        driver = DriverManager.getOrCreateDriver();
         
         // Initialize WebDriverWait
-        wait = new WebDriverWait(driver, Duration.ofSeconds(config.getExplicitWait()));
+        wait = DriverManager.getWait();
         
         // Initialize Actions
         actions = new Actions(driver);
@@ -60,12 +65,12 @@ public class UIBaseTest {
         logger.info("Starting UI test teardown");
         
         // Take screenshot on failure
-        if (result.getStatus() == ITestResult.FAILURE) {
+        if (result.getStatus() == ITestResult.FAILURE && DriverManager.isDriverInitialized()) {
             captureScreenshot(result.getMethod().getMethodName());
         }
         
-        // Quit WebDriver
-        DriverManager.quitDriver();
+        // Release WebDriver if its scope ends with this method
+        DriverManager.releaseDriver(DriverScope.METHOD);
         
         logger.info("UI test teardown completed");
     }
@@ -440,26 +445,20 @@ public class UIBaseTest {
 
     /**
      * Capture screenshot
+     * The file is written in the background, see ScreenshotPipeline
      * @param testName Test name for screenshot file
      * @return Screenshot file path
      */
     protected String captureScreenshot(String testName) {
         try {
-            TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
-            
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String fileName = testName + "_" + timestamp + ".png";
-            String screenshotPath = config.getScreenshotPath() + fileName;
-            
-            File destFile = new File(screenshotPath);
-            destFile.getParentFile().mkdirs();
-            FileUtils.copyFile(sourceFile, destFile);
+            String screenshotPath = ScreenshotPipeline.capture(driver, config.getScreenshotPath(),
+                    testName + "_" + timestamp);
             
             logger.info("Screenshot captured: {}", screenshotPath);
             return screenshotPath;
             
-        } catch (IOException e) {
+        } catch (WebDriverException e) {
             logger.error("Failed to capture screenshot", e);
             return null;
         }
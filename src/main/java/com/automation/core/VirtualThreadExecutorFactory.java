@@ -0,0 +1,100 @@
+package com.automation.core;
+
+import io.cucumber.testng.AbstractTestNGCucumberTests;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IDynamicGraph;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.internal.thread.graph.GraphThreadPoolExecutor;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+import org.testng.thread.IWorker;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs I/O-bound test methods on virtual threads
+ * A &lt;test&gt; runs on virtual threads when execution.mode=virtual, the JVM supports
+ * them and none of its methods need a browser; its thread-count is then raised to
+ * execution.virtual.max.concurrency. All other tests keep TestNG's platform pool.
+ * With scheduler.duration.aware ready methods are started longest-first using the
+ * durations of earlier runs, see TestDurations.
+ * Register with -threadpoolfactoryclass (see the java21 Maven profile)
+ */
+public class VirtualThreadExecutorFactory extends DefaultThreadPoolExecutorFactory {
+    private static final Logger logger = LogManager.getLogger(VirtualThreadExecutorFactory.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+            IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize, int maximumPoolSize, long keepAliveTime,
+            TimeUnit unit, BlockingQueue<Runnable> workQueue, Comparator<ITestNGMethod> comparator) {
+        if (config.isSchedulerDurationAware()) {
+            comparator = TestDurations.longestFirst(comparator);
+            workQueue = orderedQueue(comparator);
+        }
+        if (!config.isVirtualThreadExecution()) {
+            return super.newTestMethodExecutor(name, graph, factory, corePoolSize, maximumPoolSize,
+                    keepAliveTime, unit, workQueue, comparator);
+        }
+        if (!VirtualThreads.isSupported()) {
+            logger.warn("execution.mode=virtual but Java {} has no virtual threads, using platform threads",
+                    System.getProperty("java.version"));
+            return super.newTestMethodExecutor(name, graph, factory, corePoolSize, maximumPoolSize,
+                    keepAliveTime, unit, workQueue, comparator);
+        }
+        if (requiresBrowser(graph)) {
+            logger.info("Running {} on platform threads, it contains browser tests", name);
+            return super.newTestMethodExecutor(name, graph, factory, corePoolSize, maximumPoolSize,
+                    keepAliveTime, unit, workQueue, comparator);
+        }
+
+        int concurrency = Math.max(maximumPoolSize, config.getVirtualThreadMaxConcurrency());
+        GraphThreadPoolExecutor<ITestNGMethod> executor = new GraphThreadPoolExecutor<>(name, graph, factory,
+                concurrency, concurrency, keepAliveTime, unit, workQueue, comparator);
+        executor.setThreadFactory(VirtualThreads.newFactory("testng-virtual-"));
+        logger.info("Running {} on virtual threads (max concurrency: {})", name, concurrency);
+        return executor;
+    }
+
+    /**
+     * Create a work queue that hands out queued methods in the comparator's order
+     * TestNG's own queue orders workers by priority only, which would undo the order of
+     * methods that become ready together
+     */
+    private static BlockingQueue<Runnable> orderedQueue(Comparator<ITestNGMethod> comparator) {
+        Comparator<ITestNGMethod> methods = Comparator.nullsLast(comparator);
+        return new PriorityBlockingQueue<>(16, (a, b) -> methods.compare(firstTask(a), firstTask(b)));
+    }
+
+    private static ITestNGMethod firstTask(Runnable runnable) {
+        if (runnable instanceof IWorker) {
+            List<?> tasks = ((IWorker<?>) runnable).getTasks();
+            if (!tasks.isEmpty() && tasks.get(0) instanceof ITestNGMethod) {
+                return (ITestNGMethod) tasks.get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if any method of the test may launch a browser
+     */
+    private static boolean requiresBrowser(IDynamicGraph<ITestNGMethod> graph) {
+        for (ITestNGMethod method : graph.getNodesWithStatus(IDynamicGraph.Status.READY)) {
+            Class<?> testClass = method.getRealClass();
+            boolean uiClass = BaseUITest.class.isAssignableFrom(testClass)
+                    || UIBaseTest.class.isAssignableFrom(testClass)
+                    || AbstractTestNGCucumberTests.class.isAssignableFrom(testClass);
+            if (uiClass && !DriverManager.isBrowserless(method.getConstructorOrMethod().getMethod())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
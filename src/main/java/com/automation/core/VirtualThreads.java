@@ -0,0 +1,57 @@
+package com.automation.core;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to Java 21 virtual threads from code compiled for Java 11
+ * Virtual thread factories are looked up reflectively so the framework still
+ * builds and runs on older JDKs, where callers fall back to platform threads
+ */
+public final class VirtualThreads {
+    private static final Logger logger = LogManager.getLogger(VirtualThreads.class);
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+
+    private VirtualThreads() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Check if the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Create a factory for virtual threads named prefix0, prefix1, ...
+     * @throws IllegalStateException if the JVM does not support virtual threads
+     */
+    public static ThreadFactory newFactory(String prefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later, running on "
+                    + System.getProperty("java.version"));
+        }
+
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            logger.error("Failed to create virtual thread factory", e);
+            throw new IllegalStateException("Failed to create virtual thread factory", e);
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
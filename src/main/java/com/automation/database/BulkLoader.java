@@ -0,0 +1,369 @@
+package com.automation.database;
+
+import com.automation.core.ConfigManager;
+import com.automation.utils.CSVDataReader;
+import com.automation.utils.ExcelDataProvider;
+import com.automation.utils.JSONDataProvider;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.postgresql.PGConnection;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Bulk loader for seeding test data into a single table
+ * Rows are inserted in batches of the chunk size and committed every commit interval,
+ * so large fixtures never build one huge batch or transaction. CSV files are streamed
+ * to the server with MySQL LOAD DATA LOCAL or PostgreSQL COPY when native loading is enabled
+ */
+public class BulkLoader {
+    private static final Logger logger = LogManager.getLogger(BulkLoader.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private final Connection connection;
+    private final String table;
+    private final List<String> columns;
+    private int chunkSize = config.getDbBatchChunkSize();
+    private int commitInterval = config.getDbBatchCommitInterval();
+    private boolean nativeLoad = config.isDbBulkNativeLoad();
+    private LongConsumer progressListener = rows -> { };
+
+    /**
+     * Create a loader for the given table and columns
+     * @param connection Connection to load through, it is not closed by the loader
+     * @param table Target table
+     * @param columns Target columns, in the order row values are supplied
+     */
+    public BulkLoader(Connection connection, String table, List<String> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("At least one column is required for bulk loading " + table);
+        }
+        this.connection = connection;
+        this.table = table;
+        this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+    }
+
+    /**
+     * Set number of rows sent to the server per batch
+     */
+    public BulkLoader withChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Set number of rows per transaction, 0 leaves transaction control to the caller
+     */
+    public BulkLoader withCommitInterval(int commitInterval) {
+        this.commitInterval = Math.max(commitInterval, 0);
+        return this;
+    }
+
+    /**
+     * Enable or disable LOAD DATA LOCAL / COPY for CSV files
+     */
+    public BulkLoader withNativeLoad(boolean nativeLoad) {
+        this.nativeLoad = nativeLoad;
+        return this;
+    }
+
+    /**
+     * Set listener called with the total number of rows loaded after every chunk
+     */
+    public BulkLoader withProgressListener(LongConsumer progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    /**
+     * Load rows whose values are in column order
+     * @return Number of rows loaded
+     */
+    public long load(Iterable<Object[]> rows) {
+        return load(rows.iterator());
+    }
+
+    /**
+     * Load rows whose values are in column order
+     * @return Number of rows loaded
+     */
+    public long load(Iterator<Object[]> rows) {
+        String sql = buildInsert();
+        logger.info("Bulk loading {} with chunk size {} and commit interval {}", table, chunkSize, commitInterval);
+        long startTime = System.currentTimeMillis();
+
+        return inTransaction(() -> {
+            long loaded = 0;
+            long committed = 0;
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                while (rows.hasNext()) {
+                    Object[] row = rows.next();
+                    for (int i = 0; i < columns.size(); i++) {
+                        statement.setObject(i + 1, i < row.length ? row[i] : null);
+                    }
+                    statement.addBatch();
+
+                    if (++pending == chunkSize) {
+                        statement.executeBatch();
+                        loaded += pending;
+                        pending = 0;
+                        committed = commitIfDue(loaded, committed);
+                        progressListener.accept(loaded);
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                    loaded += pending;
+                    progressListener.accept(loaded);
+                }
+            } catch (SQLException e) {
+                logger.error("Bulk load into {} failed after {} rows ({} committed)", table, loaded, committed, e);
+                throw e;
+            }
+
+            logger.info("Bulk loaded {} rows into {} in {} ms", loaded, table, System.currentTimeMillis() - startTime);
+            return loaded;
+        });
+    }
+
+    /**
+     * Load rows keyed by column name, as returned by the data readers
+     * @return Number of rows loaded
+     */
+    public long loadMaps(Iterable<? extends Map<String, ?>> rows) {
+        Iterator<? extends Map<String, ?>> source = rows.iterator();
+        return load(new Iterator<Object[]>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                Map<String, ?> row = source.next();
+                Object[] values = new Object[columns.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = row.get(columns.get(i));
+                }
+                return values;
+            }
+        });
+    }
+
+    /**
+     * Load a CSV file with a header row
+     * Uses LOAD DATA LOCAL (MySQL) or COPY (PostgreSQL) when native loading is enabled,
+     * otherwise the rows are read with CSVDataReader and inserted in batches
+     * @return Number of rows loaded
+     */
+    public long loadCsv(String filePath) {
+        List<String> headers = nativeLoad ? CSVDataReader.getHeaders(filePath) : Collections.emptyList();
+        if (!headers.isEmpty()) {
+            if (isMySql()) {
+                return loadDataLocal(filePath, headers);
+            }
+            if (isPostgres() && columns.containsAll(headers)) {
+                return copyIn(filePath, headers);
+            }
+            logger.info("Native bulk load not available for {}, falling back to batched inserts", filePath);
+        }
+        return loadMaps(CSVDataReader.readCSVData(filePath));
+    }
+
+    /**
+     * Load a sheet read with ExcelDataProvider
+     * @return Number of rows loaded
+     */
+    public long loadExcel(String filePath, String sheetName) {
+        return loadMaps(ExcelDataProvider.readExcelData(filePath, sheetName));
+    }
+
+    /**
+     * Load a JSON array of objects read with JSONDataProvider
+     * @return Number of rows loaded
+     */
+    public long loadJson(String filePath) {
+        return loadMaps(JSONDataProvider.readJSONData(filePath));
+    }
+
+    /**
+     * Stream a CSV file with MySQL LOAD DATA LOCAL INFILE
+     * Header columns that are not loaded are read into a user variable and discarded. Backslash
+     * escaping is turned off, so values load as written, the same as COPY CSV and batched inserts
+     */
+    private long loadDataLocal(String filePath, List<String> headers) {
+        List<String> targets = new ArrayList<>(headers.size());
+        for (String header : headers) {
+            targets.add(columns.contains(header) ? header : "@skipped");
+        }
+
+        long startTime = System.currentTimeMillis();
+        return inTransaction(() -> {
+            try (InputStream input = new BufferedInputStream(new FileInputStream(filePath));
+                 Statement statement = connection.createStatement()) {
+                String lineTerminator = usesCrLf(filePath) ? "\\r\\n" : "\\n";
+                String sql = "LOAD DATA LOCAL INFILE 'stream' INTO TABLE " + table
+                        + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''"
+                        + " LINES TERMINATED BY '" + lineTerminator + "' IGNORE 1 LINES"
+                        + " (" + String.join(", ", targets) + ")";
+                statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(input);
+
+                long loaded = statement.executeLargeUpdate(sql);
+                progressListener.accept(loaded);
+                logger.info("Loaded {} rows into {} with LOAD DATA LOCAL in {} ms", loaded, table,
+                        System.currentTimeMillis() - startTime);
+                return loaded;
+            } catch (IOException e) {
+                throw new SQLException("Failed to read CSV file: " + filePath, e);
+            }
+        });
+    }
+
+    /**
+     * Stream a CSV file with PostgreSQL COPY FROM STDIN
+     */
+    private long copyIn(String filePath, List<String> headers) {
+        String sql = "COPY " + table + " (" + String.join(", ", headers) + ") FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+        long startTime = System.currentTimeMillis();
+        return inTransaction(() -> {
+            try (Reader reader = new InputStreamReader(new FileInputStream(filePath), StandardCharsets.UTF_8)) {
+                long loaded = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, reader, 1 << 16);
+                progressListener.accept(loaded);
+                logger.info("Loaded {} rows into {} with COPY in {} ms", loaded, table,
+                        System.currentTimeMillis() - startTime);
+                return loaded;
+            } catch (IOException e) {
+                throw new SQLException("Failed to read CSV file: " + filePath, e);
+            }
+        });
+    }
+
+    /**
+     * Commit when the commit interval has been reached since the last commit
+     * @return Row count at the last commit
+     */
+    private long commitIfDue(long loaded, long committed) throws SQLException {
+        if (commitInterval > 0 && loaded - committed >= commitInterval) {
+            connection.commit();
+            logger.info("Committed {} rows into {}", loaded, table);
+            return loaded;
+        }
+        return committed;
+    }
+
+    /**
+     * Run a load with auto-commit disabled, committing the remainder at the end
+     * When a commit interval is set, uncommitted rows are rolled back on failure
+     */
+    private long inTransaction(LoadAction action) {
+        boolean autoCommit;
+        try {
+            autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to start bulk load transaction", e);
+        }
+
+        try {
+            long loaded = action.run();
+            if (commitInterval > 0 || autoCommit) {
+                connection.commit();
+            }
+            return loaded;
+        } catch (SQLException e) {
+            if (commitInterval > 0 || autoCommit) {
+                rollbackQuietly();
+            }
+            throw new RuntimeException("Bulk load into " + table + " failed", e);
+        } finally {
+            if (autoCommit) {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    logger.warn("Failed to restore auto-commit after bulk load", e);
+                }
+            }
+        }
+    }
+
+    private void rollbackQuietly() {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.warn("Failed to roll back bulk load into {}", table, e);
+        }
+    }
+
+    private String buildInsert() {
+        char[] placeholders = new char[columns.size() * 2 - 1];
+        Arrays.fill(placeholders, ',');
+        for (int i = 0; i < placeholders.length; i += 2) {
+            placeholders[i] = '?';
+        }
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + new String(placeholders) + ")";
+    }
+
+    private boolean isMySql() {
+        try {
+            return connection.isWrapperFor(JdbcConnection.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean isPostgres() {
+        try {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static boolean usesCrLf(String filePath) throws IOException {
+        try (InputStream input = new BufferedInputStream(new FileInputStream(filePath))) {
+            int previous = -1;
+            int current;
+            while ((current = input.read()) != -1) {
+                if (current == '\n') {
+                    return previous == '\r';
+                }
+                previous = current;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Load step that may fail with a SQLException
+     */
+    @FunctionalInterface
+    private interface LoadAction {
+        long run() throws SQLException;
+    }
+}
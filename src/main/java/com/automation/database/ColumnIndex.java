@@ -0,0 +1,72 @@
+package com.automation.database;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column labels of a result set, resolved once and shared by every row
+ * Lookups by label are case-insensitive and return the 1-based JDBC column index
+ */
+public final class ColumnIndex {
+    private final String[] labels;
+    private final Map<String, Integer> positions;
+
+    private ColumnIndex(String[] labels) {
+        this.labels = labels;
+        this.positions = new HashMap<>(labels.length * 2);
+        for (int i = 0; i < labels.length; i++) {
+            // First occurrence wins, matching ResultSet.findColumn
+            positions.putIfAbsent(labels[i].toLowerCase(), i + 1);
+        }
+    }
+
+    /**
+     * Build the index from result set metadata
+     */
+    public static ColumnIndex of(ResultSetMetaData metaData) throws SQLException {
+        String[] labels = new String[metaData.getColumnCount()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1);
+        }
+        return new ColumnIndex(labels);
+    }
+
+    /**
+     * Get 1-based column index for a label
+     * @throws IllegalArgumentException if the column does not exist
+     */
+    public int indexOf(String label) {
+        Integer position = positions.get(label.toLowerCase());
+        if (position == null) {
+            throw new IllegalArgumentException("Unknown column: " + label + ", available: " + Arrays.toString(labels));
+        }
+        return position;
+    }
+
+    /**
+     * Check if a column with the label exists
+     */
+    public boolean contains(String label) {
+        return positions.containsKey(label.toLowerCase());
+    }
+
+    /**
+     * Get label of a 1-based column index
+     */
+    public String labelAt(int index) {
+        return labels[index - 1];
+    }
+
+    public int size() {
+        return labels.length;
+    }
+
+    public List<String> getLabels() {
+        return Collections.unmodifiableList(Arrays.asList(labels));
+    }
+}
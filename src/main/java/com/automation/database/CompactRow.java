@@ -0,0 +1,117 @@
+package com.automation.database;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable row backed by a value array and a column index shared by all rows of a query
+ * Costs one array per row instead of a HashMap with an entry per cell
+ */
+public final class CompactRow {
+    private final ColumnIndex columns;
+    private final Object[] values;
+
+    CompactRow(ColumnIndex columns, Object[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Get value by column label
+     */
+    public Object get(String column) {
+        return values[columns.indexOf(column) - 1];
+    }
+
+    /**
+     * Get value by 1-based column index
+     */
+    public Object get(int index) {
+        return values[index - 1];
+    }
+
+    public String getString(String column) {
+        Object value = get(column);
+        return value != null ? value.toString() : null;
+    }
+
+    public long getLong(String column) {
+        Object value = get(column);
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    public int getInt(String column) {
+        return (int) getLong(column);
+    }
+
+    public double getDouble(String column) {
+        Object value = get(column);
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.parseDouble(String.valueOf(value));
+    }
+
+    public ColumnIndex getColumns() {
+        return columns;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Read-only Map view of the row, keyed by column label
+     */
+    public Map<String, Object> asMap() {
+        return new AbstractMap<String, Object>() {
+            @Override
+            public Object get(Object key) {
+                return key instanceof String && columns.contains((String) key) ? CompactRow.this.get((String) key) : null;
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return key instanceof String && columns.contains((String) key);
+            }
+
+            @Override
+            public Set<Entry<String, Object>> entrySet() {
+                return new AbstractSet<Entry<String, Object>>() {
+                    @Override
+                    public Iterator<Entry<String, Object>> iterator() {
+                        return new Iterator<Entry<String, Object>>() {
+                            private int position;
+
+                            @Override
+                            public boolean hasNext() {
+                                return position < values.length;
+                            }
+
+                            @Override
+                            public Entry<String, Object> next() {
+                                if (!hasNext()) {
+                                    throw new NoSuchElementException();
+                                }
+                                position++;
+                                return new SimpleImmutableEntry<>(columns.labelAt(position), values[position - 1]);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return values.length;
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return columns.getLabels() + "=" + Arrays.toString(values);
+    }
+}
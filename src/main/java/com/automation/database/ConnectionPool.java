@@ -0,0 +1,749 @@
+package com.automation.database;
+
+import com.automation.core.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pooled DataSource shared by DatabaseManager and BaseDBTest
+ * One pool exists per database type. Connections are validated on borrow,
+ * reset on return, and reported when held longer than the leak detection threshold.
+ * Tests can pin a connection to their thread so transactional work stays on one connection.
+ * Each physical connection keeps an LRU cache of prepared statements keyed on SQL text.
+ * Statements opened through a borrowed connection are tracked and closed when it is returned
+ */
+public class ConnectionPool implements DataSource {
+    private static final Logger logger = LogManager.getLogger(ConnectionPool.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Map<String, ConnectionPool> pools = new ConcurrentHashMap<>();
+
+    // Connections used within this window are trusted without a validation round trip
+    private static final long VALIDATION_BYPASS_MILLIS = 500;
+
+    private final String databaseType;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private final LinkedBlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Map<PooledConnection, Boolean> borrowedConnections = new ConcurrentHashMap<>();
+    private final ThreadLocal<Connection> threadConnection = new ThreadLocal<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final Semaphore permits;
+    private final ScheduledExecutorService housekeeping;
+
+    private final int minIdle;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final long idleTimeoutMillis;
+    private final long leakDetectionThresholdMillis;
+    private final int statementCacheSize;
+    private final boolean captureStatementTrace;
+
+    private final LongAdder borrowCount = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder leakCount = new LongAdder();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+    private final LongAdder statementLeakCount = new LongAdder();
+    private final AtomicInteger cursorHighWaterMark = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    private ConnectionPool(String databaseType) {
+        this.databaseType = databaseType;
+        String driver;
+        String jdbcUrl;
+        if ("mysql".equals(databaseType)) {
+            jdbcUrl = config.getDbUrl();
+            this.username = config.getDbUsername();
+            this.password = config.getDbPassword();
+            driver = config.getDbDriver();
+        } else if ("postgres".equals(databaseType)) {
+            jdbcUrl = config.getPostgresUrl();
+            this.username = config.getPostgresUsername();
+            this.password = config.getPostgresPassword();
+            driver = config.getPostgresDriver();
+        } else {
+            throw new IllegalArgumentException("Unsupported database type: " + databaseType);
+        }
+        if (config.isDbServerPreparedStatements()) {
+            jdbcUrl = enableServerPrepare(jdbcUrl);
+        }
+        if (config.getDbFetchSize() > 0 && "mysql".equals(databaseType)
+                && (config.isDbServerPreparedStatements() || config.isDbMysqlCursorFetch())) {
+            // MySQL ignores the fetch size and buffers the whole result unless cursor fetch is enabled,
+            // Connector/J then prepares every statement on the server
+            jdbcUrl = appendOption(jdbcUrl, "useCursorFetch=true");
+        }
+        if (config.isDbBatchRewrite()) {
+            // Send batched inserts as multi-row INSERT statements instead of one round trip per row
+            jdbcUrl = appendOption(jdbcUrl,
+                    "mysql".equals(databaseType) ? "rewriteBatchedStatements=true" : "reWriteBatchedInserts=true");
+        }
+        if (config.isDbBulkNativeLoad() && "mysql".equals(databaseType)) {
+            jdbcUrl = appendOption(jdbcUrl, "allowLoadLocalInfile=true");
+        }
+        this.url = jdbcUrl;
+
+        try {
+            Class.forName(driver);
+        } catch (ClassNotFoundException e) {
+            logger.error("Database driver not found for {}", databaseType, e);
+            throw new RuntimeException("Database driver not found", e);
+        }
+
+        this.minIdle = config.getDbPoolMinIdle();
+        this.maxSize = Math.max(config.getDbPoolMaxSize(), Math.max(minIdle, 1));
+        this.borrowTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getDbPoolBorrowTimeout());
+        this.validationTimeoutSeconds = config.getDbPoolValidationTimeout();
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(config.getDbPoolIdleTimeout());
+        this.leakDetectionThresholdMillis = TimeUnit.SECONDS.toMillis(config.getDbPoolLeakDetectionThreshold());
+        this.statementCacheSize = config.getDbStatementCacheSize();
+        this.captureStatementTrace = config.isDbStatementLeakTrace();
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeping = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-" + databaseType + "-housekeeping");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long housekeepingPeriod = Math.max(1000, Math.min(idleTimeoutMillis,
+                leakDetectionThresholdMillis > 0 ? leakDetectionThresholdMillis : idleTimeoutMillis) / 2);
+        housekeeping.execute(this::fillPool);
+        housekeeping.scheduleWithFixedDelay(this::runHousekeeping,
+                housekeepingPeriod, housekeepingPeriod, TimeUnit.MILLISECONDS);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "db-pool-" + databaseType + "-shutdown"));
+        logger.info("Connection pool created for {} (min idle: {}, max: {}, leak threshold: {} ms, "
+                + "statement cache: {})", databaseType, minIdle, maxSize, leakDetectionThresholdMillis,
+                statementCacheSize);
+    }
+
+    /**
+     * Get the shared pool for a database type (mysql, postgres or postgresql)
+     */
+    public static ConnectionPool getInstance(String databaseType) {
+        String type = databaseType.toLowerCase();
+        if ("postgresql".equals(type)) {
+            type = "postgres";
+        }
+        return pools.computeIfAbsent(type, ConnectionPool::new);
+    }
+
+    /**
+     * Shut down every pool created in this JVM
+     */
+    public static void shutdownAll() {
+        for (ConnectionPool pool : pools.values()) {
+            pool.shutdown();
+        }
+        pools.clear();
+    }
+
+    /**
+     * Borrow a connection, closing it returns the connection to the pool
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool for " + databaseType + " has been shut down");
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.increment();
+                logger.error("Timed out after {} ms waiting for a {} connection (active: {}, idle: {})",
+                        borrowTimeoutMillis, databaseType, getActiveCount(), getIdleCount());
+                throw new SQLException("No database connection available within timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection pooled = takeConnection(startTime);
+            recordWait(System.nanoTime() - startTime);
+            pooled.markBorrowed(leakDetectionThresholdMillis > 0);
+            borrowedConnections.put(pooled, Boolean.TRUE);
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Pooled connections use the configured credentials");
+    }
+
+    /**
+     * Get the connection pinned to the current thread, borrowing one on first use
+     * Repeated calls from the same thread return the same connection until it is released
+     */
+    public Connection getThreadConnection() {
+        Connection connection = threadConnection.get();
+        try {
+            if (connection == null || connection.isClosed()) {
+                connection = getConnection();
+                threadConnection.set(connection);
+            }
+        } catch (SQLException e) {
+            logger.error("Failed to borrow {} connection for thread", databaseType, e);
+            throw new RuntimeException("Database connection failed", e);
+        }
+        return connection;
+    }
+
+    /**
+     * Return the connection pinned to the current thread, if any
+     */
+    public void releaseThreadConnection() {
+        Connection connection = threadConnection.get();
+        threadConnection.remove();
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.error("Error returning {} connection to pool", databaseType, e);
+            }
+        }
+    }
+
+    /**
+     * Check if the current thread has a pinned connection
+     */
+    public boolean hasThreadConnection() {
+        return threadConnection.get() != null;
+    }
+
+    /**
+     * Get number of result sets currently open on the thread's pinned connection
+     */
+    public int getThreadOpenCursors() {
+        StatementTracker tracker = threadTracker();
+        return tracker != null ? tracker.getOpenCursors() : 0;
+    }
+
+    /**
+     * Get number of statements currently open on the thread's pinned connection
+     */
+    public int getThreadOpenStatements() {
+        StatementTracker tracker = threadTracker();
+        return tracker != null ? tracker.getOpenStatements() : 0;
+    }
+
+    /**
+     * Get the most result sets open at once on the thread's pinned connection since it was borrowed
+     */
+    public int getThreadCursorHighWaterMark() {
+        StatementTracker tracker = threadTracker();
+        return tracker != null ? tracker.getCursorHighWaterMark() : 0;
+    }
+
+    /**
+     * Close all pooled connections
+     */
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        housekeeping.shutdownNow();
+
+        List<PooledConnection> connections = new ArrayList<>();
+        idleConnections.drainTo(connections);
+        connections.addAll(borrowedConnections.keySet());
+        borrowedConnections.clear();
+
+        for (PooledConnection pooled : connections) {
+            destroy(pooled);
+        }
+        logger.info("Connection pool for {} shut down, {} connections closed", databaseType, connections.size());
+    }
+
+    public int getActiveCount() {
+        return borrowedConnections.size();
+    }
+
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    public int getTotalCount() {
+        return totalConnections.get();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Get number of threads currently waiting for a connection
+     */
+    public int getPendingThreads() {
+        return permits.getQueueLength();
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    public long getLeakCount() {
+        return leakCount.sum();
+    }
+
+    public long getStatementCacheHits() {
+        return statementCacheHits.sum();
+    }
+
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.sum();
+    }
+
+    /**
+     * Get number of statements that were still open when their connection was returned
+     */
+    public long getStatementLeakCount() {
+        return statementLeakCount.sum();
+    }
+
+    /**
+     * Get the most result sets open at once on any single borrowed connection
+     */
+    public int getCursorHighWaterMark() {
+        return cursorHighWaterMark.get();
+    }
+
+    /**
+     * Get total time spent waiting for connections in milliseconds
+     */
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum());
+    }
+
+    /**
+     * Get average time spent waiting for a connection in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        long borrows = borrowCount.sum();
+        return borrows == 0 ? 0 : totalWaitNanos.sum() / 1_000_000.0 / borrows;
+    }
+
+    /**
+     * Get longest time spent waiting for a connection in milliseconds
+     */
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConnectionPool[%s: active=%d, idle=%d, total=%d/%d, pending=%d, "
+                        + "borrows=%d, avgWait=%.2fms, maxWait=%dms, timeouts=%d, leaks=%d, "
+                        + "statementCacheHits=%d, statementCacheMisses=%d, statementLeaks=%d, "
+                        + "cursorHighWaterMark=%d]",
+                databaseType, getActiveCount(), getIdleCount(), getTotalCount(), maxSize, getPendingThreads(),
+                getBorrowCount(), getAverageWaitMillis(), getMaxWaitMillis(), getTimeoutCount(), getLeakCount(),
+                getStatementCacheHits(), getStatementCacheMisses(), getStatementLeakCount(),
+                getCursorHighWaterMark());
+    }
+
+    /**
+     * Take a healthy idle connection, or open a new one while below the maximum size
+     */
+    private PooledConnection takeConnection(long startTime) throws SQLException {
+        long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+        while (true) {
+            PooledConnection pooled = idleConnections.pollFirst();
+            if (pooled != null) {
+                if (isValid(pooled)) {
+                    return pooled;
+                }
+                logger.warn("Discarding invalid {} connection", databaseType);
+                destroy(pooled);
+                continue;
+            }
+
+            if (reserveSlot()) {
+                return openConnection();
+            }
+
+            // Pool is full, wait for a connection being created or returned by another thread
+            try {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || (pooled = idleConnections.pollFirst(remaining, TimeUnit.NANOSECONDS)) == null) {
+                    timeoutCount.increment();
+                    throw new SQLException("No database connection available within timeout");
+                }
+                idleConnections.offerFirst(pooled);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a database connection", e);
+            }
+        }
+    }
+
+    /**
+     * Return a borrowed connection, rolling back any open transaction
+     */
+    private void returnConnection(PooledConnection pooled) {
+        if (borrowedConnections.remove(pooled) == null) {
+            return;
+        }
+
+        try {
+            if (pooled.leakReported) {
+                logger.info("Previously reported {} connection returned after {} ms", databaseType,
+                        System.currentTimeMillis() - pooled.borrowedAt);
+            }
+            if (shutdown || !resetState(pooled)) {
+                destroy(pooled);
+            } else {
+                pooled.lastUsed = System.currentTimeMillis();
+                idleConnections.offerFirst(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Restore defaults so the next borrower gets a clean connection
+     */
+    private boolean resetState(PooledConnection pooled) {
+        Connection connection = pooled.connection;
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            if (connection.isReadOnly()) {
+                connection.setReadOnly(false);
+            }
+            connection.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            logger.warn("Failed to reset {} connection, it will be closed", databaseType, e);
+            return false;
+        }
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        if (System.currentTimeMillis() - pooled.lastUsed < VALIDATION_BYPASS_MILLIS) {
+            return true;
+        }
+        try {
+            return pooled.connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = totalConnections.get();
+            if (current >= maxSize) {
+                return false;
+            }
+        } while (!totalConnections.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private PooledConnection openConnection() throws SQLException {
+        try {
+            Connection connection = DriverManager.getConnection(url, username, password);
+            logger.debug("Opened new {} connection ({} of {})", databaseType, totalConnections.get(), maxSize);
+            return new PooledConnection(connection);
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            logger.error("Failed to connect to {} database", databaseType, e);
+            throw e;
+        }
+    }
+
+    private void destroy(PooledConnection pooled) {
+        totalConnections.decrementAndGet();
+        if (pooled.statementCache != null) {
+            pooled.statementCache.closeAll();
+        }
+        try {
+            pooled.connection.close();
+        } catch (SQLException e) {
+            logger.error("Error closing pooled {} connection", databaseType, e);
+        }
+    }
+
+    /**
+     * Ask the JDBC driver to prepare statements on the server
+     */
+    private String enableServerPrepare(String jdbcUrl) {
+        String option = "mysql".equals(databaseType) ? "useServerPrepStmts=true" : "prepareThreshold=1";
+        return appendOption(jdbcUrl, option);
+    }
+
+    private static String appendOption(String jdbcUrl, String option) {
+        return jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + option;
+    }
+
+    private void recordWait(long waitNanos) {
+        borrowCount.increment();
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private void runHousekeeping() {
+        try {
+            evictIdleConnections();
+            detectLeaks();
+            fillPool();
+        } catch (Exception e) {
+            logger.error("Connection pool housekeeping failed for {}", databaseType, e);
+        }
+    }
+
+    /**
+     * Open connections until the minimum number of idle connections is available
+     */
+    private void fillPool() {
+        while (!shutdown && idleConnections.size() < minIdle && reserveSlot()) {
+            try {
+                PooledConnection pooled = openConnection();
+                idleConnections.offerLast(pooled);
+            } catch (SQLException | RuntimeException e) {
+                logger.warn("Unable to pre-fill {} connection pool", databaseType);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Close connections idle for longer than the idle timeout, keeping the minimum idle count
+     */
+    private void evictIdleConnections() {
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooled : idleConnections) {
+            if (idleConnections.size() <= minIdle) {
+                break;
+            }
+            if (now - pooled.lastUsed > idleTimeoutMillis && idleConnections.remove(pooled)) {
+                logger.debug("Evicting {} connection idle for {} ms", databaseType, now - pooled.lastUsed);
+                destroy(pooled);
+            }
+        }
+    }
+
+    /**
+     * Report connections borrowed for longer than the leak detection threshold
+     */
+    private void detectLeaks() {
+        if (leakDetectionThresholdMillis <= 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (PooledConnection pooled : borrowedConnections.keySet()) {
+            if (!pooled.leakReported && now - pooled.borrowedAt > leakDetectionThresholdMillis) {
+                pooled.leakReported = true;
+                leakCount.increment();
+                logger.warn("Possible {} connection leak: borrowed {} ms ago by {}", databaseType,
+                        now - pooled.borrowedAt, pooled.borrower, pooled.borrowTrace);
+            }
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Connection pool logs through Log4j2");
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public java.util.logging.Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException("Connection pool logs through Log4j2");
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        throw new SQLException("ConnectionPool does not wrap " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * Describe the running test method and thread, used when reporting leaks
+     */
+    static String describeCaller() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result != null && result.getMethod() != null
+                ? result.getMethod().getQualifiedName() + " on " + Thread.currentThread().getName()
+                : Thread.currentThread().getName();
+    }
+
+    private StatementTracker threadTracker() {
+        Connection connection = threadConnection.get();
+        if (connection == null || !Proxy.isProxyClass(connection.getClass())) {
+            return null;
+        }
+        return ((ConnectionHandle) Proxy.getInvocationHandler(connection)).tracker;
+    }
+
+    /**
+     * Physical connection tracked by the pool
+     */
+    private class PooledConnection {
+        private final Connection connection;
+        private final StatementCache statementCache;
+        private volatile long lastUsed = System.currentTimeMillis();
+        private volatile long borrowedAt;
+        private volatile String borrower;
+        private volatile Throwable borrowTrace;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statementCache = statementCacheSize > 0
+                    ? new StatementCache(statementCacheSize, statementCacheHits, statementCacheMisses)
+                    : null;
+        }
+
+        private void markBorrowed(boolean captureTrace) {
+            borrowedAt = System.currentTimeMillis();
+            leakReported = false;
+            borrower = describeCaller();
+            borrowTrace = captureTrace ? new Exception("Connection borrowed here") : null;
+        }
+
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, new ConnectionHandle(this));
+        }
+    }
+
+    /**
+     * Logical connection handed to callers, closing it returns the physical connection
+     */
+    private class ConnectionHandle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private final StatementTracker tracker;
+        private volatile boolean closed;
+
+        private ConnectionHandle(PooledConnection pooled) {
+            this.pooled = pooled;
+            this.tracker = new StatementTracker(databaseType, captureStatementTrace);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        close();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || pooled.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + databaseType + ", " + pooled.connection + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+            Object result;
+            if (pooled.statementCache != null && "prepareStatement".equals(method.getName()) && args.length == 1) {
+                result = pooled.statementCache.prepare(pooled.connection, (Connection) proxy, (String) args[0]);
+            } else {
+                try {
+                    result = method.invoke(pooled.connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+
+            if (result instanceof Statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                return tracker.track((Statement) result, sql, (Connection) proxy);
+            }
+            return result;
+        }
+
+        /**
+         * Close statements the caller left open, then return the physical connection
+         */
+        private void close() {
+            try {
+                int leaked = tracker.closeAll();
+                if (leaked > 0) {
+                    statementLeakCount.add(leaked);
+                }
+                cursorHighWaterMark.accumulateAndGet(tracker.getCursorHighWaterMark(), Math::max);
+            } finally {
+                returnConnection(pooled);
+            }
+        }
+    }
+}
@@ -6,6 +6,8 @@ import org.apache.logging.log4j.Logger;
 
 import java.sql.*;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Database Manager for handling database connections and operations
@@ -23,35 +25,15 @@ public class DatabaseManager {
     }
 
     /**
-     * Establish database connection based on database type
+     * Borrow a database connection from the shared pool for the database type
      */
     private void establishConnection() {
         try {
-            String url, username, password, driver;
-            
-            if ("mysql".equals(databaseType)) {
-                url = config.getDbUrl();
-                username = config.getDbUsername();
-                password = config.getDbPassword();
-                driver = config.getDbDriver();
-            } else if ("postgres".equals(databaseType) || "postgresql".equals(databaseType)) {
-                url = config.getPostgresUrl();
-                username = config.getPostgresUsername();
-                password = config.getPostgresPassword();
-                driver = config.getPostgresDriver();
-            } else {
-                throw new IllegalArgumentException("Unsupported database type: " + databaseType);
-            }
-
-            Class.forName(driver);
-            connection = DriverManager.getConnection(url, username, password);
+            connection = ConnectionPool.getInstance(databaseType).getConnection();
             connection.setAutoCommit(false); // Enable transaction management
             
             logger.info("Successfully connected to {} database", databaseType);
             
-        } catch (ClassNotFoundException e) {
-            logger.error("Database driver not found for {}", databaseType, e);
-            throw new RuntimeException("Database driver not found", e);
         } catch (SQLException e) {
             logger.error("Failed to connect to {} database", databaseType, e);
             throw new RuntimeException("Database connection failed", e);
@@ -77,16 +59,13 @@ public class DatabaseManager {
             logger.debug("Executing query: {} with parameters: {}", query, Arrays.toString(parameters));
             
             try (ResultSet resultSet = statement.executeQuery()) {
-                ResultSetMetaData metaData = resultSet.getMetaData();
-                int columnCount = metaData.getColumnCount();
+                String[] columnNames = columnNames(resultSet.getMetaData());
                 
                 while (resultSet.next()) {
-                    Map<String, Object> row = new HashMap<>();
+                    Map<String, Object> row = new HashMap<>(columnNames.length * 4 / 3 + 1);
                     
-                    for (int i = 1; i <= columnCount; i++) {
-                        String columnName = metaData.getColumnName(i);
-                        Object value = resultSet.getObject(i);
-                        row.put(columnName, value);
+                    for (int i = 0; i < columnNames.length; i++) {
+                        row.put(columnNames[i], resultSet.getObject(i + 1));
                     }
                     
                     results.add(row);
@@ -103,6 +82,43 @@ public class DatabaseManager {
         return results;
     }
 
+    /**
+     * Open a forward-only cursor over a SELECT query
+     * Rows are fetched in batches of db.fetch.size instead of being loaded into memory.
+     * The cursor must be closed, for example with try-with-resources
+     * @param query SQL SELECT query
+     * @param parameters Query parameters
+     * @return Cursor positioned before the first row
+     */
+    public RowCursor openCursor(String query, Object... parameters) {
+        return RowCursor.open(connection, query, config.getDbFetchSize(), parameters);
+    }
+
+    /**
+     * Stream the rows of a SELECT query as compact rows sharing one column index
+     * The stream must be closed, for example with try-with-resources
+     * @param query SQL SELECT query
+     * @param parameters Query parameters
+     * @return Lazily fetched stream of rows
+     */
+    public Stream<CompactRow> stream(String query, Object... parameters) {
+        return openCursor(query, parameters).stream();
+    }
+
+    /**
+     * Call the consumer for every row of a SELECT query, reading values in place from the cursor
+     * @param query SQL SELECT query
+     * @param action Row consumer, the cursor is only valid during the call
+     * @param parameters Query parameters
+     * @return Number of rows processed
+     */
+    public long forEachRow(String query, Consumer<RowCursor> action, Object... parameters) {
+        RowCursor cursor = openCursor(query, parameters);
+        cursor.forEachRemaining(action);
+        logger.info("Query streamed successfully. Processed {} rows", cursor.getRowCount());
+        return cursor.getRowCount();
+    }
+
     /**
      * Execute INSERT, UPDATE, DELETE queries
      * @param query SQL query
@@ -137,18 +153,30 @@ public class DatabaseManager {
      * @return Array of update counts
      */
     public int[] executeBatch(String query, List<Object[]> parametersList) {
+        int chunkSize = config.getDbBatchChunkSize();
+        int[] updateCounts = new int[parametersList.size()];
+        
         try (PreparedStatement statement = connection.prepareStatement(query)) {
             
-            for (Object[] parameters : parametersList) {
-                for (int i = 0; i < parameters.length; i++) {
-                    statement.setObject(i + 1, parameters[i]);
+            logger.debug("Executing batch update: {} with {} parameter sets in chunks of {}",
+                    query, parametersList.size(), chunkSize);
+            
+            // Send the batch in chunks so large parameter lists never build one huge batch
+            int executed = 0;
+            while (executed < parametersList.size()) {
+                int end = Math.min(executed + chunkSize, parametersList.size());
+                for (Object[] parameters : parametersList.subList(executed, end)) {
+                    for (int i = 0; i < parameters.length; i++) {
+                        statement.setObject(i + 1, parameters[i]);
+                    }
+                    statement.addBatch();
                 }
-                statement.addBatch();
+                
+                int[] chunkCounts = statement.executeBatch();
+                System.arraycopy(chunkCounts, 0, updateCounts, executed, Math.min(chunkCounts.length, end - executed));
+                executed = end;
             }
             
-            logger.debug("Executing batch update: {} with {} parameter sets", query, parametersList.size());
-            
-            int[] updateCounts = statement.executeBatch();
             logger.info("Batch update executed successfully. Total operations: {}", updateCounts.length);
             
             return updateCounts;
@@ -159,6 +187,18 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * Create a bulk loader for seeding a table through this manager's connection
+     * Commits happen every db.batch.commit.interval rows, use withCommitInterval(0)
+     * to keep the load inside the current transaction
+     * @param tableName Target table
+     * @param columns Target columns, in the order row values are supplied
+     * @return Bulk loader configured from db.batch.* settings
+     */
+    public BulkLoader bulkLoader(String tableName, String... columns) {
+        return new BulkLoader(connection, tableName, Arrays.asList(columns));
+    }
+
     /**
      * Get single value from database
      * @param query SQL query that returns single value
@@ -258,13 +298,14 @@ public class DatabaseManager {
     }
 
     /**
-     * Close database connection
+     * Return database connection to the pool
+     * Uncommitted changes are rolled back
      */
     public void closeConnection() {
         if (connection != null) {
             try {
                 connection.close();
-                logger.info("Database connection closed successfully");
+                logger.info("Database connection returned to pool");
             } catch (SQLException e) {
                 logger.error("Error closing database connection", e);
             }
@@ -308,6 +349,25 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * Resolve column names once per result set instead of once per row
+     */
+    private static String[] columnNames(ResultSetMetaData metaData) throws SQLException {
+        String[] names = new String[metaData.getColumnCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = metaData.getColumnName(i + 1);
+        }
+        return names;
+    }
+
+    /**
+     * Get the connection pool backing this manager
+     * @return Shared connection pool for the database type
+     */
+    public ConnectionPool getConnectionPool() {
+        return ConnectionPool.getInstance(databaseType);
+    }
+
     /**
      * Get connection for advanced operations
      * @return Database connection
@@ -0,0 +1,17 @@
+package com.automation.database;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps an open result set to a value while its statement is still owned by the caller
+ * @param <T> Mapped value type
+ */
+@FunctionalInterface
+public interface ResultSetMapper<T> {
+
+    /**
+     * Read the result set, it is closed by the caller afterwards
+     */
+    T map(ResultSet resultSet) throws SQLException;
+}
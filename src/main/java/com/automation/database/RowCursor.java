@@ -0,0 +1,275 @@
+package com.automation.database;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Forward-only, read-only cursor over a query result
+ * Rows are fetched from the server in batches of the fetch size and read in place
+ * through typed accessors, so large results are never materialized in memory.
+ * Column labels are resolved once into a shared ColumnIndex
+ */
+public class RowCursor implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(RowCursor.class);
+
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final ColumnIndex columns;
+    private long rowCount;
+    private boolean closed;
+
+    private RowCursor(PreparedStatement statement, ResultSet resultSet) throws SQLException {
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.columns = ColumnIndex.of(resultSet.getMetaData());
+    }
+
+    /**
+     * Execute a query and open a cursor over its result
+     * @param connection Connection to run the query on, it stays open when the cursor is closed
+     * @param sql SQL query
+     * @param fetchSize Rows fetched per round trip, 0 leaves the driver default
+     * @param parameters Query parameters
+     */
+    public static RowCursor open(Connection connection, String sql, int fetchSize, Object... parameters) {
+        PreparedStatement statement = null;
+        try {
+            statement = connection.prepareStatement(sql);
+            if (fetchSize > 0) {
+                statement.setFetchSize(fetchSize);
+            }
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+
+            logger.debug("Opening cursor for query: {} with fetch size {}", sql, fetchSize);
+            return new RowCursor(statement, statement.executeQuery());
+        } catch (SQLException e) {
+            closeQuietly(statement);
+            logger.error("Error executing query: {}", sql, e);
+            throw new RuntimeException("Query execution failed", e);
+        }
+    }
+
+    /**
+     * Advance to the next row
+     * @return false when there are no more rows
+     */
+    public boolean next() {
+        try {
+            if (resultSet.next()) {
+                rowCount++;
+                return true;
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to read next row", e);
+        }
+    }
+
+    public ColumnIndex getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get number of rows read so far
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public String getString(String column) {
+        return getString(columns.indexOf(column));
+    }
+
+    public String getString(int index) {
+        try {
+            return resultSet.getString(index);
+        } catch (SQLException e) {
+            throw columnError(index, e);
+        }
+    }
+
+    public int getInt(String column) {
+        return getInt(columns.indexOf(column));
+    }
+
+    public int getInt(int index) {
+        try {
+            return resultSet.getInt(index);
+        } catch (SQLException e) {
+            throw columnError(index, e);
+        }
+    }
+
+    public long getLong(String column) {
+        return getLong(columns.indexOf(column));
+    }
+
+    public long getLong(int index) {
+        try {
+            return resultSet.getLong(index);
+        } catch (SQLException e) {
+            throw columnError(index, e);
+        }
+    }
+
+    public double getDouble(String column) {
+        return getDouble(columns.indexOf(column));
+    }
+
+    public double getDouble(int index) {
+        try {
+            return resultSet.getDouble(index);
+        } catch (SQLException e) {
+            throw columnError(index, e);
+        }
+    }
+
+    public boolean getBoolean(String column) {
+        return getBoolean(columns.indexOf(column));
+    }
+
+    public boolean getBoolean(int index) {
+        try {
+            return resultSet.getBoolean(index);
+        } catch (SQLException e) {
+            throw columnError(index, e);
+        }
+    }
+
+    public BigDecimal getBigDecimal(String column) {
+        return getBigDecimal(columns.indexOf(column));
+    }
+
+    public BigDecimal getBigDecimal(int index) {
+        try {
+            return resultSet.getBigDecimal(index);
+        } catch (SQLException e) {
+            throw columnError(index, e);
+        }
+    }
+
+    public Timestamp getTimestamp(String column) {
+        return getTimestamp(columns.indexOf(column));
+    }
+
+    public Timestamp getTimestamp(int index) {
+        try {
+            return resultSet.getTimestamp(index);
+        } catch (SQLException e) {
+            throw columnError(index, e);
+        }
+    }
+
+    public Object getObject(String column) {
+        return getObject(columns.indexOf(column));
+    }
+
+    public Object getObject(int index) {
+        try {
+            return resultSet.getObject(index);
+        } catch (SQLException e) {
+            throw columnError(index, e);
+        }
+    }
+
+    /**
+     * Check if the last primitive value read was SQL NULL
+     */
+    public boolean wasNull() {
+        try {
+            return resultSet.wasNull();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to check for NULL value", e);
+        }
+    }
+
+    /**
+     * Copy the current row into a compact row sharing this cursor's column index
+     */
+    public CompactRow toCompactRow() {
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getObject(i + 1);
+        }
+        return new CompactRow(columns, values);
+    }
+
+    /**
+     * Call the consumer for every remaining row, then close the cursor
+     */
+    public void forEachRemaining(Consumer<RowCursor> action) {
+        try {
+            while (next()) {
+                action.accept(this);
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Stream the remaining rows as compact rows
+     * The stream must be closed, for example with try-with-resources, to release the cursor
+     */
+    public Stream<CompactRow> stream() {
+        Spliterator<CompactRow> spliterator = new Spliterators.AbstractSpliterator<CompactRow>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super CompactRow> action) {
+                if (closed || !next()) {
+                    return false;
+                }
+                action.accept(toCompactRow());
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Close the result set and statement, the connection stays open
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resultSet.close();
+        } catch (SQLException e) {
+            logger.debug("Error closing cursor result set", e);
+        }
+        closeQuietly(statement);
+        logger.debug("Cursor closed after {} rows", rowCount);
+    }
+
+    private RuntimeException columnError(int index, SQLException e) {
+        String column = index > 0 && index <= columns.size() ? columns.labelAt(index) : String.valueOf(index);
+        return new RuntimeException("Failed to read column " + column, e);
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                logger.debug("Error closing cursor statement", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.automation.database;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LRU cache of prepared statements for a single pooled connection, keyed on SQL text
+ * A cached statement is checked out while in use and returned on close, so the
+ * same statement is never handed to two callers at once. Statements whose
+ * settings were changed by the caller are closed instead of being cached
+ */
+class StatementCache {
+    private static final Logger logger = LogManager.getLogger(StatementCache.class);
+
+    // Statement settings that would leak into the next caller if the statement was reused
+    // Fetch size and direction are reset on check-in instead, so streaming cursors stay cacheable
+    private static final Set<String> STATEFUL_SETTERS = Set.of("setMaxRows", "setLargeMaxRows",
+            "setQueryTimeout", "setMaxFieldSize", "setEscapeProcessing", "setCursorName", "setPoolable");
+
+    private final int maxSize;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    StatementCache(int maxSize, LongAdder hits, LongAdder misses) {
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                if (size() > StatementCache.this.maxSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get a prepared statement for the SQL, reusing a cached one when available
+     * @param connection Physical connection the statement belongs to
+     * @param handle Logical connection returned by PreparedStatement.getConnection()
+     * @param sql SQL text
+     */
+    PreparedStatement prepare(Connection connection, Connection handle, String sql) throws SQLException {
+        PreparedStatement statement;
+        synchronized (this) {
+            statement = statements.remove(sql);
+        }
+
+        if (statement != null && !statement.isClosed()) {
+            hits.increment();
+        } else {
+            misses.increment();
+            statement = connection.prepareStatement(sql);
+        }
+        return (PreparedStatement) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                new Class<?>[] {PreparedStatement.class}, new CachedStatementHandle(sql, statement, handle));
+    }
+
+    /**
+     * Close all cached statements, called before the physical connection is closed
+     */
+    void closeAll() {
+        List<PreparedStatement> cached;
+        synchronized (this) {
+            cached = new ArrayList<>(statements.values());
+            statements.clear();
+        }
+        for (PreparedStatement statement : cached) {
+            closeQuietly(statement);
+        }
+    }
+
+    synchronized int size() {
+        return statements.size();
+    }
+
+    /**
+     * Put a statement back into the cache after the caller closed it
+     */
+    private void checkIn(String sql, PreparedStatement statement) {
+        try {
+            if (statement.isClosed()) {
+                return;
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+            statement.clearWarnings();
+            if (statement.getFetchSize() != 0) {
+                statement.setFetchSize(0);
+            }
+            if (statement.getFetchDirection() != ResultSet.FETCH_FORWARD) {
+                statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+            }
+        } catch (SQLException e) {
+            logger.debug("Failed to reset cached statement, closing it: {}", sql, e);
+            closeQuietly(statement);
+            return;
+        }
+
+        PreparedStatement replaced;
+        synchronized (this) {
+            replaced = statements.put(sql, statement);
+        }
+        // Another caller checked in a statement for the same SQL meanwhile
+        if (replaced != null && replaced != statement) {
+            closeQuietly(replaced);
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            logger.debug("Error closing cached statement", e);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Logical statement handed to callers, closing it returns the statement to the cache
+     */
+    private class CachedStatementHandle implements InvocationHandler {
+        private final String sql;
+        private final PreparedStatement statement;
+        private final Connection connection;
+        private ResultSet openResultSet;
+        private boolean closeOnCompletion;
+        private boolean dirty;
+        private boolean closed;
+
+        private CachedStatementHandle(String sql, PreparedStatement statement, Connection connection) {
+            this.sql = sql;
+            this.statement = statement;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    return closed || statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + sql + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+
+            switch (name) {
+                case "getConnection":
+                    return connection;
+                case "closeOnCompletion":
+                    closeOnCompletion = true;
+                    return null;
+                case "isCloseOnCompletion":
+                    return closeOnCompletion;
+                default:
+                    break;
+            }
+            if (STATEFUL_SETTERS.contains(name)) {
+                dirty = true;
+            }
+
+            Object result = StatementCache.invoke(statement, method, args);
+            if (result instanceof ResultSet) {
+                openResultSet = (ResultSet) Proxy.newProxyInstance(StatementCache.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class}, new ResultSetHandle((ResultSet) result, this, proxy));
+                return openResultSet;
+            }
+            return result;
+        }
+
+        private void close() throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            if (openResultSet != null) {
+                openResultSet.close();
+            }
+            if (dirty) {
+                closeQuietly(statement);
+            } else {
+                checkIn(sql, statement);
+            }
+        }
+
+        private void resultSetClosed(ResultSet resultSet) throws SQLException {
+            if (openResultSet == resultSet) {
+                openResultSet = null;
+                if (closeOnCompletion) {
+                    close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Result set of a cached statement, closing it may return the statement to the cache
+     */
+    private static class ResultSetHandle implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final CachedStatementHandle statementHandle;
+        private final Object statementProxy;
+        private boolean closed;
+
+        private ResultSetHandle(ResultSet resultSet, CachedStatementHandle statementHandle, Object statementProxy) {
+            this.resultSet = resultSet;
+            this.statementHandle = statementHandle;
+            this.statementProxy = statementProxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        resultSet.close();
+                        statementHandle.resultSetClosed((ResultSet) proxy);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || resultSet.isClosed();
+                case "getStatement":
+                    return statementProxy;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return StatementCache.invoke(resultSet, method, args);
+            }
+        }
+    }
+}
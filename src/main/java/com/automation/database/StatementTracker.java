@@ -0,0 +1,261 @@
+package com.automation.database;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owns every statement and result set opened through one logical connection
+ * Statements still open when the connection is returned are closed and reported
+ * with the test that created them. Also records the open cursor high-water mark,
+ * which is the largest number of result sets open at the same time
+ */
+class StatementTracker {
+    private static final Logger logger = LogManager.getLogger(StatementTracker.class);
+
+    private final String databaseType;
+    private final boolean captureTrace;
+    private final Set<TrackedStatement> openStatements = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger openCursors = new AtomicInteger();
+    private final AtomicInteger cursorHighWaterMark = new AtomicInteger();
+
+    StatementTracker(String databaseType, boolean captureTrace) {
+        this.databaseType = databaseType;
+        this.captureTrace = captureTrace;
+    }
+
+    /**
+     * Wrap a statement so that it and its result sets are tracked until closed
+     * @param statement Statement created by the connection
+     * @param sql SQL text for prepared statements, null for plain statements
+     * @param connection Logical connection returned by Statement.getConnection()
+     */
+    Statement track(Statement statement, String sql, Connection connection) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        TrackedStatement tracked = new TrackedStatement(statement, sql, connection);
+        openStatements.add(tracked);
+        return (Statement) Proxy.newProxyInstance(StatementTracker.class.getClassLoader(),
+                new Class<?>[] {type}, tracked);
+    }
+
+    int getOpenStatements() {
+        return openStatements.size();
+    }
+
+    int getOpenCursors() {
+        return openCursors.get();
+    }
+
+    int getCursorHighWaterMark() {
+        return cursorHighWaterMark.get();
+    }
+
+    /**
+     * Close everything that is still open and report it as leaked
+     * @return Number of leaked statements
+     */
+    int closeAll() {
+        List<TrackedStatement> leaked = new ArrayList<>(openStatements);
+        for (TrackedStatement statement : leaked) {
+            if (statement.trace != null) {
+                logger.warn("{} statement leaked by {}: {}", databaseType, statement.owner,
+                        statement.describe(), statement.trace);
+            } else {
+                logger.warn("{} statement leaked by {}: {}", databaseType, statement.owner, statement.describe());
+            }
+            statement.closeQuietly();
+        }
+        return leaked.size();
+    }
+
+    private void cursorOpened() {
+        cursorHighWaterMark.accumulateAndGet(openCursors.incrementAndGet(), Math::max);
+    }
+
+    private void cursorClosed() {
+        openCursors.decrementAndGet();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Statement handed to callers, closing it closes its open result sets
+     */
+    private class TrackedStatement implements InvocationHandler {
+        private final Statement statement;
+        private final String sql;
+        private final Connection connection;
+        private final String owner;
+        private final Throwable trace;
+        private final List<TrackedResultSet> openResultSets = new ArrayList<>(2);
+        private Object proxy;
+        private boolean closeOnCompletion;
+        private boolean closed;
+
+        private TrackedStatement(Statement statement, String sql, Connection connection) {
+            this.statement = statement;
+            this.sql = sql;
+            this.connection = connection;
+            this.owner = ConnectionPool.describeCaller();
+            this.trace = captureTrace ? new Exception("Statement created here") : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            this.proxy = proxy;
+            String name = method.getName();
+            switch (name) {
+                case "close":
+                    close();
+                    return null;
+                case "isClosed":
+                    return closed || statement.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TrackedStatement[" + describe() + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+
+            switch (name) {
+                case "getConnection":
+                    return connection;
+                case "closeOnCompletion":
+                    closeOnCompletion = true;
+                    return null;
+                case "isCloseOnCompletion":
+                    return closeOnCompletion;
+                default:
+                    break;
+            }
+
+            // Executing again implicitly closes the current result set
+            if (name.startsWith("execute") || "getMoreResults".equals(name)) {
+                closeResultSets();
+            }
+
+            Object result = StatementTracker.invoke(statement, method, args);
+            if (result instanceof ResultSet) {
+                TrackedResultSet tracked = new TrackedResultSet((ResultSet) result, this);
+                openResultSets.add(tracked);
+                cursorOpened();
+                return Proxy.newProxyInstance(StatementTracker.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class}, tracked);
+            }
+            return result;
+        }
+
+        private void close() throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            openStatements.remove(this);
+            try {
+                closeResultSets();
+            } finally {
+                statement.close();
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (SQLException e) {
+                logger.debug("Error closing leaked statement", e);
+            }
+        }
+
+        private void closeResultSets() throws SQLException {
+            for (TrackedResultSet resultSet : new ArrayList<>(openResultSets)) {
+                resultSet.close(false);
+            }
+        }
+
+        private void resultSetClosed(TrackedResultSet resultSet, boolean completeStatement) throws SQLException {
+            openResultSets.remove(resultSet);
+            if (completeStatement && closeOnCompletion && openResultSets.isEmpty()) {
+                close();
+            }
+        }
+
+        private String describe() {
+            return sql != null ? sql : "plain statement, last SQL unknown";
+        }
+    }
+
+    /**
+     * Result set handed to callers, counted as an open cursor until closed
+     */
+    private class TrackedResultSet implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final TrackedStatement statement;
+        private boolean closed;
+
+        private TrackedResultSet(ResultSet resultSet, TrackedStatement statement) {
+            this.resultSet = resultSet;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    close(true);
+                    return null;
+                case "isClosed":
+                    return closed || resultSet.isClosed();
+                case "getStatement":
+                    return statement.proxy;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return StatementTracker.invoke(resultSet, method, args);
+            }
+        }
+
+        private void close(boolean completeStatement) throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            cursorClosed();
+            try {
+                resultSet.close();
+            } finally {
+                statement.resultSetClosed(this, completeStatement);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.automation.listeners;
+
+import com.automation.core.DriverManager;
+import com.automation.core.DriverScope;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IClassListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestClass;
+
+/**
+ * TestNG Listener that releases WebDriver sessions when their scope ends
+ * Class-scoped sessions are released after the last method of the class,
+ * suite-scoped sessions and any leftovers when the suite finishes
+ */
+public class DriverLifecycleListener implements IClassListener, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(DriverLifecycleListener.class);
+
+    @Override
+    public void onAfterClass(ITestClass testClass) {
+        DriverManager.releaseScope(DriverScope.CLASS, testClass.getRealClass().getName());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        logger.info("Releasing WebDriver sessions for suite: {}", suite.getName());
+        DriverManager.quitAllDrivers();
+    }
+}
@@ -0,0 +1,73 @@
+package com.automation.listeners;
+
+import com.automation.core.ConfigManager;
+import com.automation.core.TestDurations;
+import com.automation.core.VirtualThreadExecutorFactory;
+import com.automation.core.VirtualThreads;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.internal.IConfiguration;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * TestNG Listener that switches the suite to virtual-thread execution
+ * when execution.mode=virtual and to longest-first scheduling when
+ * scheduler.duration.aware=true, so runs launched through surefire or an IDE
+ * do not need the -threadpoolfactoryclass command line option
+ */
+public class ExecutionModeListener implements ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(ExecutionModeListener.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    @Override
+    public void onStart(ISuite suite) {
+        boolean virtual = config.isVirtualThreadExecution();
+        if (virtual && !VirtualThreads.isSupported()) {
+            logger.warn("execution.mode=virtual requires Java 21, running suite {} on platform threads",
+                    suite.getName());
+            virtual = false;
+        }
+        boolean scheduled = config.isSchedulerDurationAware();
+        if (!virtual && !scheduled) {
+            return;
+        }
+
+        IConfiguration configuration = getConfiguration(suite);
+        if (configuration == null) {
+            logger.warn("Unable to install executor factory for suite {}, "
+                    + "use -threadpoolfactoryclass {} instead", suite.getName(),
+                    VirtualThreadExecutorFactory.class.getName());
+            return;
+        }
+        if (!(configuration.getExecutorFactory() instanceof VirtualThreadExecutorFactory)) {
+            configuration.setExecutorFactory(new VirtualThreadExecutorFactory());
+        }
+        if (virtual) {
+            logger.info("Virtual thread execution enabled for suite: {}", suite.getName());
+        }
+        if (scheduled) {
+            logger.info("Longest-first scheduling enabled for suite: {} ({})", suite.getName(),
+                    TestDurations.hasHistory() ? "using recorded durations" : "no recorded durations yet");
+        }
+    }
+
+    /**
+     * TestNG does not expose the suite configuration, so it is read from the suite runner
+     * A field handle is used because listing the runner's fields would load the optional
+     * Guice classes they refer to
+     */
+    private static IConfiguration getConfiguration(ISuite suite) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(suite.getClass(), MethodHandles.lookup());
+            VarHandle field = lookup.findVarHandle(suite.getClass(), "configuration", IConfiguration.class);
+            return (IConfiguration) field.get(suite);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            logger.debug("Suite configuration not accessible", e);
+            return null;
+        }
+    }
+}
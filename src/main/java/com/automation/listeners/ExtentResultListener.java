@@ -0,0 +1,124 @@
+package com.automation.listeners;
+
+import com.automation.core.ConfigManager;
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.JsonFormatter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * TestNG Listener that records results in an Extent JSON archive and HTML report
+ * A sharded run writes shard-<index>.json, an unsharded run extent.json. The archives of
+ * all shards are combined into one report by ShardReportMerger
+ */
+public class ExtentResultListener implements ITestListener, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(ExtentResultListener.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private ExtentReports extent;
+    private Path reportDir;
+
+    @Override
+    public synchronized void onStart(ISuite suite) {
+        if (extent != null) {
+            return;
+        }
+        reportDir = Paths.get(config.getExtentReportPath());
+        String name = archiveName();
+
+        extent = new ExtentReports();
+        extent.attachReporter(new JsonFormatter(reportDir.resolve(name + ".json").toString()));
+        extent.attachReporter(new ExtentSparkReporter(reportDir.resolve(name + ".html").toString()));
+        extent.setSystemInfo("Suite", suite.getName());
+        extent.setSystemInfo("Environment", config.getEnvironment());
+        if (config.getShardCount() > 1) {
+            extent.setSystemInfo("Shard", (config.getShardIndex() + 1) + "/" + config.getShardCount());
+        }
+    }
+
+    @Override
+    public synchronized void onTestSuccess(ITestResult result) {
+        ExtentTest test = record(result);
+        if (test != null) {
+            test.pass("Test passed");
+        }
+    }
+
+    @Override
+    public synchronized void onTestFailure(ITestResult result) {
+        ExtentTest test = record(result);
+        if (test == null) {
+            return;
+        }
+        if (result.getThrowable() != null) {
+            test.fail(result.getThrowable());
+        } else {
+            test.fail("Test failed");
+        }
+        Object screenshot = result.getAttribute("screenshot");
+        if (screenshot != null) {
+            // Relative to the report so it still resolves after the report directory is copied
+            Path path = Paths.get(screenshot.toString()).toAbsolutePath();
+            test.addScreenCaptureFromPath(reportDir.toAbsolutePath().relativize(path).toString().replace('\\', '/'));
+        }
+    }
+
+    @Override
+    public synchronized void onTestSkipped(ITestResult result) {
+        ExtentTest test = record(result);
+        if (test == null) {
+            return;
+        }
+        if (result.getThrowable() != null) {
+            test.skip(result.getThrowable());
+        } else {
+            test.skip("Test skipped");
+        }
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (extent == null) {
+            return;
+        }
+        extent.flush();
+        logger.info("Extent report written to: {}", reportDir.resolve(archiveName() + ".json"));
+    }
+
+    /**
+     * Create the report entry of a finished test
+     * The Extent model is not thread-safe, callers hold the listener lock
+     */
+    private ExtentTest record(ITestResult result) {
+        if (extent == null) {
+            return null;
+        }
+        String name = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+        if (result.getParameters().length > 0) {
+            name += " " + Arrays.deepToString(result.getParameters());
+        }
+        ExtentTest test = extent.createTest(name, result.getMethod().getDescription());
+        test.assignCategory(result.getTestContext().getName());
+        if (result.getMethod().getGroups().length > 0) {
+            test.assignCategory(result.getMethod().getGroups());
+        }
+        test.getModel().setStartTime(new Date(result.getStartMillis()));
+        test.getModel().setEndTime(new Date(result.getEndMillis()));
+        return test;
+    }
+
+    private static String archiveName() {
+        return config.getShardCount() > 1 ? "shard-" + config.getShardIndex() : "extent";
+    }
+}
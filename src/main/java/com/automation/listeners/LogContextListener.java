@@ -0,0 +1,33 @@
+package com.automation.listeners;
+
+import org.apache.logging.log4j.ThreadContext;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG Listener that tags log events with the running test method
+ * The testClass and testMethod ThreadContext keys route each test's log lines into its own
+ * file, see the TestAppender in log4j2.xml. TestNG invokes the listener on the thread running
+ * the test, so the keys stay correct in parallel runs
+ */
+public class LogContextListener implements IInvokedMethodListener {
+    private static final String TEST_CLASS = "testClass";
+    private static final String TEST_METHOD = "testMethod";
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            ThreadContext.put(TEST_CLASS, testResult.getTestClass().getRealClass().getSimpleName());
+            ThreadContext.put(TEST_METHOD, testResult.getMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            ThreadContext.remove(TEST_CLASS);
+            ThreadContext.remove(TEST_METHOD);
+        }
+    }
+}
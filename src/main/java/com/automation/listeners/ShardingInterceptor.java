@@ -0,0 +1,251 @@
+package com.automation.listeners;
+
+import com.automation.core.ConfigManager;
+import com.automation.core.TestDurations;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * TestNG Listener that runs one shard of the suite when shard.count is above 1
+ * Every JVM gets the same method list and computes the same partition, so CI runners only
+ * differ in -Dshard.index. Methods go to a shard picked by a stable hash of their name. When
+ * shard.durations.path names a durations file shared by all runners, methods recorded in it are
+ * spread longest-first onto the least loaded shard instead. Methods of a class using
+ * dependsOnMethods or dependsOnGroups stay on one shard together. Data-driven methods run on
+ * every shard with each shard taking every shard.count-th row. The checksums logged per shard
+ * must match across runners, otherwise they partitioned different inputs
+ */
+public class ShardingInterceptor implements IMethodInterceptor, IDataProviderInterceptor {
+    private static final Logger logger = LogManager.getLogger(ShardingInterceptor.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int count = config.getShardCount();
+        if (count <= 1) {
+            return methods;
+        }
+        int index = shardIndex(count);
+
+        // Group methods into units that must run on the same shard
+        Set<Class<?>> dependentClasses = new HashSet<>();
+        for (IMethodInstance instance : methods) {
+            if (hasDependencies(instance.getMethod())) {
+                dependentClasses.add(instance.getMethod().getRealClass());
+            }
+        }
+        Map<String, List<IMethodInstance>> units = new LinkedHashMap<>();
+        Set<IMethodInstance> dataDriven = new HashSet<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            if (isSplitByRow(method, dependentClasses)) {
+                dataDriven.add(instance);
+            } else {
+                units.computeIfAbsent(unitKey(method, dependentClasses), k -> new ArrayList<>()).add(instance);
+            }
+        }
+
+        // Pack units with known durations longest-first, hash the rest
+        Map<String, Long> durations = sharedDurations();
+        List<String> timed = new ArrayList<>();
+        Map<String, Long> expected = new LinkedHashMap<>();
+        for (Map.Entry<String, List<IMethodInstance>> unit : units.entrySet()) {
+            long millis = 0;
+            for (IMethodInstance instance : unit.getValue()) {
+                millis += durations.getOrDefault(methodKey(instance.getMethod()), 0L);
+            }
+            expected.put(unit.getKey(), millis);
+            if (millis > 0) {
+                timed.add(unit.getKey());
+            }
+        }
+        timed.sort(Comparator.comparing((String key) -> expected.get(key)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        long[] load = new long[count];
+        Map<String, Integer> assignment = new LinkedHashMap<>();
+        for (String key : timed) {
+            int shard = 0;
+            for (int i = 1; i < count; i++) {
+                if (load[i] < load[shard]) {
+                    shard = i;
+                }
+            }
+            load[shard] += expected.get(key);
+            assignment.put(key, shard);
+        }
+
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            if (dataDriven.contains(instance)) {
+                selected.add(instance);
+                continue;
+            }
+            String key = unitKey(method, dependentClasses);
+            int shard = assignment.getOrDefault(key, stableHash(key, count));
+            if (shard == index) {
+                selected.add(instance);
+            }
+        }
+
+        logger.info("Shard {}/{} of {} runs {} of {} methods ({} data-driven split by row, expected {} ms)",
+                index + 1, count, context.getName(), selected.size(), methods.size(), dataDriven.size(),
+                load[index]);
+        logger.info("Shard partition input of {}: methods checksum {}, durations checksum {} ({} entries)",
+                context.getName(), checksum(new TreeMap<>(methodKeys(methods))), checksum(new TreeMap<>(durations)),
+                durations.size());
+        return selected;
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> original, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext context) {
+        int count = config.getShardCount();
+        if (count <= 1) {
+            return original;
+        }
+        Set<Class<?>> dependentClasses = new HashSet<>();
+        for (ITestNGMethod other : context.getAllTestMethods()) {
+            if (hasDependencies(other)) {
+                dependentClasses.add(other.getRealClass());
+            }
+        }
+        if (!isSplitByRow(method, dependentClasses)) {
+            return original;
+        }
+        // Offset by method so single-row providers do not all land on the first shard
+        int offset = stableHash(methodKey(method), count);
+        return new ShardIterator(original, Math.floorMod(shardIndex(count) - offset, count), count);
+    }
+
+    /**
+     * Durations every runner reads identically, empty unless shard.durations.path is set
+     */
+    private static Map<String, Long> sharedDurations() {
+        String path = config.getShardDurationsPath();
+        if (path.trim().isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Path file = Paths.get(path.trim());
+        if (!Files.exists(file)) {
+            logger.warn("Shared shard durations file not found, partitioning by hash: {}", file);
+        }
+        return TestDurations.read(file);
+    }
+
+    private static Map<String, Long> methodKeys(List<IMethodInstance> methods) {
+        Map<String, Long> keys = new LinkedHashMap<>();
+        for (IMethodInstance instance : methods) {
+            keys.put(methodKey(instance.getMethod()), 0L);
+        }
+        return keys;
+    }
+
+    /**
+     * Get a hex CRC32 of sorted entries, equal on every runner that saw the same input
+     */
+    private static String checksum(SortedMap<String, Long> entries) {
+        CRC32 crc = new CRC32();
+        entries.forEach((key, value) -> crc.update((key + "=" + value + "\n").getBytes(StandardCharsets.UTF_8)));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static int shardIndex(int count) {
+        int index = config.getShardIndex();
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (count - 1) + ": " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Classes with method dependencies are kept together, other methods are sharded alone
+     */
+    private static String unitKey(ITestNGMethod method, Set<Class<?>> dependentClasses) {
+        return dependentClasses.contains(method.getRealClass()) ? method.getRealClass().getName() : methodKey(method);
+    }
+
+    private static boolean isSplitByRow(ITestNGMethod method, Set<Class<?>> dependentClasses) {
+        return method.isDataDriven() && !dependentClasses.contains(method.getRealClass());
+    }
+
+    private static boolean hasDependencies(ITestNGMethod method) {
+        return method.getMethodsDependedUpon().length > 0 || method.getGroupsDependedUpon().length > 0;
+    }
+
+    private static String methodKey(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    /**
+     * Get a shard from a name, the same on every JVM and platform
+     */
+    private static int stableHash(String key, int count) {
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % count);
+    }
+
+    /**
+     * Passes on every count-th row starting at first, rows of other shards never become invocations
+     */
+    private static final class ShardIterator implements Iterator<Object[]> {
+        private final Iterator<Object[]> rows;
+        private final int first;
+        private final int count;
+        private int position;
+        private Object[] next;
+
+        private ShardIterator(Iterator<Object[]> rows, int first, int count) {
+            this.rows = rows;
+            this.first = first;
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && rows.hasNext()) {
+                Object[] row = rows.next();
+                if (position++ % count == first) {
+                    next = row;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] row = next;
+            next = null;
+            return row;
+        }
+    }
+}
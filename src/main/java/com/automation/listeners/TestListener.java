@@ -1,24 +1,26 @@
 package com.automation.listeners;
 
-import com.automation.core.WebDriverManager;
+import com.automation.core.DriverManager;
+import com.automation.core.HttpClientPool;
+import com.automation.core.ScreenshotPipeline;
+import com.automation.core.TestDurations;
+import com.automation.performance.LatencyRecorder;
+import com.automation.utils.TestDataCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
  * TestNG Listener for test reporting and failure handling
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener {
     private static final Logger logger = LogManager.getLogger(TestListener.class);
     private static final String SCREENSHOT_DIR = "target/screenshots/";
 
@@ -32,12 +34,14 @@ public class TestListener implements ITestListener {
     public void onTestSuccess(ITestResult result) {
         logger.info("Test passed: {} in class: {}", 
             result.getName(), result.getTestClass().getName());
+        TestDurations.record(result);
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
         logger.error("Test failed: {} in class: {}", 
             result.getName(), result.getTestClass().getName());
+        TestDurations.record(result);
         
         // Take screenshot on failure
         takeScreenshot(result);
@@ -74,40 +78,49 @@ public class TestListener implements ITestListener {
             context.getPassedTests().size(),
             context.getFailedTests().size(),
             context.getSkippedTests().size());
+        logger.info("Test data cache: {}", TestDataCache.getStats());
+        if (HttpClientPool.isStarted()) {
+            logger.info("HTTP connection pool: {}", HttpClientPool.getStats());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        // Make sure every screenshot referenced by the reports is on disk
+        if (ScreenshotPipeline.isStarted()) {
+            if (!ScreenshotPipeline.flush()) {
+                logger.warn("Not all screenshots were written before the suite finished");
+            }
+            logger.info("Screenshots: {}", ScreenshotPipeline.getStats());
+        }
+        
+        // Keep durations for longest-first scheduling of the next run
+        TestDurations.save();
+        
+        // Dump API latency histograms once all tests of the suite have run
+        if (!LatencyRecorder.isEmpty()) {
+            LatencyRecorder.writeReport();
+        }
     }
 
     /**
      * Take screenshot on test failure
+     * Only the capture runs on the test thread, the file is written in the background
      */
     private void takeScreenshot(ITestResult result) {
         try {
-            if (WebDriverManager.hasDriver()) {
-                // Create screenshot directory if it doesn't exist
-                Path screenshotDir = Paths.get(SCREENSHOT_DIR);
-                if (!Files.exists(screenshotDir)) {
-                    Files.createDirectories(screenshotDir);
-                }
-
+            if (DriverManager.isDriverInitialized()) {
                 // Generate screenshot filename
                 String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
                 String testName = result.getName().replaceAll("[^a-zA-Z0-9]", "_");
-                String screenshotName = String.format("%s_%s.png", testName, timestamp);
-                String screenshotPath = SCREENSHOT_DIR + screenshotName;
-
-                // Take screenshot
-                File screenshot = WebDriverManager.getDriver()
-                    .getScreenshotAs(org.openqa.selenium.OutputType.FILE);
-                
-                // Copy to target location
-                Files.copy(screenshot.toPath(), Paths.get(screenshotPath));
+                String screenshotPath = ScreenshotPipeline.capture(DriverManager.getDriver(), SCREENSHOT_DIR,
+                    testName + "_" + timestamp);
                 
-                logger.info("Screenshot saved: {}", screenshotPath);
+                logger.info("Screenshot captured: {}", screenshotPath);
                 
                 // Attach screenshot to test result for reporting
                 result.setAttribute("screenshot", screenshotPath);
             }
-        } catch (IOException e) {
-            logger.error("Failed to take screenshot", e);
         } catch (Exception e) {
             logger.error("Error taking screenshot", e);
         }
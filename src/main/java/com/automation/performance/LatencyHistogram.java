@@ -0,0 +1,234 @@
+package com.automation.performance;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram in microseconds with log-linear buckets
+ * Values below 256 us are counted exactly, larger values keep their top 8 bits, so every
+ * recorded value is reported within 1% of its true value at a fixed memory cost of about
+ * 30 KB regardless of how many samples are recorded. Recording is a single atomic
+ * increment and is safe from any number of threads
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final AtomicLongArray counts;
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(indexOf(HIGHEST_TRACKABLE_MICROS) + 1);
+    }
+
+    /**
+     * Record a latency in microseconds, values above one hour are recorded as one hour
+     */
+    public void recordValue(long micros) {
+        long value = Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalMicros.add(value);
+        minMicros.accumulateAndGet(value, Math::min);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Record a latency measured by a caller that waits for each response before sending the next
+     * request, correcting for coordinated omission
+     * A response that took longer than the expected interval between requests held back the
+     * requests that should have been sent meanwhile; their latencies are added as if they had
+     * been sent on schedule
+     * @param micros Measured latency in microseconds
+     * @param expectedIntervalMicros Expected interval between requests, 0 records the value as is
+     */
+    public void recordValueWithExpectedInterval(long micros, long expectedIntervalMicros) {
+        recordValue(micros);
+        if (expectedIntervalMicros <= 0) {
+            return;
+        }
+        for (long missing = micros - expectedIntervalMicros; missing >= expectedIntervalMicros;
+                missing -= expectedIntervalMicros) {
+            recordValue(missing);
+        }
+    }
+
+    /**
+     * Record a latency given in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Add all values recorded by another histogram
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.add(other.getTotalCount());
+        totalMicros.add(other.totalMicros.sum());
+        minMicros.accumulateAndGet(other.minMicros.get(), Math::min);
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Get the value at a percentile in microseconds
+     * @param percentile Percentile between 0 and 100
+     * @return Highest value equivalent to the one at the percentile, 0 when nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = getTotalCount();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    public long getMinValue() {
+        return getTotalCount() == 0 ? 0 : minMicros.get();
+    }
+
+    public long getMaxValue() {
+        return maxMicros.get();
+    }
+
+    public double getMean() {
+        long total = getTotalCount();
+        return total == 0 ? 0 : (double) totalMicros.sum() / total;
+    }
+
+    /**
+     * Get the standard deviation of the recorded values in microseconds, based on bucket values
+     */
+    public double getStdDeviation() {
+        long total = getTotalCount();
+        if (total == 0) {
+            return 0;
+        }
+        double mean = getMean();
+        double squares = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                double deviation = highestEquivalentValue(i) - mean;
+                squares += deviation * deviation * count;
+            }
+        }
+        return Math.sqrt(squares / total);
+    }
+
+    /**
+     * Write the percentile distribution in the HdrHistogram text format (.hgrm), which the
+     * HdrHistogram plotter and other HDR tooling read directly
+     * Percentile levels get closer together towards the tail, 5 per halving of the distance to 100%
+     * @param out Stream to write to
+     * @param outputValueUnitScalingRatio Divisor applied to the microsecond values, 1000 writes milliseconds
+     */
+    public void outputPercentileDistribution(PrintStream out, double outputValueUnitScalingRatio) {
+        out.format("%12s %14s %10s %14s%n%n", "Value", "Percentile", "TotalCount", "1/(1-Percentile)");
+        long total = getTotalCount();
+        if (total > 0) {
+            double percentile = 0;
+            while (true) {
+                long value = getValueAtPercentile(percentile);
+                long countAtValue = getCountAtOrBelow(value);
+                if (countAtValue >= total) {
+                    break;
+                }
+                double fraction = percentile / 100.0;
+                out.format("%12.3f %2.12f %10d %14.2f%n", value / outputValueUnitScalingRatio, fraction,
+                        countAtValue, 1 / (1 - fraction));
+                long ticks = 5L << ((long) (Math.log(100.0 / (100.0 - percentile)) / Math.log(2)) + 1);
+                percentile += 100.0 / ticks;
+            }
+            out.format("%12.3f %2.12f %10d%n", getMaxValue() / outputValueUnitScalingRatio, 1.0, total);
+        }
+        out.format("#[Mean    = %12.3f, StdDeviation   = %12.3f]%n", getMean() / outputValueUnitScalingRatio,
+                getStdDeviation() / outputValueUnitScalingRatio);
+        out.format("#[Max     = %12.3f, Total count    = %12d]%n", getMaxValue() / outputValueUnitScalingRatio,
+                total);
+        out.format("#[Buckets = %12d, SubBuckets     = %12d]%n",
+                (counts.length() - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1, SUB_BUCKET_COUNT);
+    }
+
+    private long getCountAtOrBelow(long value) {
+        int last = indexOf(Math.min(value, HIGHEST_TRACKABLE_MICROS));
+        long count = 0;
+        for (int i = 0; i <= last; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Get the number of values recorded in each non-empty bucket, as pairs of the bucket's
+     * highest value and its count in ascending order
+     */
+    public long[][] getBuckets() {
+        int used = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            if (counts.get(i) > 0) {
+                used++;
+            }
+        }
+        long[][] buckets = new long[used][];
+        int next = 0;
+        for (int i = 0; i < counts.length() && next < used; i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                buckets[next++] = new long[] {highestEquivalentValue(i), count};
+            }
+        }
+        return buckets;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int subBucket = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram[count=%d, min=%dus, mean=%.1fus, p50=%dus, p95=%dus, p99=%dus, "
+                        + "max=%dus]", getTotalCount(), getMinValue(), getMean(), getValueAtPercentile(50),
+                getValueAtPercentile(95), getValueAtPercentile(99), getMaxValue());
+    }
+}
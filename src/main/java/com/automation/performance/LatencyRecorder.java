@@ -0,0 +1,183 @@
+package com.automation.performance;
+
+import com.automation.core.ConfigManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Latency histograms for every API call made through the test base classes
+ * Each method and endpoint pair gets its own histogram. Endpoints are recorded as written in
+ * the test, so templated paths such as /users/{id} share one histogram; numeric and UUID path
+ * segments of literal paths are folded into {id} for the same reason.
+ * At suite end writeReport logs a percentile table and writes one .hgrm file per endpoint in
+ * the HdrHistogram percentile distribution format, so runs can be compared across builds
+ */
+public final class LatencyRecorder {
+    private static final Logger logger = LogManager.getLogger(LatencyRecorder.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private static final Filter FILTER = new RecordingFilter();
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+    private static final double[] TABLE_PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private LatencyRecorder() {
+    }
+
+    /**
+     * Add the recording filter to a request specification when latency recording is enabled
+     */
+    public static RequestSpecification attach(RequestSpecification spec) {
+        return config.isLatencyRecordingEnabled() ? spec.filter(FILTER) : spec;
+    }
+
+    /**
+     * Record the latency of one call
+     * @param method HTTP method
+     * @param endpoint Endpoint as written in the test
+     * @param nanos Time from sending the request to receiving the response
+     */
+    public static void record(String method, String endpoint, long nanos) {
+        histograms.computeIfAbsent(key(method, endpoint), k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    /**
+     * Get the histogram of a method and endpoint, null when no call was recorded
+     */
+    public static LatencyHistogram getHistogram(String method, String endpoint) {
+        return histograms.get(key(method, endpoint));
+    }
+
+    /**
+     * Get the histograms of all recorded calls keyed by method and endpoint, sorted by key
+     */
+    public static Map<String, LatencyHistogram> getHistograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    public static boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    public static void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Log the percentile table and write it with the .hgrm files to the configured report path
+     */
+    public static void writeReport() {
+        writeReport(Paths.get(config.getLatencyReportPath()));
+    }
+
+    /**
+     * Log the percentile table and write it with the .hgrm files to a directory
+     * @param directory Directory receiving latency-summary.txt and one .hgrm file per endpoint
+     */
+    public static void writeReport(Path directory) {
+        Map<String, LatencyHistogram> snapshot = getHistograms();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        List<String> table = formatTable(snapshot);
+        logger.info("API latency percentiles (ms):{}{}", System.lineSeparator(),
+                String.join(System.lineSeparator(), table));
+
+        try {
+            Files.createDirectories(directory);
+            Files.write(directory.resolve("latency-summary.txt"), table, StandardCharsets.UTF_8);
+            for (Map.Entry<String, LatencyHistogram> entry : snapshot.entrySet()) {
+                Path file = directory.resolve(fileName(entry.getKey()));
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+                    entry.getValue().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+            logger.info("Latency histograms for {} endpoints written to: {}", snapshot.size(), directory);
+        } catch (IOException e) {
+            logger.error("Failed to write latency histograms to: {}", directory, e);
+        }
+    }
+
+    private static List<String> formatTable(Map<String, LatencyHistogram> snapshot) {
+        int width = "Endpoint".length();
+        for (String key : snapshot.keySet()) {
+            width = Math.max(width, key.length());
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-" + width + "s %8s %9s %9s %9s %9s %9s %9s %9s", "Endpoint", "Count", "Mean",
+                "p50", "p90", "p95", "p99", "p99.9", "Max"));
+        for (Map.Entry<String, LatencyHistogram> entry : snapshot.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            StringBuilder line = new StringBuilder(String.format("%-" + width + "s %8d %9.2f", entry.getKey(),
+                    histogram.getTotalCount(), histogram.getMean() / 1000.0));
+            for (double percentile : TABLE_PERCENTILES) {
+                line.append(String.format(" %9.2f", histogram.getValueAtPercentile(percentile) / 1000.0));
+            }
+            line.append(String.format(" %9.2f", histogram.getMaxValue() / 1000.0));
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private static String key(String method, String endpoint) {
+        return method.toUpperCase() + " " + normalize(endpoint);
+    }
+
+    /**
+     * Strip the query string and fold identifier segments so one endpoint maps to one histogram
+     */
+    private static String normalize(String endpoint) {
+        String path = endpoint == null || endpoint.isEmpty() ? "/" : endpoint;
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        return ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    /**
+     * Readable file name for an endpoint key
+     * Different keys can sanitize to the same name, such as "GET /users" and "GET /users/",
+     * so a checksum of the raw key keeps every endpoint in its own file
+     */
+    private static String fileName(String key) {
+        String name = key.replaceAll("[{}]", "").replaceAll("[^A-Za-z0-9._-]+", "_").replaceAll("_+$", "");
+        CRC32 checksum = new CRC32();
+        checksum.update(key.getBytes(StandardCharsets.UTF_8));
+        return String.format("%s-%08x.hgrm", name, checksum.getValue());
+    }
+
+    /**
+     * Times each call around the rest of the filter chain
+     */
+    private static final class RecordingFilter implements Filter {
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec, FilterContext ctx) {
+            long start = System.nanoTime();
+            Response response = ctx.next(requestSpec, responseSpec);
+            record(requestSpec.getMethod(), requestSpec.getUserDefinedPath(), System.nanoTime() - start);
+            return response;
+        }
+    }
+}
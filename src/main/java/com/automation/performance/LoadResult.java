@@ -0,0 +1,212 @@
+package com.automation.performance;
+
+import org.testng.Assert;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and errors recorded by a LoadTest
+ * Statistics and SLA assertions refer to the steady-state phase, ramp phases are kept
+ * separately so warm-up and drain do not skew the percentiles. The assertions fail the
+ * calling TestNG test and return the result for chaining
+ */
+public class LoadResult {
+    private final String name;
+    private final String model;
+    private final Duration steadyState;
+    private final Map<LoadTest.Phase, LatencyHistogram> histograms = new EnumMap<>(LoadTest.Phase.class);
+    private final Map<LoadTest.Phase, LongAdder> errors = new EnumMap<>(LoadTest.Phase.class);
+    private volatile long elapsedNanos;
+
+    LoadResult(String name, String model, Duration steadyState) {
+        this.name = name;
+        this.model = model;
+        this.steadyState = steadyState;
+        for (LoadTest.Phase phase : LoadTest.Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+            errors.put(phase, new LongAdder());
+        }
+    }
+
+    void record(LoadTest.Phase phase, long latencyMicros, boolean success) {
+        histograms.get(phase).recordValue(latencyMicros);
+        if (!success) {
+            errors.get(phase).increment();
+        }
+    }
+
+    void complete(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the load model, open or closed
+     */
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * Get latencies of requests scheduled during the steady state in microseconds
+     */
+    public LatencyHistogram getSteadyStateHistogram() {
+        return histograms.get(LoadTest.Phase.STEADY_STATE);
+    }
+
+    /**
+     * Get latencies of requests scheduled during a phase in microseconds
+     */
+    public LatencyHistogram getHistogram(LoadTest.Phase phase) {
+        return histograms.get(phase);
+    }
+
+    /**
+     * Get latencies of all requests in microseconds
+     */
+    public LatencyHistogram getTotalHistogram() {
+        LatencyHistogram total = new LatencyHistogram();
+        for (LatencyHistogram histogram : histograms.values()) {
+            total.add(histogram);
+        }
+        return total;
+    }
+
+    /**
+     * Get number of requests completed in the steady state
+     */
+    public long getRequestCount() {
+        return getSteadyStateHistogram().getTotalCount();
+    }
+
+    /**
+     * Get number of failed requests in the steady state
+     */
+    public long getErrorCount() {
+        return errors.get(LoadTest.Phase.STEADY_STATE).sum();
+    }
+
+    /**
+     * Get share of failed requests in the steady state
+     */
+    public double getErrorRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 0 : (double) getErrorCount() / requests;
+    }
+
+    /**
+     * Get steady-state throughput in requests per second
+     */
+    public double getThroughput() {
+        double seconds = steadyState.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : getRequestCount() / seconds;
+    }
+
+    /**
+     * Get steady-state latency at a percentile in milliseconds
+     */
+    public double getPercentileMillis(double percentile) {
+        return getSteadyStateHistogram().getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double getP50Millis() {
+        return getPercentileMillis(50);
+    }
+
+    public double getP95Millis() {
+        return getPercentileMillis(95);
+    }
+
+    public double getP99Millis() {
+        return getPercentileMillis(99);
+    }
+
+    public double getMaxMillis() {
+        return getSteadyStateHistogram().getMaxValue() / 1000.0;
+    }
+
+    public double getMeanMillis() {
+        return getSteadyStateHistogram().getMean() / 1000.0;
+    }
+
+    /**
+     * Get wall-clock duration of the whole test including ramps and draining in milliseconds
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Assert the steady-state latency at a percentile is below a limit
+     */
+    public LoadResult assertPercentileBelow(double percentile, long maxMillis) {
+        assertHasRequests();
+        double actual = getPercentileMillis(percentile);
+        if (actual >= maxMillis) {
+            Assert.fail(String.format("Load test %s: p%s latency %.1f ms exceeds SLA of %d ms - %s",
+                    name, formatPercentile(percentile), actual, maxMillis, this));
+        }
+        return this;
+    }
+
+    public LoadResult assertP50Below(long maxMillis) {
+        return assertPercentileBelow(50, maxMillis);
+    }
+
+    public LoadResult assertP95Below(long maxMillis) {
+        return assertPercentileBelow(95, maxMillis);
+    }
+
+    public LoadResult assertP99Below(long maxMillis) {
+        return assertPercentileBelow(99, maxMillis);
+    }
+
+    /**
+     * Assert the share of failed steady-state requests is at most a limit, so 0 requires no failures
+     * @param maxErrorRate Highest accepted error rate between 0 and 1
+     */
+    public LoadResult assertErrorRateAtMost(double maxErrorRate) {
+        assertHasRequests();
+        if (getErrorRate() > maxErrorRate) {
+            Assert.fail(String.format("Load test %s: error rate %.2f%% exceeds SLA of %.2f%% - %s",
+                    name, getErrorRate() * 100, maxErrorRate * 100, this));
+        }
+        return this;
+    }
+
+    /**
+     * Assert the steady-state throughput reached a minimum
+     */
+    public LoadResult assertThroughputAbove(double minRequestsPerSecond) {
+        if (getThroughput() < minRequestsPerSecond) {
+            Assert.fail(String.format("Load test %s: throughput %.1f req/s is below SLA of %.1f req/s - %s",
+                    name, getThroughput(), minRequestsPerSecond, this));
+        }
+        return this;
+    }
+
+    private void assertHasRequests() {
+        if (getRequestCount() == 0) {
+            Assert.fail("Load test " + name + " completed no requests in the steady state");
+        }
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LoadResult[%s model, requests=%d, errors=%d, errorRate=%.2f%%, throughput=%.1f req/s, "
+                        + "p50=%.1fms, p95=%.1fms, p99=%.1fms, max=%.1fms, elapsed=%dms]",
+                model, getRequestCount(), getErrorCount(), getErrorRate() * 100, getThroughput(),
+                getP50Millis(), getP95Millis(), getP99Millis(), getMaxMillis(), getElapsedMillis());
+    }
+}
@@ -0,0 +1,323 @@
+package com.automation.performance;
+
+import com.automation.core.ConfigManager;
+import com.automation.core.VirtualThreads;
+import io.restassured.response.Response;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * Load generator for API calls made through the request classes
+ * An open model sends requests at a target arrival rate whether or not earlier requests have
+ * completed, a closed model runs a fixed number of virtual users that each wait for their
+ * response. Both ramp up, hold a steady state and ramp down.
+ * Latency is measured from the time a request was scheduled to start, so time spent queued
+ * behind a slow server counts against it and coordinated omission does not hide stalls.
+ * SLAs are asserted on the steady-state phase:
+ * <pre>
+ * LoadTest.openModel(50)
+ *         .withRampUp(Duration.ofSeconds(10))
+ *         .withSteadyState(Duration.ofSeconds(60))
+ *         .run(() -&gt; getRequest.get("/users"))
+ *         .assertP95Below(500)
+ *         .assertErrorRateAtMost(0.01);
+ * </pre>
+ */
+public class LoadTest {
+    private static final Logger logger = LogManager.getLogger(LoadTest.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private final double arrivalRate;
+    private final int users;
+    private Duration rampUp = Duration.ZERO;
+    private Duration steadyState = Duration.ofSeconds(30);
+    private Duration rampDown = Duration.ZERO;
+    private Duration pacing = Duration.ZERO;
+    private Duration thinkTime = Duration.ZERO;
+    private int maxConcurrency = config.getLoadMaxConcurrency();
+    private Predicate<Response> successCondition = response -> response.getStatusCode() < 400;
+    private String name = "load";
+
+    private LoadTest(double arrivalRate, int users) {
+        this.arrivalRate = arrivalRate;
+        this.users = users;
+    }
+
+    /**
+     * Create an open-model test sending requests at a fixed rate during the steady state
+     * @param requestsPerSecond Target arrival rate
+     */
+    public static LoadTest openModel(double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive: " + requestsPerSecond);
+        }
+        return new LoadTest(requestsPerSecond, 0);
+    }
+
+    /**
+     * Create a closed-model test with a fixed number of concurrent virtual users
+     * @param users Number of virtual users during the steady state
+     */
+    public static LoadTest closedModel(int users) {
+        if (users <= 0) {
+            throw new IllegalArgumentException("Number of users must be positive: " + users);
+        }
+        return new LoadTest(0, users);
+    }
+
+    /**
+     * Set how long the rate or user count rises linearly from zero to the target
+     */
+    public LoadTest withRampUp(Duration rampUp) {
+        this.rampUp = rampUp;
+        return this;
+    }
+
+    /**
+     * Set how long the target rate or user count is held, SLAs are evaluated on this phase
+     */
+    public LoadTest withSteadyState(Duration steadyState) {
+        this.steadyState = steadyState;
+        return this;
+    }
+
+    /**
+     * Set how long the rate or user count falls linearly back to zero
+     */
+    public LoadTest withRampDown(Duration rampDown) {
+        this.rampDown = rampDown;
+        return this;
+    }
+
+    /**
+     * Set the interval at which each closed-model user starts a request
+     * Latency is then measured from the scheduled start, a user that falls behind its pacing
+     * records the delay as latency
+     */
+    public LoadTest withPacing(Duration pacing) {
+        this.pacing = pacing;
+        return this;
+    }
+
+    /**
+     * Set the pause between the response and the next request of a closed-model user without pacing
+     */
+    public LoadTest withThinkTime(Duration thinkTime) {
+        this.thinkTime = thinkTime;
+        return this;
+    }
+
+    /**
+     * Set the largest number of open-model requests in flight at once, later arrivals wait
+     * for a free worker and the wait counts as latency
+     */
+    public LoadTest withMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Set the condition a response must meet to count as successful, by default a status below 400
+     */
+    public LoadTest withSuccessCondition(Predicate<Response> successCondition) {
+        this.successCondition = successCondition;
+        return this;
+    }
+
+    /**
+     * Set the name used in logs and thread names
+     */
+    public LoadTest withName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * Run the load test and wait until every request has completed
+     * @param request Call to make, exceptions count as errors
+     */
+    public LoadResult run(Callable<Response> request) {
+        LoadResult result = new LoadResult(name, arrivalRate > 0 ? "open" : "closed", steadyState);
+        int workers = arrivalRate > 0 ? Math.max(maxConcurrency, 1) : users;
+        if (workers > config.getAPIPoolMaxPerRoute()) {
+            logger.warn("Load test {} uses up to {} concurrent requests but api.pool.max.per.route is {}, "
+                    + "requests will queue for pooled connections", name, workers, config.getAPIPoolMaxPerRoute());
+        }
+
+        logger.info("Starting {} model load test {} ({}, ramp-up: {}s, steady state: {}s, ramp-down: {}s)",
+                result.getModel(), name, arrivalRate > 0 ? arrivalRate + " req/s" : users + " users",
+                rampUp.getSeconds(), steadyState.getSeconds(), rampDown.getSeconds());
+        ExecutorService executor = Executors.newFixedThreadPool(workers, threadFactory());
+        long startNanos = System.nanoTime();
+        try {
+            if (arrivalRate > 0) {
+                runOpenModel(request, result, executor, startNanos);
+            } else {
+                runClosedModel(request, result, executor, startNanos);
+            }
+            executor.shutdown();
+            long drainSeconds = config.getAPITimeout() + TimeUnit.NANOSECONDS.toSeconds(totalNanos());
+            if (!executor.awaitTermination(drainSeconds, TimeUnit.SECONDS)) {
+                logger.warn("Load test {} still had requests in flight after {}s", name, drainSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Load test interrupted: " + name, e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        result.complete(System.nanoTime() - startNanos);
+        logger.info("Finished load test {}: {}", name, result);
+        return result;
+    }
+
+    /**
+     * Dispatch requests at their scheduled times, the arrival times follow the rate profile
+     * exactly so a slow response never delays the next request
+     */
+    private void runOpenModel(Callable<Response> request, LoadResult result, ExecutorService executor,
+                              long startNanos) {
+        for (long arrival = 1; ; arrival++) {
+            long offsetNanos = arrivalOffsetNanos(arrival);
+            if (offsetNanos < 0) {
+                return;
+            }
+            long scheduledNanos = startNanos + offsetNanos;
+            sleepUntil(scheduledNanos);
+            Phase phase = phaseAt(offsetNanos);
+            executor.execute(() -> execute(request, result, phase, scheduledNanos));
+        }
+    }
+
+    /**
+     * Get the offset from the start at which an arrival is scheduled
+     * The arrival count grows quadratically while ramping and linearly in the steady state,
+     * the count is inverted per phase
+     * @return Offset in nanoseconds, -1 when the arrival falls after the ramp-down
+     */
+    long arrivalOffsetNanos(long arrival) {
+        double rampUpSeconds = seconds(rampUp);
+        double steadySeconds = seconds(steadyState);
+        double rampDownSeconds = seconds(rampDown);
+        double rampUpArrivals = arrivalRate * rampUpSeconds / 2;
+        double steadyArrivals = arrivalRate * steadySeconds;
+        double rampDownArrivals = arrivalRate * rampDownSeconds / 2;
+
+        double seconds;
+        if (arrival <= rampUpArrivals) {
+            seconds = Math.sqrt(2 * rampUpSeconds * arrival / arrivalRate);
+        } else if (arrival <= rampUpArrivals + steadyArrivals) {
+            seconds = rampUpSeconds + (arrival - rampUpArrivals) / arrivalRate;
+        } else if (arrival <= rampUpArrivals + steadyArrivals + rampDownArrivals) {
+            double elapsed = (arrival - rampUpArrivals - steadyArrivals) / arrivalRate;
+            seconds = rampUpSeconds + steadySeconds
+                    + rampDownSeconds - Math.sqrt(Math.max(0, rampDownSeconds * (rampDownSeconds - 2 * elapsed)));
+        } else {
+            return -1;
+        }
+        return (long) (seconds * 1_000_000_000L);
+    }
+
+    /**
+     * Start users staggered over the ramp-up and stop them staggered over the ramp-down
+     */
+    private void runClosedModel(Callable<Response> request, LoadResult result, ExecutorService executor,
+                                long startNanos) {
+        long rampUpNanos = rampUp.toNanos();
+        long steadyEndNanos = rampUpNanos + steadyState.toNanos();
+        long rampDownNanos = rampDown.toNanos();
+        for (int user = 0; user < users; user++) {
+            long userStart = startNanos + rampUpNanos * user / users;
+            long userStop = startNanos + steadyEndNanos + rampDownNanos * (users - user) / users;
+            executor.execute(() -> runUser(request, result, startNanos, userStart, userStop));
+        }
+    }
+
+    private void runUser(Callable<Response> request, LoadResult result, long startNanos, long userStart,
+                         long userStop) {
+        long pacingNanos = pacing.toNanos();
+        long nextNanos = userStart;
+        sleepUntil(userStart);
+        while (System.nanoTime() < userStop && !Thread.currentThread().isInterrupted()) {
+            long scheduledNanos;
+            if (pacingNanos > 0) {
+                scheduledNanos = nextNanos;
+                sleepUntil(scheduledNanos);
+                nextNanos += pacingNanos;
+            } else {
+                scheduledNanos = System.nanoTime();
+            }
+            execute(request, result, phaseAt(scheduledNanos - startNanos), scheduledNanos);
+            if (pacingNanos == 0 && !thinkTime.isZero()) {
+                sleepUntil(System.nanoTime() + thinkTime.toNanos());
+            }
+        }
+    }
+
+    private void execute(Callable<Response> request, LoadResult result, Phase phase, long scheduledNanos) {
+        boolean success;
+        try {
+            Response response = request.call();
+            success = response != null && successCondition.test(response);
+        } catch (Exception e) {
+            logger.debug("Request failed during load test {}", name, e);
+            success = false;
+        }
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos);
+        result.record(phase, latencyMicros, success);
+    }
+
+    private Phase phaseAt(long offsetNanos) {
+        if (offsetNanos < rampUp.toNanos()) {
+            return Phase.RAMP_UP;
+        }
+        return offsetNanos < rampUp.toNanos() + steadyState.toNanos() ? Phase.STEADY_STATE : Phase.RAMP_DOWN;
+    }
+
+    private long totalNanos() {
+        return rampUp.toNanos() + steadyState.toNanos() + rampDown.toNanos();
+    }
+
+    private ThreadFactory threadFactory() {
+        if (VirtualThreads.isSupported()) {
+            return VirtualThreads.newFactory("load-" + name + "-");
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "load-" + name + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+
+    /**
+     * Phase of a load test a request was scheduled in
+     */
+    public enum Phase {
+        RAMP_UP,
+        STEADY_STATE,
+        RAMP_DOWN
+    }
+}
@@ -1,9 +1,15 @@
 package com.automation.ui.pages;
 
 import com.automation.core.BaseUITest;
+import com.automation.core.DriverManager;
 import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -17,7 +23,8 @@ public abstract class BasePage extends BaseUITest {
 
     public BasePage() {
         super();
-        PageFactory.initElements(driver, this);
+        // Elements are located through the current thread's driver on first access
+        PageFactory.initElements(new DefaultElementLocatorFactory(new LazyDriverSearchContext()), this);
     }
 
     /**
@@ -25,7 +32,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForPageLoad() {
         logger.info("Waiting for page to load");
-        wait.until(webDriver -> ((org.openqa.selenium.JavascriptExecutor) webDriver)
+        getWait().until(webDriver -> ((org.openqa.selenium.JavascriptExecutor) webDriver)
                 .executeScript("return document.readyState").equals("complete"));
     }
 
@@ -34,7 +41,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForPageTitle(String title) {
         logger.info("Waiting for page title to contain: {}", title);
-        wait.until(ExpectedConditions.titleContains(title));
+        getWait().until(ExpectedConditions.titleContains(title));
     }
 
     /**
@@ -42,7 +49,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForPageTitleExact(String title) {
         logger.info("Waiting for page title to be: {}", title);
-        wait.until(ExpectedConditions.titleIs(title));
+        getWait().until(ExpectedConditions.titleIs(title));
     }
 
     /**
@@ -50,7 +57,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForUrlContains(String urlPart) {
         logger.info("Waiting for URL to contain: {}", urlPart);
-        wait.until(ExpectedConditions.urlContains(urlPart));
+        getWait().until(ExpectedConditions.urlContains(urlPart));
     }
 
     /**
@@ -58,7 +65,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForUrlExact(String url) {
         logger.info("Waiting for URL to be: {}", url);
-        wait.until(ExpectedConditions.urlToBe(url));
+        getWait().until(ExpectedConditions.urlToBe(url));
     }
 
     /**
@@ -84,7 +91,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForElementPresent(By locator) {
         logger.info("Waiting for element to be present: {}", locator);
-        wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+        getWait().until(ExpectedConditions.presenceOfElementLocated(locator));
     }
 
     /**
@@ -92,7 +99,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForElementNotPresent(By locator) {
         logger.info("Waiting for element to not be present: {}", locator);
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     /**
@@ -100,7 +107,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForElementClickable(By locator) {
         logger.info("Waiting for element to be clickable: {}", locator);
-        wait.until(ExpectedConditions.elementToBeClickable(locator));
+        getWait().until(ExpectedConditions.elementToBeClickable(locator));
     }
 
     /**
@@ -108,7 +115,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForElementVisible(By locator) {
         logger.info("Waiting for element to be visible: {}", locator);
-        wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        getWait().until(ExpectedConditions.visibilityOfElementLocated(locator));
     }
 
     /**
@@ -116,7 +123,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForElementInvisible(By locator) {
         logger.info("Waiting for element to be invisible: {}", locator);
-        wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+        getWait().until(ExpectedConditions.invisibilityOfElementLocated(locator));
     }
 
     /**
@@ -124,7 +131,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForTextPresent(By locator, String text) {
         logger.info("Waiting for text '{}' to be present in element: {}", text, locator);
-        wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
+        getWait().until(ExpectedConditions.textToBePresentInElementLocated(locator, text));
     }
 
     /**
@@ -132,7 +139,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForTextNotPresent(By locator, String text) {
         logger.info("Waiting for text '{}' to not be present in element: {}", text, locator);
-        wait.until(ExpectedConditions.not(ExpectedConditions.textToBePresentInElementLocated(locator, text)));
+        getWait().until(ExpectedConditions.not(ExpectedConditions.textToBePresentInElementLocated(locator, text)));
     }
 
     /**
@@ -140,7 +147,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForAttributeContains(By locator, String attribute, String value) {
         logger.info("Waiting for attribute '{}' to contain '{}' in element: {}", attribute, value, locator);
-        wait.until(ExpectedConditions.attributeContains(locator, attribute, value));
+        getWait().until(ExpectedConditions.attributeContains(locator, attribute, value));
     }
 
     /**
@@ -148,7 +155,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForAttributeToBe(By locator, String attribute, String value) {
         logger.info("Waiting for attribute '{}' to be '{}' in element: {}", attribute, value, locator);
-        wait.until(ExpectedConditions.attributeToBe(locator, attribute, value));
+        getWait().until(ExpectedConditions.attributeToBe(locator, attribute, value));
     }
 
     /**
@@ -156,7 +163,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForNumberOfElementsToBe(By locator, int number) {
         logger.info("Waiting for {} elements to be present: {}", number, locator);
-        wait.until(ExpectedConditions.numberOfElementsToBe(locator, number));
+        getWait().until(ExpectedConditions.numberOfElementsToBe(locator, number));
     }
 
     /**
@@ -164,7 +171,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForNumberOfElementsToBeLessThan(By locator, int number) {
         logger.info("Waiting for less than {} elements to be present: {}", number, locator);
-        wait.until(ExpectedConditions.numberOfElementsToBeLessThan(locator, number));
+        getWait().until(ExpectedConditions.numberOfElementsToBeLessThan(locator, number));
     }
 
     /**
@@ -172,7 +179,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForNumberOfElementsToBeMoreThan(By locator, int number) {
         logger.info("Waiting for more than {} elements to be present: {}", number, locator);
-        wait.until(ExpectedConditions.numberOfElementsToBeMoreThan(locator, number));
+        getWait().until(ExpectedConditions.numberOfElementsToBeMoreThan(locator, number));
     }
 
     /**
@@ -180,7 +187,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForFrameAndSwitch(By locator) {
         logger.info("Waiting for frame and switching to it: {}", locator);
-        wait.until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(locator));
+        getWait().until(ExpectedConditions.frameToBeAvailableAndSwitchToIt(locator));
     }
 
     /**
@@ -188,28 +195,28 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void waitForAlertPresent() {
         logger.info("Waiting for alert to be present");
-        wait.until(ExpectedConditions.alertIsPresent());
+        getWait().until(ExpectedConditions.alertIsPresent());
     }
 
     /**
      * Get current page title
      */
     protected String getPageTitle() {
-        return driver.getTitle();
+        return getDriver().getTitle();
     }
 
     /**
      * Get current page URL
      */
     protected String getCurrentUrl() {
-        return driver.getCurrentUrl();
+        return getDriver().getCurrentUrl();
     }
 
     /**
      * Get page source
      */
     protected String getPageSource() {
-        return driver.getPageSource();
+        return getDriver().getPageSource();
     }
 
     /**
@@ -217,7 +224,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void refreshPage() {
         logger.info("Refreshing page");
-        driver.navigate().refresh();
+        getDriver().navigate().refresh();
         waitForPageLoad();
     }
 
@@ -226,7 +233,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void navigateBack() {
         logger.info("Navigating back");
-        driver.navigate().back();
+        getDriver().navigate().back();
         waitForPageLoad();
     }
 
@@ -235,7 +242,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void navigateForward() {
         logger.info("Navigating forward");
-        driver.navigate().forward();
+        getDriver().navigate().forward();
         waitForPageLoad();
     }
 
@@ -243,14 +250,14 @@ public abstract class BasePage extends BaseUITest {
      * Get window handle
      */
     protected String getWindowHandle() {
-        return driver.getWindowHandle();
+        return getDriver().getWindowHandle();
     }
 
     /**
      * Get all window handles
      */
     protected java.util.Set<String> getAllWindowHandles() {
-        return driver.getWindowHandles();
+        return getDriver().getWindowHandles();
     }
 
     /**
@@ -258,7 +265,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void switchToWindow(String handle) {
         logger.info("Switching to window: {}", handle);
-        driver.switchTo().window(handle);
+        getDriver().switchTo().window(handle);
     }
 
     /**
@@ -266,7 +273,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void switchToDefaultContent() {
         logger.info("Switching to default content");
-        driver.switchTo().defaultContent();
+        getDriver().switchTo().defaultContent();
     }
 
     /**
@@ -274,7 +281,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected void switchToParentFrame() {
         logger.info("Switching to parent frame");
-        driver.switchTo().parentFrame();
+        getDriver().switchTo().parentFrame();
     }
 
     /**
@@ -283,7 +290,7 @@ public abstract class BasePage extends BaseUITest {
     protected void acceptAlert() {
         logger.info("Accepting alert");
         waitForAlertPresent();
-        driver.switchTo().alert().accept();
+        getDriver().switchTo().alert().accept();
     }
 
     /**
@@ -292,7 +299,7 @@ public abstract class BasePage extends BaseUITest {
     protected void dismissAlert() {
         logger.info("Dismissing alert");
         waitForAlertPresent();
-        driver.switchTo().alert().dismiss();
+        getDriver().switchTo().alert().dismiss();
     }
 
     /**
@@ -300,7 +307,7 @@ public abstract class BasePage extends BaseUITest {
      */
     protected String getAlertText() {
         waitForAlertPresent();
-        return driver.switchTo().alert().getText();
+        return getDriver().switchTo().alert().getText();
     }
 
     /**
@@ -309,14 +316,14 @@ public abstract class BasePage extends BaseUITest {
     protected void sendKeysToAlert(String keys) {
         logger.info("Sending keys to alert: {}", keys);
         waitForAlertPresent();
-        driver.switchTo().alert().sendKeys(keys);
+        getDriver().switchTo().alert().sendKeys(keys);
     }
 
     /**
      * Execute JavaScript
      */
     protected Object executeJavaScript(String script, Object... args) {
-        return ((org.openqa.selenium.JavascriptExecutor) driver).executeScript(script, args);
+        return ((org.openqa.selenium.JavascriptExecutor) getDriver()).executeScript(script, args);
     }
 
     /**
@@ -379,4 +386,19 @@ public abstract class BasePage extends BaseUITest {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * SearchContext that resolves the WebDriver only when an element is looked up
+     */
+    private static class LazyDriverSearchContext implements SearchContext {
+        @Override
+        public List<WebElement> findElements(By by) {
+            return DriverManager.getOrCreateDriver().findElements(by);
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return DriverManager.getOrCreateDriver().findElement(by);
+        }
+    }
+}
@@ -1,22 +1,24 @@
 package com.automation.utils;
 
+import com.automation.core.ConfigManager;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * CSV Data Provider utility for reading test data from CSV files
+ * File data is parsed once and shared through TestDataCache, so returned rows are immutable
  */
 public class CSVDataProvider {
     private static final Logger logger = LogManager.getLogger(CSVDataProvider.class);
@@ -26,39 +28,7 @@ public class CSVDataProvider {
      * Read CSV data from file
      */
     public static List<Map<String, String>> readCSVData(String filePath) {
-        List<Map<String, String>> data = new ArrayList<>();
-        
-        try (CSVReader reader = new CSVReader(new FileReader(filePath))) {
-            List<String[]> rows = reader.readAll();
-            
-            if (rows.isEmpty()) {
-                logger.warn("CSV file is empty: {}", filePath);
-                return data;
-            }
-            
-            // Get headers from first row
-            String[] headers = rows.get(0);
-            
-            // Process data rows
-            for (int i = 1; i < rows.size(); i++) {
-                String[] row = rows.get(i);
-                Map<String, String> rowData = new HashMap<>();
-                
-                for (int j = 0; j < headers.length && j < row.length; j++) {
-                    rowData.put(headers[j], row[j]);
-                }
-                
-                data.add(rowData);
-            }
-            
-            logger.info("Read {} rows of data from CSV file: {}", data.size(), filePath);
-            
-        } catch (IOException | CsvException e) {
-            logger.error("Error reading CSV file: {}", filePath, e);
-            throw new RuntimeException("Failed to read CSV file: " + filePath, e);
-        }
-        
-        return data;
+        return readCSVData(filePath, ',');
     }
 
     /**
@@ -104,43 +74,29 @@ public class CSVDataProvider {
      * Read specific row by index
      */
     public static Map<String, String> readCSVRow(String filePath, int rowIndex) {
-        try (CSVReader reader = new CSVReader(new FileReader(filePath))) {
-            List<String[]> rows = reader.readAll();
-            
-            if (rows.isEmpty() || rowIndex >= rows.size()) {
-                logger.warn("Row index {} not found in CSV file: {}", rowIndex, filePath);
-                return new HashMap<>();
-            }
-            
-            String[] headers = rows.get(0);
-            String[] dataRow = rows.get(rowIndex);
-            
-            Map<String, String> rowData = new HashMap<>();
-            for (int i = 0; i < headers.length && i < dataRow.length; i++) {
-                rowData.put(headers[i], dataRow[i]);
-            }
-            
-            logger.info("Read row {} from CSV file: {}", rowIndex, filePath);
-            return rowData;
-            
-        } catch (IOException | CsvException e) {
-            logger.error("Error reading CSV row: {}", filePath, e);
-            throw new RuntimeException("Failed to read CSV row: " + filePath, e);
+        List<String[]> rows = CSVDataReader.readRecords(filePath, ',', '"', 0);
+        
+        if (rows.isEmpty() || rowIndex >= rows.size()) {
+            logger.warn("Row index {} not found in CSV file: {}", rowIndex, filePath);
+            return new HashMap<>();
         }
+        
+        Map<String, String> rowData = toRowMap(rows.get(0), rows.get(rowIndex));
+        logger.info("Read row {} from CSV file: {}", rowIndex, filePath);
+        return rowData;
     }
 
     /**
      * Read data by column name
+     * The column is extracted once per file version and shared, so the returned list is immutable
      */
     public static List<String> readCSVColumn(String filePath, String columnName) {
-        List<String> columnData = new ArrayList<>();
-        
-        try (CSVReader reader = new CSVReader(new FileReader(filePath))) {
-            List<String[]> rows = reader.readAll();
+        List<String> columnData = TestDataCache.get(filePath, "csv-provider-column:" + columnName, () -> {
+            List<String[]> rows = CSVDataReader.readRecords(filePath, ',', '"', 0);
             
             if (rows.isEmpty()) {
                 logger.warn("CSV file is empty: {}", filePath);
-                return columnData;
+                return Collections.<String>emptyList();
             }
             
             String[] headers = rows.get(0);
@@ -156,25 +112,22 @@ public class CSVDataProvider {
             
             if (columnIndex == -1) {
                 logger.warn("Column '{}' not found in CSV file: {}", columnName, filePath);
-                return columnData;
+                return Collections.<String>emptyList();
             }
             
             // Read column data
+            List<String> values = new ArrayList<>(rows.size() - 1);
             for (int i = 1; i < rows.size(); i++) {
                 String[] row = rows.get(i);
                 if (columnIndex < row.length) {
-                    columnData.add(row[columnIndex]);
+                    values.add(row[columnIndex]);
                 }
             }
-            
-            logger.info("Read {} values from column '{}' in CSV file: {}", 
-                       columnData.size(), columnName, filePath);
-            
-        } catch (IOException | CsvException e) {
-            logger.error("Error reading CSV column: {}", filePath, e);
-            throw new RuntimeException("Failed to read CSV column: " + filePath, e);
-        }
+            return Collections.unmodifiableList(values);
+        });
         
+        logger.info("Read {} values from column '{}' in CSV file: {}", 
+                   columnData.size(), columnName, filePath);
         return columnData;
     }
 
@@ -182,40 +135,27 @@ public class CSVDataProvider {
      * Read CSV data with custom delimiter
      */
     public static List<Map<String, String>> readCSVData(String filePath, char delimiter) {
-        List<Map<String, String>> data = new ArrayList<>();
-        
-        try (CSVReader reader = new CSVReader(new FileReader(filePath), delimiter)) {
-            List<String[]> rows = reader.readAll();
+        return TestDataCache.get(filePath, "csv-provider-maps:" + delimiter, () -> {
+            List<String[]> rows = CSVDataReader.readRecords(filePath, delimiter, '"', 0);
             
             if (rows.isEmpty()) {
                 logger.warn("CSV file is empty: {}", filePath);
-                return data;
+                return Collections.<Map<String, String>>emptyList();
             }
             
             // Get headers from first row
             String[] headers = rows.get(0);
+            List<Map<String, String>> data = new ArrayList<>(rows.size() - 1);
             
             // Process data rows
             for (int i = 1; i < rows.size(); i++) {
-                String[] row = rows.get(i);
-                Map<String, String> rowData = new HashMap<>();
-                
-                for (int j = 0; j < headers.length && j < row.length; j++) {
-                    rowData.put(headers[j], row[j]);
-                }
-                
-                data.add(rowData);
+                data.add(Collections.unmodifiableMap(toRowMap(headers, rows.get(i))));
             }
             
             logger.info("Read {} rows of data from CSV file with delimiter '{}': {}", 
                        data.size(), delimiter, filePath);
-            
-        } catch (IOException | CsvException e) {
-            logger.error("Error reading CSV file with delimiter: {}", filePath, e);
-            throw new RuntimeException("Failed to read CSV file with delimiter: " + filePath, e);
-        }
-        
-        return data;
+            return Collections.unmodifiableList(data);
+        });
     }
 
     /**
@@ -247,24 +187,13 @@ public class CSVDataProvider {
      */
     public static List<String> getColumnNames(String filePath) {
         List<String> columnNames = new ArrayList<>();
+        List<String[]> rows = CSVDataReader.readRecords(filePath, ',', '"', 0);
         
-        try (CSVReader reader = new CSVReader(new FileReader(filePath))) {
-            List<String[]> rows = reader.readAll();
-            
-            if (!rows.isEmpty()) {
-                String[] headers = rows.get(0);
-                for (String header : headers) {
-                    columnNames.add(header);
-                }
-            }
-            
-            logger.info("Found {} columns in CSV file: {}", columnNames.size(), filePath);
-            
-        } catch (IOException | CsvException e) {
-            logger.error("Error reading column names from CSV file: {}", filePath, e);
-            throw new RuntimeException("Failed to read column names: " + filePath, e);
+        if (!rows.isEmpty()) {
+            Collections.addAll(columnNames, rows.get(0));
         }
         
+        logger.info("Found {} columns in CSV file: {}", columnNames.size(), filePath);
         return columnNames;
     }
 
@@ -272,14 +201,20 @@ public class CSVDataProvider {
      * Get row count from CSV file
      */
     public static int getRowCount(String filePath) {
-        try (CSVReader reader = new CSVReader(new FileReader(filePath))) {
-            List<String[]> rows = reader.readAll();
-            int rowCount = rows.size() - 1; // Exclude header row
-            logger.info("CSV file has {} data rows: {}", rowCount, filePath);
-            return rowCount;
-        } catch (IOException | CsvException e) {
-            logger.error("Error getting row count from CSV file: {}", filePath, e);
-            throw new RuntimeException("Failed to get row count: " + filePath, e);
+        List<String[]> rows = CSVDataReader.readRecords(filePath, ',', '"', 0);
+        int rowCount = rows.size() - 1; // Exclude header row
+        logger.info("CSV file has {} data rows: {}", rowCount, filePath);
+        return rowCount;
+    }
+
+    /**
+     * Map a data row to the headers, ignoring cells without a header
+     */
+    private static Map<String, String> toRowMap(String[] headers, String[] row) {
+        Map<String, String> rowData = new HashMap<>();
+        for (int i = 0; i < headers.length && i < row.length; i++) {
+            rowData.put(headers[i], row[i]);
         }
+        return rowData;
     }
-}
\ No newline at end of file
+}
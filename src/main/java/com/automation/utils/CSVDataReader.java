@@ -1,5 +1,7 @@
 package com.automation.utils;
 
+import com.automation.core.ConfigManager;
+import com.opencsv.CSVParserBuilder;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvException;
@@ -12,10 +14,12 @@ import java.util.*;
 
 /**
  * CSV Data Reader utility for reading test data from CSV files
- * Supports various CSV formats and configurations
+ * Supports various CSV formats and configurations. Parsed files are shared
+ * through TestDataCache, so returned rows are immutable
  */
 public class CSVDataReader {
     private static final Logger logger = LogManager.getLogger(CSVDataReader.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
     
     /**
      * Read all data from CSV file
@@ -45,53 +49,8 @@ public class CSVDataReader {
      * @return List of Maps containing row data
      */
     public static List<Map<String, String>> readCSVData(String filePath, char separator, char quoteChar, int skipLines) {
-        List<Map<String, String>> data = new ArrayList<>();
-        
-        try (FileReader fileReader = new FileReader(filePath);
-             CSVReader csvReader = new CSVReaderBuilder(fileReader)
-                     .withSeparator(separator)
-                     .withQuoteChar(quoteChar)
-                     .withSkipLines(skipLines)
-                     .build()) {
-            
-            List<String[]> records = csvReader.readAll();
-            
-            if (records.isEmpty()) {
-                logger.warn("CSV file is empty: {}", filePath);
-                return data;
-            }
-            
-            // First row as headers
-            String[] headers = records.get(0);
-            
-            // Process data rows
-            for (int i = 1; i < records.size(); i++) {
-                String[] row = records.get(i);
-                
-                // Skip empty rows
-                if (isRowEmpty(row)) {
-                    continue;
-                }
-                
-                Map<String, String> rowData = new HashMap<>();
-                
-                for (int j = 0; j < headers.length && j < row.length; j++) {
-                    String header = headers[j].trim();
-                    String value = j < row.length ? row[j].trim() : "";
-                    rowData.put(header, value);
-                }
-                
-                data.add(rowData);
-            }
-            
-            logger.info("Successfully read {} rows from CSV file: {}", data.size(), filePath);
-            
-        } catch (IOException | CsvException e) {
-            logger.error("Error reading CSV file: {}", filePath, e);
-            throw new RuntimeException("Failed to read CSV file: " + filePath, e);
-        }
-        
-        return data;
+        return TestDataCache.get(filePath, "csv-reader-maps:" + separator + quoteChar + skipLines,
+                () -> toRowMaps(filePath, readRecords(filePath, separator, quoteChar, skipLines)));
     }
     
     /**
@@ -127,6 +86,15 @@ public class CSVDataReader {
         return testData;
     }
     
+    /**
+     * Stream CSV rows to a TestNG DataProvider without reading the whole file first
+     * @param filePath CSV file path
+     * @return Lazy iterator passing each row as a Map
+     */
+    public static Iterator<Object[]> streamCSVDataForTestNG(String filePath) {
+        return LazyDataProvider.fromCsv(filePath);
+    }
+    
     /**
      * Read CSV file and return as List of String arrays
      * @param filePath CSV file path
@@ -145,23 +113,89 @@ public class CSVDataReader {
      * @return List of String arrays
      */
     public static List<String[]> readCSVAsArrays(String filePath, char separator, char quoteChar, int skipLines) {
+        List<String[]> records = readRecords(filePath, separator, quoteChar, skipLines);
+        
+        // Copy the rows so callers cannot modify the cached records
+        List<String[]> copy = new ArrayList<>(records.size());
+        for (String[] record : records) {
+            copy.add(record.clone());
+        }
+        return copy;
+    }
+    
+    /**
+     * Get cached CSV records, parsing the file on first use
+     * @param filePath CSV file path
+     * @param separator Field separator character
+     * @param quoteChar Quote character
+     * @param skipLines Number of lines to skip from beginning
+     * @return Immutable list of records shared with other callers, the arrays must not be modified.
+     *         Compiled records are decoded on access, so random access does not parse the file
+     */
+    static List<String[]> readRecords(String filePath, char separator, char quoteChar, int skipLines) {
+        String variant = "csv-records:" + separator + quoteChar + skipLines;
+        return TestDataCache.get(filePath, variant, () -> CompiledTestData.load(filePath, variant,
+                () -> Collections.singletonMap(variant, parseRecords(filePath, separator, quoteChar, skipLines)))
+                .get(variant));
+    }
+    
+    private static List<String[]> parseRecords(String filePath, char separator, char quoteChar, int skipLines) {
         try (FileReader fileReader = new FileReader(filePath);
              CSVReader csvReader = new CSVReaderBuilder(fileReader)
-                     .withSeparator(separator)
-                     .withQuoteChar(quoteChar)
+                     .withCSVParser(new CSVParserBuilder()
+                             .withSeparator(separator)
+                             .withQuoteChar(quoteChar)
+                             .build())
                      .withSkipLines(skipLines)
                      .build()) {
             
             List<String[]> records = csvReader.readAll();
             logger.info("Successfully read {} records from CSV file: {}", records.size(), filePath);
-            return records;
+            return Collections.unmodifiableList(records);
             
         } catch (IOException | CsvException e) {
-            logger.error("Error reading CSV file as arrays: {}", filePath, e);
+            logger.error("Error reading CSV file: {}", filePath, e);
             throw new RuntimeException("Failed to read CSV file: " + filePath, e);
         }
     }
     
+    /**
+     * Convert records to immutable row maps keyed by the trimmed header, skipping empty rows
+     */
+    private static List<Map<String, String>> toRowMaps(String filePath, List<String[]> records) {
+        if (records.isEmpty()) {
+            logger.warn("CSV file is empty: {}", filePath);
+            return Collections.emptyList();
+        }
+        
+        // First row as headers
+        String[] headers = records.get(0);
+        List<Map<String, String>> data = new ArrayList<>(records.size() - 1);
+        
+        // Process data rows
+        for (int i = 1; i < records.size(); i++) {
+            String[] row = records.get(i);
+            
+            // Skip empty rows
+            if (isRowEmpty(row)) {
+                continue;
+            }
+            
+            Map<String, String> rowData = new HashMap<>();
+            
+            for (int j = 0; j < headers.length && j < row.length; j++) {
+                rowData.put(headers[j].trim(), row[j].trim());
+            }
+            
+            data.add(Collections.unmodifiableMap(rowData));
+        }
+        
+        logger.info("Successfully read {} rows from CSV file: {}", data.size(), filePath);
+        // Indexes only pay off when the rows are cached and filtered repeatedly
+        List<Map<String, String>> rows = Collections.unmodifiableList(data);
+        return config.isTestDataCacheEnabled() ? CSVIndex.indexed(rows) : rows;
+    }
+    
     /**
      * Get specific cell value from CSV file
      * @param filePath CSV file path
@@ -170,7 +204,7 @@ public class CSVDataReader {
      * @return Cell value as string
      */
     public static String getCellValue(String filePath, int rowIndex, int columnIndex) {
-        List<String[]> records = readCSVAsArrays(filePath);
+        List<String[]> records = readRecords(filePath, ',', '"', 0);
         
         if (rowIndex >= 0 && rowIndex < records.size()) {
             String[] row = records.get(rowIndex);
@@ -204,28 +238,17 @@ public class CSVDataReader {
      * @return List of header names
      */
     public static List<String> getHeaders(String filePath, char separator, char quoteChar) {
-        try (FileReader fileReader = new FileReader(filePath);
-             CSVReader csvReader = new CSVReaderBuilder(fileReader)
-                     .withSeparator(separator)
-                     .withQuoteChar(quoteChar)
-                     .build()) {
-            
-            String[] headers = csvReader.readNext();
-            if (headers != null) {
-                List<String> headerList = new ArrayList<>();
-                for (String header : headers) {
-                    headerList.add(header.trim());
-                }
-                return headerList;
-            } else {
-                logger.warn("No headers found in CSV file: {}", filePath);
-                return new ArrayList<>();
-            }
-            
-        } catch (IOException | CsvException e) {
-            logger.error("Error reading headers from CSV file: {}", filePath, e);
-            throw new RuntimeException("Failed to read headers from CSV file: " + filePath, e);
+        List<String[]> records = readRecords(filePath, separator, quoteChar, 0);
+        if (records.isEmpty()) {
+            logger.warn("No headers found in CSV file: {}", filePath);
+            return new ArrayList<>();
+        }
+        
+        List<String> headerList = new ArrayList<>();
+        for (String header : records.get(0)) {
+            headerList.add(header.trim());
         }
+        return headerList;
     }
     
     /**
@@ -240,22 +263,46 @@ public class CSVDataReader {
     
     /**
      * Filter CSV data based on column value
+     * Uses a hash index on the column, built on first use and cached with the parsed rows
      * @param filePath CSV file path
      * @param columnName Column name to filter by
      * @param value Value to filter for
-     * @return List of matching rows
+     * @return Immutable view of the matching rows
      */
     public static List<Map<String, String>> filterCSVData(String filePath, String columnName, String value) {
         List<Map<String, String>> allData = readCSVData(filePath);
-        List<Map<String, String>> filteredData = new ArrayList<>();
+        List<Map<String, String>> filteredData = CSVIndex.view(allData, CSVIndex.lookup(allData, columnName, value));
         
-        for (Map<String, String> row : allData) {
-            if (value.equals(row.get(columnName))) {
-                filteredData.add(row);
-            }
+        logger.info("Filtered {} rows from CSV file based on {}={}", filteredData.size(), columnName, value);
+        return filteredData;
+    }
+    
+    /**
+     * Filter CSV data on several columns, keeping rows that match every criterion
+     * @param filePath CSV file path
+     * @param criteria Required value by column name
+     * @return Immutable view of the matching rows
+     */
+    public static List<Map<String, String>> filterCSVData(String filePath, Map<String, String> criteria) {
+        List<Map<String, String>> allData = readCSVData(filePath);
+        if (criteria.isEmpty()) {
+            return allData;
         }
         
-        logger.info("Filtered {} rows from CSV file based on {}={}", filteredData.size(), columnName, value);
+        // Intersect the position lists, smallest first so later steps stay cheap
+        List<int[]> matches = new ArrayList<>(criteria.size());
+        for (Map.Entry<String, String> criterion : criteria.entrySet()) {
+            matches.add(CSVIndex.lookup(allData, criterion.getKey(), criterion.getValue()));
+        }
+        matches.sort(Comparator.comparingInt(positions -> positions.length));
+        
+        int[] positions = matches.get(0);
+        for (int i = 1; i < matches.size() && positions.length > 0; i++) {
+            positions = CSVIndex.intersect(positions, matches.get(i));
+        }
+        
+        List<Map<String, String>> filteredData = CSVIndex.view(allData, positions);
+        logger.info("Filtered {} rows from CSV file based on {}", filteredData.size(), criteria);
         return filteredData;
     }
     
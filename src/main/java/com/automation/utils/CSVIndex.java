@@ -0,0 +1,165 @@
+package com.automation.utils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Secondary hash index over one column of parsed CSV rows
+ * Maps each distinct value to the ascending positions of the rows holding it, so equality
+ * filters are answered without scanning the file. Indexes are built on first use and kept on
+ * the cached rows they point into, so they are evicted and reloaded together with the rows
+ */
+final class CSVIndex {
+    private static final int[] NO_ROWS = new int[0];
+
+    private final Map<String, int[]> positions;
+
+    private CSVIndex(Map<String, int[]> positions) {
+        this.positions = positions;
+    }
+
+    /**
+     * Wrap cached rows so indexes on their columns can be attached to them
+     */
+    static List<Map<String, String>> indexed(List<Map<String, String>> rows) {
+        return new IndexedRows(rows);
+    }
+
+    /**
+     * Get the ascending positions of rows whose column equals the value
+     * Rows returned by indexed use an index on the column, other rows are scanned
+     */
+    static int[] lookup(List<Map<String, String>> rows, String column, String value) {
+        if (rows instanceof IndexedRows) {
+            return ((IndexedRows) rows).index(column).lookup(value);
+        }
+        int[] result = new int[rows.size()];
+        int count = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (value.equals(rows.get(i).get(column))) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Build an index over a column
+     * @param rows Parsed rows, rows without the column are not indexed
+     * @param column Column name
+     */
+    static CSVIndex build(List<Map<String, String>> rows, String column) {
+        Map<String, int[]> counts = new HashMap<>();
+        for (Map<String, String> row : rows) {
+            String value = row.get(column);
+            if (value != null) {
+                counts.computeIfAbsent(value, key -> new int[1])[0]++;
+            }
+        }
+
+        // Size each position array exactly, then reuse the counters as fill cursors
+        Map<String, int[]> positions = new HashMap<>((int) (counts.size() / 0.75f) + 1);
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            positions.put(entry.getKey(), new int[entry.getValue()[0]]);
+            entry.getValue()[0] = 0;
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            String value = rows.get(i).get(column);
+            if (value != null) {
+                positions.get(value)[counts.get(value)[0]++] = i;
+            }
+        }
+        return new CSVIndex(Collections.unmodifiableMap(positions));
+    }
+
+    /**
+     * Get the ascending positions of rows whose column equals the value
+     */
+    int[] lookup(String value) {
+        return positions.getOrDefault(value, NO_ROWS);
+    }
+
+    /**
+     * Intersect ascending position arrays
+     */
+    static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[count++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Get an immutable view of the rows at the given positions
+     */
+    static <T> List<T> view(List<T> rows, int[] positions) {
+        return new RowView<>(rows, positions);
+    }
+
+    /**
+     * Immutable parsed rows together with the indexes built on their columns
+     */
+    private static class IndexedRows extends AbstractList<Map<String, String>> implements RandomAccess {
+        private final List<Map<String, String>> rows;
+        private final Map<String, CSVIndex> indexes = new ConcurrentHashMap<>();
+
+        private IndexedRows(List<Map<String, String>> rows) {
+            this.rows = rows;
+        }
+
+        private CSVIndex index(String column) {
+            return indexes.computeIfAbsent(column, key -> build(rows, key));
+        }
+
+        @Override
+        public Map<String, String> get(int index) {
+            return rows.get(index);
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+    }
+
+    /**
+     * Rows selected by an index lookup, read through to the cached rows
+     */
+    private static class RowView<T> extends AbstractList<T> implements RandomAccess {
+        private final List<T> rows;
+        private final int[] positions;
+
+        private RowView(List<T> rows, int[] positions) {
+            this.rows = rows;
+            this.positions = positions;
+        }
+
+        @Override
+        public T get(int index) {
+            return rows.get(positions[index]);
+        }
+
+        @Override
+        public int size() {
+            return positions.length;
+        }
+    }
+}
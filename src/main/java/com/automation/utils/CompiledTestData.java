@@ -0,0 +1,391 @@
+package com.automation.utils;
+
+import com.automation.core.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.CRC32C;
+
+/**
+ * Compiled binary copies of parsed test data files
+ * The first read of a data file parses it and writes its tables to a compact columnar file
+ * under the compiled data path. Later reads, including those of later runs, memory-map the
+ * compiled file instead of parsing the source, as long as the source checksum is unchanged.
+ *
+ * File layout, all numbers big-endian:
+ * <pre>
+ * header     magic, version, source checksum, source size, table count, string count, dictionary offset
+ * directory  per table: name string id, row count, column count, row index offset, cells offset
+ * row index  per table: row length for each row, -1 for a missing row
+ * cells      per table: one block per column holding the string id of each row, -1 for no value
+ * dictionary end offset of each distinct string, followed by the UTF-8 bytes of all strings
+ * </pre>
+ */
+public final class CompiledTestData {
+    private static final Logger logger = LogManager.getLogger(CompiledTestData.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private static final int MAGIC = 0x54444331; // "TDC1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 40;
+    private static final int DIRECTORY_ENTRY_SIZE = 28;
+    private static final int NO_VALUE = -1;
+
+    private CompiledTestData() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static boolean isEnabled() {
+        return config.isTestDataCompiledEnabled();
+    }
+
+    /**
+     * Get the tables of a data file, from its compiled copy when it is up to date
+     * When the copy is missing or stale the parser is called and the result is compiled for
+     * the next read. Rows of compiled tables are decoded on access in constant time
+     * @param sourcePath Data file path
+     * @param variant Parse variant, compiled separately from the other variants of the file
+     * @param parser Parser producing the tables by name, rows may be null
+     * @return Immutable tables by name, in parser order
+     */
+    public static Map<String, List<String[]>> load(String sourcePath, String variant,
+                                                   Supplier<Map<String, List<String[]>>> parser) {
+        if (!isEnabled()) {
+            return parser.get();
+        }
+
+        Path source = Paths.get(sourcePath).toAbsolutePath().normalize();
+        Path compiled = compiledPath(source, variant);
+        long checksum;
+        long size;
+        try {
+            size = Files.size(source);
+            checksum = checksum(source);
+        } catch (IOException e) {
+            // Let the parser report the missing or unreadable file
+            return parser.get();
+        }
+
+        try {
+            Map<String, List<String[]>> tables = open(compiled, checksum, size);
+            if (tables != null) {
+                logger.debug("Using compiled test data for {} ({}): {}", source, variant, compiled);
+                return tables;
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Compiled test data is unreadable, recompiling: {}", compiled, e);
+        }
+
+        Map<String, List<String[]>> tables = parser.get();
+        try {
+            long startTime = System.currentTimeMillis();
+            write(compiled, tables, checksum, size);
+            logger.info("Compiled test data {} ({}) to {} in {} ms", source, variant, compiled,
+                    System.currentTimeMillis() - startTime);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to compile test data {} to {}", source, compiled, e);
+        }
+        return tables;
+    }
+
+    /**
+     * Check if a value is a view over compiled data, which holds no rows on the heap
+     */
+    static boolean isCompiledView(Object value) {
+        return value instanceof CompiledRows;
+    }
+
+    private static Path compiledPath(Path source, String variant) {
+        CRC32C key = new CRC32C();
+        key.update((source + "#" + variant).getBytes(StandardCharsets.UTF_8));
+        return Paths.get(config.getTestDataCompiledPath())
+                .resolve(source.getFileName() + "." + Long.toHexString(key.getValue()) + ".tdc");
+    }
+
+    private static long checksum(Path source) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Map a compiled file
+     * The section offsets are checked against the file size, so a truncated file fails here
+     * instead of on a later row access
+     * @return Tables by name, null when the file is missing or was compiled from another source version
+     * @throws IOException when the file is truncated or its directory is corrupt
+     */
+    private static Map<String, List<String[]>> open(Path compiled, long checksum, long size) throws IOException {
+        if (!Files.isRegularFile(compiled)) {
+            return null;
+        }
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(compiled, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getLong(8) != checksum || buffer.getLong(16) != size) {
+            return null;
+        }
+
+        int tableCount = buffer.getInt(24);
+        int stringCount = buffer.getInt(28);
+        long dictionaryOffset = buffer.getLong(32);
+        long capacity = buffer.capacity();
+        if (tableCount < 0 || stringCount < 0 || dictionaryOffset < HEADER_SIZE + (long) tableCount * DIRECTORY_ENTRY_SIZE
+                || dictionaryOffset + 4L * (stringCount + 1) > capacity
+                || dictionaryOffset + 4L * (stringCount + 1) + buffer.getInt((int) dictionaryOffset + 4 * stringCount)
+                != capacity) {
+            throw new IOException("Compiled test data is truncated or corrupt: " + compiled);
+        }
+
+        Dictionary dictionary = new Dictionary(buffer, stringCount, (int) dictionaryOffset);
+        Map<String, List<String[]>> tables = new LinkedHashMap<>();
+        for (int t = 0; t < tableCount; t++) {
+            int entry = HEADER_SIZE + t * DIRECTORY_ENTRY_SIZE;
+            int rowCount = buffer.getInt(entry + 4);
+            int columnCount = buffer.getInt(entry + 8);
+            long rowIndexOffset = buffer.getLong(entry + 12);
+            long cellsOffset = buffer.getLong(entry + 20);
+            // Every row and cell read of the table must stay in front of the dictionary
+            if (rowCount < 0 || columnCount < 0 || rowIndexOffset < HEADER_SIZE
+                    || rowIndexOffset + 4L * rowCount > cellsOffset
+                    || cellsOffset + 4L * rowCount * columnCount > dictionaryOffset) {
+                throw new IOException("Compiled test data is truncated or corrupt: " + compiled);
+            }
+            String name = dictionary.get(buffer.getInt(entry));
+            tables.put(name, new CompiledRows(buffer, dictionary, rowCount, columnCount,
+                    (int) rowIndexOffset, (int) cellsOffset));
+        }
+        return Collections.unmodifiableMap(tables);
+    }
+
+    /**
+     * Write the tables to a temporary file and move it into place, so readers never see a partial file
+     */
+    private static void write(Path compiled, Map<String, List<String[]>> tables, long checksum, long size)
+            throws IOException {
+        // Assign string ids, table names first
+        Map<String, Integer> ids = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        Function<String, Integer> intern = value -> ids.computeIfAbsent(value, key -> {
+            strings.add(key.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+        int[] columnCounts = new int[tables.size()];
+        int t = 0;
+        for (Map.Entry<String, List<String[]>> table : tables.entrySet()) {
+            intern.apply(table.getKey());
+            int columns = 0;
+            for (String[] row : table.getValue()) {
+                if (row != null) {
+                    columns = Math.max(columns, row.length);
+                    for (String cell : row) {
+                        if (cell != null) {
+                            intern.apply(cell);
+                        }
+                    }
+                }
+            }
+            columnCounts[t++] = columns;
+        }
+
+        long offset = HEADER_SIZE + (long) tables.size() * DIRECTORY_ENTRY_SIZE;
+        long[] rowIndexOffsets = new long[tables.size()];
+        long[] cellOffsets = new long[tables.size()];
+        t = 0;
+        for (List<String[]> rows : tables.values()) {
+            rowIndexOffsets[t] = offset;
+            offset += 4L * rows.size();
+            cellOffsets[t] = offset;
+            offset += 4L * rows.size() * columnCounts[t];
+            t++;
+        }
+        long dictionaryOffset = offset;
+        long stringBytes = 0;
+        for (byte[] string : strings) {
+            stringBytes += string.length;
+        }
+        if (dictionaryOffset + 4L * (strings.size() + 1) + stringBytes > Integer.MAX_VALUE) {
+            throw new IOException("Test data is too large to compile: " + compiled);
+        }
+
+        Files.createDirectories(compiled.getParent());
+        Path temp = Files.createTempFile(compiled.getParent(), compiled.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(checksum);
+                out.writeLong(size);
+                out.writeInt(tables.size());
+                out.writeInt(strings.size());
+                out.writeLong(dictionaryOffset);
+
+                t = 0;
+                for (Map.Entry<String, List<String[]>> table : tables.entrySet()) {
+                    out.writeInt(ids.get(table.getKey()));
+                    out.writeInt(table.getValue().size());
+                    out.writeInt(columnCounts[t]);
+                    out.writeLong(rowIndexOffsets[t]);
+                    out.writeLong(cellOffsets[t]);
+                    t++;
+                }
+
+                t = 0;
+                for (List<String[]> rows : tables.values()) {
+                    for (String[] row : rows) {
+                        out.writeInt(row != null ? row.length : NO_VALUE);
+                    }
+                    for (int column = 0; column < columnCounts[t]; column++) {
+                        for (String[] row : rows) {
+                            String cell = row != null && column < row.length ? row[column] : null;
+                            out.writeInt(cell != null ? ids.get(cell) : NO_VALUE);
+                        }
+                    }
+                    t++;
+                }
+
+                int end = 0;
+                out.writeInt(0);
+                for (byte[] string : strings) {
+                    end += string.length;
+                    out.writeInt(end);
+                }
+                for (byte[] string : strings) {
+                    out.write(string);
+                }
+            }
+
+            try {
+                Files.move(temp, compiled, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, compiled, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * String table of a compiled file, strings are decoded once on first use
+     */
+    private static class Dictionary {
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int offsetsStart;
+        private final int bytesStart;
+        private final String[] decoded;
+
+        private Dictionary(ByteBuffer buffer, int count, int start) {
+            this.buffer = buffer;
+            this.count = count;
+            this.offsetsStart = start;
+            this.bytesStart = start + 4 * (count + 1);
+            this.decoded = new String[count];
+        }
+
+        private String get(int id) {
+            if (id == NO_VALUE) {
+                return null;
+            }
+            if (id < 0 || id >= count) {
+                throw new IllegalStateException("Invalid string id in compiled test data: " + id);
+            }
+            String value = decoded[id];
+            if (value == null) {
+                int start = buffer.getInt(offsetsStart + 4 * id);
+                int end = buffer.getInt(offsetsStart + 4 * (id + 1));
+                byte[] bytes = new byte[end - start];
+                ByteBuffer view = buffer.duplicate();
+                view.position(bytesStart + start);
+                view.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+                // Racy but safe, every thread decodes the same immutable String
+                decoded[id] = value;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Rows of one compiled table, decoded on access
+     */
+    private static class CompiledRows extends AbstractList<String[]> implements RandomAccess {
+        private final ByteBuffer buffer;
+        private final Dictionary dictionary;
+        private final int rowCount;
+        private final int columnCount;
+        private final int rowIndexOffset;
+        private final int cellsOffset;
+
+        private CompiledRows(ByteBuffer buffer, Dictionary dictionary, int rowCount, int columnCount,
+                             int rowIndexOffset, int cellsOffset) {
+            this.buffer = buffer;
+            this.dictionary = dictionary;
+            this.rowCount = rowCount;
+            this.columnCount = columnCount;
+            this.rowIndexOffset = rowIndexOffset;
+            this.cellsOffset = cellsOffset;
+        }
+
+        @Override
+        public String[] get(int index) {
+            if (index < 0 || index >= rowCount) {
+                throw new IndexOutOfBoundsException("Row index (" + index + ") is out of range (0.."
+                        + (rowCount - 1) + ")");
+            }
+            int length = buffer.getInt(rowIndexOffset + 4 * index);
+            if (length == NO_VALUE) {
+                return null;
+            }
+            String[] row = new String[length];
+            for (int column = 0; column < length; column++) {
+                row[column] = dictionary.get(buffer.getInt(cellsOffset + 4 * (column * rowCount + index)));
+            }
+            return row;
+        }
+
+        @Override
+        public int size() {
+            return rowCount;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.automation.utils;
 
+import com.automation.core.ConfigManager;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
@@ -11,9 +12,12 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Excel Data Provider utility for reading test data from Excel files
+ * Each workbook is loaded once and shared through TestDataCache, so returned rows are immutable.
+ * .xlsx files are parsed with StreamingExcelReader instead of building the workbook DOM
  */
 public class ExcelDataProvider {
     private static final Logger logger = LogManager.getLogger(ExcelDataProvider.class);
@@ -30,97 +34,38 @@ public class ExcelDataProvider {
      * Read data from specific sheet by index
      */
     public static List<Map<String, String>> readExcelData(String filePath, int sheetIndex) {
-        List<Map<String, String>> data = new ArrayList<>();
-        
-        try (InputStream inputStream = new FileInputStream(filePath);
-             Workbook workbook = createWorkbook(inputStream, filePath)) {
-            
-            Sheet sheet = workbook.getSheetAt(sheetIndex);
-            Row headerRow = sheet.getRow(0);
-            
-            if (headerRow == null) {
+        return TestDataCache.get(filePath, "excel-maps:#" + sheetIndex, () -> {
+            List<String[]> rows = getSheetRows(filePath, sheetIndex);
+            List<Map<String, String>> data = toRowMaps(rows);
+            if (rows.isEmpty() || rows.get(0) == null) {
                 logger.warn("No header row found in sheet at index: {}", sheetIndex);
-                return data;
-            }
-            
-            // Get column headers
-            List<String> headers = new ArrayList<>();
-            for (Cell cell : headerRow) {
-                headers.add(getCellValueAsString(cell));
+            } else {
+                logger.info("Read {} rows of data from Excel file: {}", data.size(), filePath);
             }
-            
-            // Read data rows
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row != null) {
-                    Map<String, String> rowData = new HashMap<>();
-                    for (int j = 0; j < headers.size(); j++) {
-                        Cell cell = row.getCell(j);
-                        rowData.put(headers.get(j), getCellValueAsString(cell));
-                    }
-                    data.add(rowData);
-                }
-            }
-            
-            logger.info("Read {} rows of data from Excel file: {}", data.size(), filePath);
-            
-        } catch (IOException e) {
-            logger.error("Error reading Excel file: {}", filePath, e);
-            throw new RuntimeException("Failed to read Excel file: " + filePath, e);
-        }
-        
-        return data;
+            return data;
+        });
     }
 
     /**
      * Read data from specific sheet by name
      */
     public static List<Map<String, String>> readExcelData(String filePath, String sheetName) {
-        List<Map<String, String>> data = new ArrayList<>();
-        
-        try (InputStream inputStream = new FileInputStream(filePath);
-             Workbook workbook = createWorkbook(inputStream, filePath)) {
-            
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) {
+        return TestDataCache.get(filePath, "excel-maps:" + sheetName, () -> {
+            List<String[]> rows = readWorkbook(filePath).get(sheetName);
+            if (rows == null) {
                 logger.warn("Sheet '{}' not found in Excel file: {}", sheetName, filePath);
-                return data;
+                return Collections.<Map<String, String>>emptyList();
             }
-            
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
+            if (rows.isEmpty() || rows.get(0) == null) {
                 logger.warn("No header row found in sheet: {}", sheetName);
-                return data;
-            }
-            
-            // Get column headers
-            List<String> headers = new ArrayList<>();
-            for (Cell cell : headerRow) {
-                headers.add(getCellValueAsString(cell));
-            }
-            
-            // Read data rows
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row != null) {
-                    Map<String, String> rowData = new HashMap<>();
-                    for (int j = 0; j < headers.size(); j++) {
-                        Cell cell = row.getCell(j);
-                        rowData.put(headers.get(j), getCellValueAsString(cell));
-                    }
-                    data.add(rowData);
-                }
+                return Collections.<Map<String, String>>emptyList();
             }
             
+            List<Map<String, String>> data = toRowMaps(rows);
             logger.info("Read {} rows of data from sheet '{}' in Excel file: {}", 
                        data.size(), sheetName, filePath);
-            
-        } catch (IOException e) {
-            logger.error("Error reading Excel file: {}", filePath, e);
-            throw new RuntimeException("Failed to read Excel file: " + filePath, e);
-        }
-        
-        return data;
+            return data;
+        });
     }
 
     /**
@@ -134,37 +79,24 @@ public class ExcelDataProvider {
      * Read specific row by row number from specific sheet
      */
     public static Map<String, String> readExcelRow(String filePath, int sheetIndex, int rowNumber) {
-        try (InputStream inputStream = new FileInputStream(filePath);
-             Workbook workbook = createWorkbook(inputStream, filePath)) {
-            
-            Sheet sheet = workbook.getSheetAt(sheetIndex);
-            Row headerRow = sheet.getRow(0);
-            Row dataRow = sheet.getRow(rowNumber);
-            
-            if (headerRow == null || dataRow == null) {
-                logger.warn("Header row or data row not found");
-                return new HashMap<>();
-            }
-            
-            Map<String, String> rowData = new HashMap<>();
-            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-                Cell headerCell = headerRow.getCell(i);
-                Cell dataCell = dataRow.getCell(i);
-                
-                if (headerCell != null) {
-                    String header = getCellValueAsString(headerCell);
-                    String value = getCellValueAsString(dataCell);
-                    rowData.put(header, value);
-                }
+        List<String[]> rows = getSheetRows(filePath, sheetIndex);
+        String[] headerRow = rows.isEmpty() ? null : rows.get(0);
+        String[] dataRow = rowNumber >= 0 && rowNumber < rows.size() ? rows.get(rowNumber) : null;
+        
+        if (headerRow == null || dataRow == null) {
+            logger.warn("Header row or data row not found");
+            return new HashMap<>();
+        }
+        
+        Map<String, String> rowData = new HashMap<>();
+        for (int i = 0; i < headerRow.length; i++) {
+            if (headerRow[i] != null) {
+                rowData.put(headerRow[i], cellAt(dataRow, i));
             }
-            
-            logger.info("Read row {} from Excel file: {}", rowNumber, filePath);
-            return rowData;
-            
-        } catch (IOException e) {
-            logger.error("Error reading Excel row: {}", filePath, e);
-            throw new RuntimeException("Failed to read Excel row: " + filePath, e);
         }
+        
+        logger.info("Read row {} from Excel file: {}", rowNumber, filePath);
+        return rowData;
     }
 
     /**
@@ -179,74 +111,194 @@ public class ExcelDataProvider {
      */
     public static List<String> readExcelColumn(String filePath, int sheetIndex, String columnName) {
         List<String> columnData = new ArrayList<>();
+        List<String[]> rows = getSheetRows(filePath, sheetIndex);
+        String[] headerRow = rows.isEmpty() ? null : rows.get(0);
         
-        try (InputStream inputStream = new FileInputStream(filePath);
-             Workbook workbook = createWorkbook(inputStream, filePath)) {
-            
-            Sheet sheet = workbook.getSheetAt(sheetIndex);
-            Row headerRow = sheet.getRow(0);
-            
-            if (headerRow == null) {
-                logger.warn("No header row found");
-                return columnData;
-            }
-            
-            // Find column index
-            int columnIndex = -1;
-            for (int i = 0; i < headerRow.getLastCellNum(); i++) {
-                Cell cell = headerRow.getCell(i);
-                if (cell != null && columnName.equals(getCellValueAsString(cell))) {
-                    columnIndex = i;
-                    break;
-                }
-            }
-            
-            if (columnIndex == -1) {
-                logger.warn("Column '{}' not found in Excel file", columnName);
-                return columnData;
+        if (headerRow == null) {
+            logger.warn("No header row found");
+            return columnData;
+        }
+        
+        // Find column index
+        int columnIndex = -1;
+        for (int i = 0; i < headerRow.length; i++) {
+            if (columnName.equals(headerRow[i])) {
+                columnIndex = i;
+                break;
             }
-            
-            // Read column data
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row != null) {
-                    Cell cell = row.getCell(columnIndex);
-                    columnData.add(getCellValueAsString(cell));
-                }
+        }
+        
+        if (columnIndex == -1) {
+            logger.warn("Column '{}' not found in Excel file", columnName);
+            return columnData;
+        }
+        
+        // Read column data
+        for (int i = 1; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            if (row != null) {
+                columnData.add(cellAt(row, columnIndex));
             }
-            
-            logger.info("Read {} values from column '{}' in Excel file: {}", 
-                       columnData.size(), columnName, filePath);
-            
-        } catch (IOException e) {
-            logger.error("Error reading Excel column: {}", filePath, e);
-            throw new RuntimeException("Failed to read Excel column: " + filePath, e);
         }
         
+        logger.info("Read {} values from column '{}' in Excel file: {}", 
+                   columnData.size(), columnName, filePath);
         return columnData;
     }
 
+    /**
+     * Stream data rows of a sheet without caching, for sheets too large to keep in memory
+     * .xls files have no streaming format and are read through the cache
+     * @return Number of data rows
+     */
+    public static long forEachRow(String filePath, String sheetName, Consumer<Map<String, String>> consumer) {
+        if (StreamingExcelReader.supports(filePath)) {
+            return new StreamingExcelReader(filePath).forEachRow(sheetName, consumer);
+        }
+        List<Map<String, String>> data = readExcelData(filePath, sheetName);
+        data.forEach(consumer);
+        return data.size();
+    }
+
+    /**
+     * Stream data rows of a sheet selected by index without caching
+     * @return Number of data rows
+     */
+    public static long forEachRow(String filePath, int sheetIndex, Consumer<Map<String, String>> consumer) {
+        if (StreamingExcelReader.supports(filePath)) {
+            return new StreamingExcelReader(filePath).forEachRow(sheetIndex, consumer);
+        }
+        List<Map<String, String>> data = readExcelData(filePath, sheetIndex);
+        data.forEach(consumer);
+        return data.size();
+    }
+
     /**
      * Get sheet names from Excel file
      */
     public static List<String> getSheetNames(String filePath) {
-        List<String> sheetNames = new ArrayList<>();
-        
+        List<String> sheetNames = new ArrayList<>(readWorkbook(filePath).keySet());
+        logger.info("Found {} sheets in Excel file: {}", sheetNames.size(), filePath);
+        return sheetNames;
+    }
+
+    /**
+     * Get the cached cell values of every sheet, loading the workbook or its compiled copy on first use
+     * Sheets are in workbook order. Each sheet holds one array per row number, null for
+     * missing rows, and each row holds the cell values as strings, null for missing cells
+     */
+    private static Map<String, List<String[]>> readWorkbook(String filePath) {
+        return TestDataCache.get(filePath, "excel-workbook",
+                () -> CompiledTestData.load(filePath, "excel-workbook", () -> parseWorkbook(filePath)));
+    }
+
+    private static Map<String, List<String[]>> parseWorkbook(String filePath) {
+        if (StreamingExcelReader.supports(filePath)) {
+            return streamWorkbook(filePath);
+        }
         try (InputStream inputStream = new FileInputStream(filePath);
              Workbook workbook = createWorkbook(inputStream, filePath)) {
             
+            Map<String, List<String[]>> sheets = new LinkedHashMap<>();
             for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
-                sheetNames.add(workbook.getSheetName(i));
+                Sheet sheet = workbook.getSheetAt(i);
+                sheets.put(sheet.getSheetName(), readSheet(sheet));
             }
             
-            logger.info("Found {} sheets in Excel file: {}", sheetNames.size(), filePath);
+            logger.info("Loaded {} sheets from Excel file: {}", sheets.size(), filePath);
+            return Collections.unmodifiableMap(sheets);
             
         } catch (IOException e) {
-            logger.error("Error reading sheet names from Excel file: {}", filePath, e);
-            throw new RuntimeException("Failed to read sheet names: " + filePath, e);
+            logger.error("Error reading Excel file: {}", filePath, e);
+            throw new RuntimeException("Failed to read Excel file: " + filePath, e);
         }
+    }
+
+    /**
+     * Read every sheet of an .xlsx file with the SAX reader, keeping formula text like the DOM path
+     */
+    private static Map<String, List<String[]>> streamWorkbook(String filePath) {
+        Map<String, List<String[]>> sheets = new LinkedHashMap<>();
+        new StreamingExcelReader(filePath).withFormulaText(true).readAllRows(sheetName -> {
+            List<String[]> rows = new ArrayList<>();
+            sheets.put(sheetName, rows);
+            return (rowIndex, cells) -> {
+                while (rows.size() < rowIndex) {
+                    rows.add(null);
+                }
+                rows.add(cells);
+                return true;
+            };
+        });
+        sheets.replaceAll((sheetName, rows) -> Collections.unmodifiableList(rows));
         
-        return sheetNames;
+        logger.info("Loaded {} sheets from Excel file: {}", sheets.size(), filePath);
+        return Collections.unmodifiableMap(sheets);
+    }
+
+    private static List<String[]> readSheet(Sheet sheet) {
+        int lastRowNum = sheet.getLastRowNum();
+        List<String[]> rows = new ArrayList<>(Math.max(lastRowNum + 1, 0));
+        for (int i = 0; i <= lastRowNum; i++) {
+            Row row = sheet.getRow(i);
+            if (row == null) {
+                rows.add(null);
+                continue;
+            }
+            
+            String[] cells = new String[Math.max(row.getLastCellNum(), 0)];
+            for (Cell cell : row) {
+                if (cell.getColumnIndex() < cells.length) {
+                    cells[cell.getColumnIndex()] = getCellValueAsString(cell);
+                }
+            }
+            rows.add(cells);
+        }
+        return Collections.unmodifiableList(rows);
+    }
+
+    private static List<String[]> getSheetRows(String filePath, int sheetIndex) {
+        Map<String, List<String[]>> sheets = readWorkbook(filePath);
+        if (sheetIndex < 0 || sheetIndex >= sheets.size()) {
+            throw new IllegalArgumentException("Sheet index (" + sheetIndex + ") is out of range (0.."
+                    + (sheets.size() - 1) + ")");
+        }
+        return new ArrayList<>(sheets.values()).get(sheetIndex);
+    }
+
+    /**
+     * Convert sheet rows to immutable row maps keyed by the header row, skipping missing rows
+     */
+    private static List<Map<String, String>> toRowMaps(List<String[]> rows) {
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return Collections.emptyList();
+        }
+        
+        // Get column headers
+        List<String> headers = new ArrayList<>();
+        for (String header : rows.get(0)) {
+            if (header != null) {
+                headers.add(header);
+            }
+        }
+        
+        // Read data rows
+        List<Map<String, String>> data = new ArrayList<>(rows.size());
+        for (int i = 1; i < rows.size(); i++) {
+            String[] row = rows.get(i);
+            if (row != null) {
+                Map<String, String> rowData = new HashMap<>();
+                for (int j = 0; j < headers.size(); j++) {
+                    rowData.put(headers.get(j), cellAt(row, j));
+                }
+                data.add(Collections.unmodifiableMap(rowData));
+            }
+        }
+        return Collections.unmodifiableList(data);
+    }
+
+    private static String cellAt(String[] row, int index) {
+        return index < row.length && row[index] != null ? row[index] : "";
     }
 
     /**
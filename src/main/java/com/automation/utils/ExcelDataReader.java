@@ -12,7 +12,7 @@ import java.util.*;
 
 /**
  * Excel Data Reader utility for reading test data from Excel files
- * Supports both .xls and .xlsx formats
+ * Supports both .xls and .xlsx formats, .xlsx files are streamed with StreamingExcelReader
  */
 public class ExcelDataReader {
     private static final Logger logger = LogManager.getLogger(ExcelDataReader.class);
@@ -24,6 +24,10 @@ public class ExcelDataReader {
      * @return List of Maps containing row data
      */
     public static List<Map<String, String>> readExcelData(String filePath, String sheetName) {
+        if (StreamingExcelReader.supports(filePath)) {
+            return streamExcelData(filePath, sheetName);
+        }
+        
         List<Map<String, String>> data = new ArrayList<>();
         
         try (FileInputStream fis = new FileInputStream(filePath)) {
@@ -108,6 +112,16 @@ public class ExcelDataReader {
         return testData;
     }
     
+    /**
+     * Stream Excel rows to a TestNG DataProvider while the sheet is still being parsed
+     * @param filePath Excel file path
+     * @param sheetName Sheet name
+     * @return Lazy iterator passing each row as a Map
+     */
+    public static Iterator<Object[]> streamExcelDataForTestNG(String filePath, String sheetName) {
+        return LazyDataProvider.fromExcel(filePath, sheetName);
+    }
+    
     /**
      * Get specific cell value from Excel
      * @param filePath Excel file path
@@ -117,6 +131,17 @@ public class ExcelDataReader {
      * @return Cell value as string
      */
     public static String getCellValue(String filePath, String sheetName, int rowIndex, int columnIndex) {
+        if (StreamingExcelReader.supports(filePath)) {
+            String[] value = {""};
+            new StreamingExcelReader(filePath).withTrimmedStrings(true).readRows(sheetName, (index, cells) -> {
+                if (index == rowIndex && columnIndex < cells.length && cells[columnIndex] != null) {
+                    value[0] = cells[columnIndex];
+                }
+                return index < rowIndex;
+            });
+            return value[0];
+        }
+        
         try (FileInputStream fis = new FileInputStream(filePath)) {
             Workbook workbook = createWorkbook(filePath, fis);
             Sheet sheet = workbook.getSheet(sheetName);
@@ -148,6 +173,10 @@ public class ExcelDataReader {
      * @return List of sheet names
      */
     public static List<String> getSheetNames(String filePath) {
+        if (StreamingExcelReader.supports(filePath)) {
+            return new StreamingExcelReader(filePath).getSheetNames();
+        }
+        
         List<String> sheetNames = new ArrayList<>();
         
         try (FileInputStream fis = new FileInputStream(filePath)) {
@@ -167,6 +196,47 @@ public class ExcelDataReader {
         return sheetNames;
     }
     
+    /**
+     * Read an .xlsx sheet row by row with the SAX reader, without loading the workbook
+     */
+    private static List<Map<String, String>> streamExcelData(String filePath, String sheetName) {
+        List<Map<String, String>> data = new ArrayList<>();
+        List<String> headers = new ArrayList<>();
+        
+        new StreamingExcelReader(filePath).withTrimmedStrings(true).readRows(sheetName, (rowIndex, cells) -> {
+            if (rowIndex == 0) {
+                for (String cell : cells) {
+                    if (cell != null) {
+                        headers.add(cell);
+                    }
+                }
+                return true;
+            }
+            if (headers.isEmpty()) {
+                logger.error("Header row not found in sheet '{}'", sheetName);
+                throw new RuntimeException("Header row not found");
+            }
+            
+            if (isRowEmpty(cells)) {
+                return true;
+            }
+            
+            Map<String, String> rowData = new HashMap<>();
+            for (int j = 0; j < headers.size(); j++) {
+                rowData.put(headers.get(j), j < cells.length && cells[j] != null ? cells[j] : "");
+            }
+            data.add(rowData);
+            return true;
+        });
+        
+        if (headers.isEmpty()) {
+            logger.error("Header row not found in sheet '{}'", sheetName);
+            throw new RuntimeException("Header row not found");
+        }
+        logger.info("Successfully read {} rows from Excel file: {}", data.size(), filePath);
+        return data;
+    }
+    
     /**
      * Create appropriate workbook based on file extension
      */
@@ -229,4 +299,16 @@ public class ExcelDataReader {
         }
         return true;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Check if streamed row is empty
+     */
+    private static boolean isRowEmpty(String[] cells) {
+        for (String cell : cells) {
+            if (cell != null && !cell.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
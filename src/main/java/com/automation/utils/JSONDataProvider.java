@@ -1,5 +1,6 @@
 package com.automation.utils;
 
+import com.automation.core.ConfigManager;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -9,11 +10,16 @@ import org.apache.logging.log4j.Logger;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * JSON Data Provider utility for reading test data from JSON files
+ * File data is parsed once and shared through TestDataCache, so returned data is immutable.
+ * Large files can be streamed element by element with StreamingJSONReader
  */
 public class JSONDataProvider {
     private static final Logger logger = LogManager.getLogger(JSONDataProvider.class);
@@ -24,13 +30,38 @@ public class JSONDataProvider {
      * Read JSON data from file
      */
     public static List<Map<String, Object>> readJSONData(String filePath) {
-        try {
-            logger.info("Reading JSON data from: {}", filePath);
-            return objectMapper.readValue(new File(filePath), new TypeReference<List<Map<String, Object>>>() {});
-        } catch (IOException e) {
-            logger.error("Error reading JSON file: {}", filePath, e);
-            throw new RuntimeException("Failed to read JSON file: " + filePath, e);
-        }
+        return TestDataCache.get(filePath, "json-list", () -> {
+            try {
+                logger.info("Reading JSON data from: {}", filePath);
+                return immutableCopy(objectMapper.readValue(new File(filePath),
+                        new TypeReference<List<Map<String, Object>>>() {}));
+            } catch (IOException e) {
+                logger.error("Error reading JSON file: {}", filePath, e);
+                throw new RuntimeException("Failed to read JSON file: " + filePath, e);
+            }
+        });
+    }
+
+    /**
+     * Read the array held in a top-level field, without binding the rest of the file
+     */
+    public static List<Map<String, Object>> readJSONArray(String filePath, String arrayName) {
+        return TestDataCache.get(filePath, "json-array:" + arrayName, () -> {
+            logger.info("Reading JSON array '{}' from: {}", arrayName, filePath);
+            List<Map<String, Object>> data = new ArrayList<>();
+            new StreamingJSONReader(filePath).forEachElement(arrayName, data::add);
+            return immutableCopy(data);
+        });
+    }
+
+    /**
+     * Stream the elements of an array bound to a target type, for files too large to keep in memory
+     * @param arrayName Name of a top-level field holding the array, null when the document is the array
+     * @return Iterator that must be exhausted or closed to release the file
+     */
+    public static <T> StreamingJSONReader.ElementIterator<T> streamJSONData(String filePath, String arrayName,
+                                                                          Class<T> type) {
+        return new StreamingJSONReader(filePath).iterator(arrayName, type);
     }
 
     /**
@@ -49,13 +80,16 @@ public class JSONDataProvider {
      * Read JSON data as Map
      */
     public static Map<String, Object> readJSONAsMap(String filePath) {
-        try {
-            logger.info("Reading JSON data as Map from: {}", filePath);
-            return objectMapper.readValue(new File(filePath), new TypeReference<Map<String, Object>>() {});
-        } catch (IOException e) {
-            logger.error("Error reading JSON file as Map: {}", filePath, e);
-            throw new RuntimeException("Failed to read JSON file as Map: " + filePath, e);
-        }
+        return TestDataCache.get(filePath, "json-map", () -> {
+            try {
+                logger.info("Reading JSON data as Map from: {}", filePath);
+                return immutableCopy(objectMapper.readValue(new File(filePath),
+                        new TypeReference<Map<String, Object>>() {}));
+            } catch (IOException e) {
+                logger.error("Error reading JSON file as Map: {}", filePath, e);
+                throw new RuntimeException("Failed to read JSON file as Map: " + filePath, e);
+            }
+        });
     }
 
     /**
@@ -74,9 +108,7 @@ public class JSONDataProvider {
      * Read test data from configured JSON file
      */
     public static List<Map<String, Object>> readTestData() {
-        String dataPath = config.getProperty("test.data.path");
-        String jsonFile = config.getProperty("test.data.json");
-        String fullPath = dataPath + jsonFile;
+        String fullPath = getTestDataPath();
         
         logger.info("Reading test data from: {}", fullPath);
         return readJSONData(fullPath);
@@ -86,14 +118,19 @@ public class JSONDataProvider {
      * Read test data as Map from configured JSON file
      */
     public static Map<String, Object> readTestDataAsMap() {
-        String dataPath = config.getProperty("test.data.path");
-        String jsonFile = config.getProperty("test.data.json");
-        String fullPath = dataPath + jsonFile;
+        String fullPath = getTestDataPath();
         
         logger.info("Reading test data as Map from: {}", fullPath);
         return readJSONAsMap(fullPath);
     }
 
+    /**
+     * Get path of the configured JSON test data file
+     */
+    public static String getTestDataPath() {
+        return config.getProperty("test.data.path") + config.getProperty("test.data.json");
+    }
+
     /**
      * Convert object to JSON string
      */
@@ -129,4 +166,26 @@ public class JSONDataProvider {
             throw new RuntimeException("Failed to parse JSON string to list", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Wrap parsed JSON containers so cached data cannot be modified by callers
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T immutableCopy(T value) {
+        if (value instanceof Map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                copy.put(entry.getKey(), immutableCopy(entry.getValue()));
+            }
+            return (T) Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<Object>) value).size());
+            for (Object element : (List<Object>) value) {
+                copy.add(immutableCopy(element));
+            }
+            return (T) Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,396 @@
+package com.automation.utils;
+
+import com.automation.core.ConfigManager;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.FileReader;
+import java.lang.ref.Cleaner;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Lazy row sources for TestNG data providers
+ * Files are parsed while the tests run, so the first row is executed before the last one
+ * has been read and large files are never materialized. The iterators are thread-safe and
+ * can be consumed by parallel data providers and data-provider-thread-count.
+ * Without column names each row is passed to the test as one Map, with column names
+ * the values of those columns are passed as separate parameters
+ */
+public final class LazyDataProvider {
+    private static final Logger logger = LogManager.getLogger(LazyDataProvider.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private LazyDataProvider() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Stream rows of a CSV file with a header row, skipping empty rows
+     * @param filePath CSV file path
+     * @param columns Columns passed as parameters, none to pass the row map
+     */
+    public static Iterator<Object[]> fromCsv(String filePath, String... columns) {
+        return new CsvRowIterator(filePath, -1, parameters(columns));
+    }
+
+    /**
+     * Stream rows of one section of a CSV file holding several tables
+     * Sections are separated by empty lines and each starts with its own header row
+     * @param filePath CSV file path
+     * @param section Section index (0-based)
+     * @param columns Columns passed as parameters, none to pass the row map
+     */
+    public static Iterator<Object[]> fromCsvSection(String filePath, int section, String... columns) {
+        return new CsvRowIterator(filePath, section, parameters(columns));
+    }
+
+    /**
+     * Stream rows of an Excel sheet with a header row
+     * .xlsx sheets are parsed on a background thread that stays a bounded number of rows
+     * ahead of the tests, .xls sheets are read through ExcelDataProvider
+     * @param filePath Excel file path
+     * @param sheetName Sheet name
+     * @param columns Columns passed as parameters, none to pass the row map
+     */
+    public static Iterator<Object[]> fromExcel(String filePath, String sheetName, String... columns) {
+        Function<Map<String, ?>, Object[]> parameters = parameters(columns);
+        if (!StreamingExcelReader.supports(filePath)) {
+            Iterator<Map<String, String>> rows = ExcelDataProvider.readExcelData(filePath, sheetName).iterator();
+            return new RowIterator(filePath) {
+                @Override
+                protected Object[] readNext() {
+                    return rows.hasNext() ? parameters.apply(rows.next()) : null;
+                }
+            };
+        }
+        return new ExcelRowIterator(filePath, sheetName, parameters);
+    }
+
+    /**
+     * Stream the objects of a JSON file holding a top-level array
+     * @param filePath JSON file path
+     * @param columns Fields passed as parameters, none to pass the object as a map
+     */
+    public static Iterator<Object[]> fromJson(String filePath, String... columns) {
+        return new JsonRowIterator(filePath, null, parameters(columns));
+    }
+
+    /**
+     * Stream the objects of an array held in a top-level field of a JSON file
+     * @param filePath JSON file path
+     * @param arrayName Name of the field holding the array
+     * @param columns Fields passed as parameters, none to pass the object as a map
+     */
+    public static Iterator<Object[]> fromJsonArray(String filePath, String arrayName, String... columns) {
+        return new JsonRowIterator(filePath, arrayName, parameters(columns));
+    }
+
+    private static Function<Map<String, ?>, Object[]> parameters(String[] columns) {
+        if (columns.length == 0) {
+            return row -> new Object[] {row};
+        }
+        String[] names = columns.clone();
+        return row -> {
+            Object[] values = new Object[names.length];
+            for (int i = 0; i < names.length; i++) {
+                values[i] = row.get(names[i]);
+            }
+            return values;
+        };
+    }
+
+    /**
+     * Iterator that reads one row ahead and releases the source when exhausted
+     */
+    private abstract static class RowIterator implements Iterator<Object[]>, AutoCloseable {
+        protected final String filePath;
+        private Object[] nextRow;
+        private boolean finished;
+        private long rowCount;
+        private long startTime;
+
+        private RowIterator(String filePath) {
+            this.filePath = filePath;
+        }
+
+        /**
+         * Read the next row, opening the source on first use
+         * @return Test parameters for the row, null when there are no more rows
+         */
+        protected abstract Object[] readNext() throws Exception;
+
+        /**
+         * Release the source, called once when the rows are exhausted or the iterator is closed
+         */
+        protected void release() throws Exception {
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            if (nextRow == null && !finished) {
+                if (startTime == 0) {
+                    startTime = System.currentTimeMillis();
+                }
+                try {
+                    nextRow = readNext();
+                } catch (RuntimeException e) {
+                    close();
+                    throw e;
+                } catch (Exception e) {
+                    close();
+                    logger.error("Error reading test data from: {}", filePath, e);
+                    throw new RuntimeException("Failed to read test data from: " + filePath, e);
+                }
+                if (nextRow == null) {
+                    logger.info("Streamed {} rows of test data from {} in {} ms", rowCount, filePath,
+                            System.currentTimeMillis() - startTime);
+                    close();
+                }
+            }
+            return nextRow != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in " + filePath);
+            }
+            Object[] row = nextRow;
+            nextRow = null;
+            rowCount++;
+            return row;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            try {
+                release();
+            } catch (Exception e) {
+                logger.debug("Error closing test data source: {}", filePath, e);
+            }
+        }
+    }
+
+    /**
+     * Reads CSV records one at a time with the same trimming rules as CSVDataReader
+     */
+    private static class CsvRowIterator extends RowIterator {
+        private final int section;
+        private final Function<Map<String, ?>, Object[]> parameters;
+        private CSVReader reader;
+        private String[] headers;
+
+        private CsvRowIterator(String filePath, int section, Function<Map<String, ?>, Object[]> parameters) {
+            super(filePath);
+            this.section = section;
+            this.parameters = parameters;
+        }
+
+        @Override
+        protected Object[] readNext() throws Exception {
+            if (reader == null) {
+                reader = new CSVReaderBuilder(new FileReader(filePath)).build();
+                if (section > 0 && !skipSections(section)) {
+                    throw new IllegalArgumentException("Section " + section + " not found in CSV file: " + filePath);
+                }
+            }
+
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                if (isEmpty(record)) {
+                    if (section >= 0 && headers != null) {
+                        // Empty line ends the section
+                        return null;
+                    }
+                    continue;
+                }
+                if (headers == null) {
+                    headers = record;
+                    continue;
+                }
+
+                Map<String, String> row = new HashMap<>();
+                for (int j = 0; j < headers.length && j < record.length; j++) {
+                    row.put(headers[j].trim(), record[j].trim());
+                }
+                return parameters.apply(Collections.unmodifiableMap(row));
+            }
+            return null;
+        }
+
+        /**
+         * Skip past the given number of sections
+         * @return false when the file has fewer sections
+         */
+        private boolean skipSections(int count) throws Exception {
+            int skipped = 0;
+            boolean inSection = false;
+            String[] record;
+            while (skipped < count && (record = reader.readNext()) != null) {
+                if (isEmpty(record)) {
+                    if (inSection) {
+                        skipped++;
+                        inSection = false;
+                    }
+                } else {
+                    inSection = true;
+                }
+            }
+            return skipped == count;
+        }
+
+        @Override
+        protected void release() throws Exception {
+            if (reader != null) {
+                reader.close();
+            }
+        }
+
+        private static boolean isEmpty(String[] record) {
+            for (String cell : record) {
+                if (cell != null && !cell.trim().isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reads the elements of a JSON array one at a time with StreamingJSONReader
+     */
+    private static class JsonRowIterator extends RowIterator {
+        private final Function<Map<String, ?>, Object[]> parameters;
+        private final StreamingJSONReader.ElementIterator<Map<String, Object>> elements;
+
+        private JsonRowIterator(String filePath, String arrayName, Function<Map<String, ?>, Object[]> parameters) {
+            super(filePath);
+            this.parameters = parameters;
+            this.elements = new StreamingJSONReader(filePath).iterator(arrayName);
+        }
+
+        @Override
+        protected Object[] readNext() {
+            return elements.hasNext() ? parameters.apply(elements.next()) : null;
+        }
+
+        @Override
+        protected void release() {
+            elements.close();
+        }
+    }
+
+    /**
+     * Parses an .xlsx sheet on a background thread into a bounded queue
+     * TestNG does not close an iterator it stops consuming. The producer only references the
+     * read-ahead state, so an abandoned iterator can be collected and a Cleaner then stops the
+     * producer and closes the workbook. A slow test never stops the read while it holds the iterator
+     */
+    private static class ExcelRowIterator extends RowIterator {
+        private static final Cleaner cleaner = Cleaner.create();
+
+        private final ReadAhead readAhead;
+        private final Cleaner.Cleanable cleanable;
+        private Thread producer;
+
+        private ExcelRowIterator(String filePath, String sheetName, Function<Map<String, ?>, Object[]> parameters) {
+            super(filePath);
+            this.readAhead = new ReadAhead(filePath, sheetName, parameters);
+            this.cleanable = cleaner.register(this, readAhead::close);
+        }
+
+        @Override
+        protected Object[] readNext() throws Exception {
+            if (producer == null) {
+                producer = new Thread(readAhead::produce, "excel-data-" + readAhead.sheetName);
+                producer.setDaemon(true);
+                producer.start();
+            }
+            return readAhead.take();
+        }
+
+        @Override
+        protected void release() {
+            cleanable.clean();
+        }
+    }
+
+    /**
+     * Queue shared by an ExcelRowIterator and its producer thread
+     * Must not reference the iterator, or the producer would keep an abandoned iterator reachable
+     */
+    private static class ReadAhead {
+        private static final Object[] END = new Object[0];
+
+        private final String filePath;
+        private final String sheetName;
+        private final Function<Map<String, ?>, Object[]> parameters;
+        private final BlockingQueue<Object[]> queue;
+        private volatile boolean closed;
+        private volatile RuntimeException failure;
+
+        private ReadAhead(String filePath, String sheetName, Function<Map<String, ?>, Object[]> parameters) {
+            this.filePath = filePath;
+            this.sheetName = sheetName;
+            this.parameters = parameters;
+            this.queue = new ArrayBlockingQueue<>(Math.max(config.getTestDataReadAheadRows(), 1));
+        }
+
+        private Object[] take() throws InterruptedException {
+            Object[] row = queue.take();
+            if (row == END) {
+                if (failure != null) {
+                    throw failure;
+                }
+                return null;
+            }
+            return row;
+        }
+
+        private void produce() {
+            try {
+                new StreamingExcelReader(filePath).forEachRowWhile(sheetName, row -> offer(parameters.apply(row)));
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                offer(END);
+            }
+        }
+
+        /**
+         * Wait for space in the queue until the iterator is closed
+         * @return false when the iterator was closed and reading should stop
+         */
+        private boolean offer(Object[] row) {
+            try {
+                while (!closed) {
+                    if (queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+        }
+    }
+}
@@ -0,0 +1,551 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Streaming reader for .xlsx files built on the POI event API
+ * Sheet XML is parsed with SAX and rows are handed to the caller one at a time,
+ * so memory use stays flat regardless of sheet size. Only the shared strings table
+ * is held in memory while a sheet is read
+ */
+public class StreamingExcelReader {
+    private static final Logger logger = LogManager.getLogger(StreamingExcelReader.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final String filePath;
+    private boolean formulaText;
+    private boolean trimStrings;
+
+    /**
+     * Create a reader for an .xlsx file, the file is opened on every read
+     */
+    public StreamingExcelReader(String filePath) {
+        if (!filePath.toLowerCase().endsWith(".xlsx")) {
+            throw new IllegalArgumentException("Streaming read is only supported for .xlsx files: " + filePath);
+        }
+        this.filePath = filePath;
+    }
+
+    /**
+     * Check if a file can be read by this reader
+     */
+    public static boolean supports(String filePath) {
+        return filePath.toLowerCase().endsWith(".xlsx");
+    }
+
+    /**
+     * Return formula text instead of the cached formula result for formula cells
+     */
+    public StreamingExcelReader withFormulaText(boolean formulaText) {
+        this.formulaText = formulaText;
+        return this;
+    }
+
+    /**
+     * Trim text cells the way ExcelDataReader trims string cells of a loaded workbook
+     * Numbers, booleans and formula results are returned as stored
+     */
+    public StreamingExcelReader withTrimmedStrings(boolean trimStrings) {
+        this.trimStrings = trimStrings;
+        return this;
+    }
+
+    /**
+     * Get sheet names in workbook order
+     */
+    public List<String> getSheetNames() {
+        List<String> sheetNames = new ArrayList<>();
+        readSheets((index, name) -> {
+            sheetNames.add(name);
+            return null;
+        });
+        return sheetNames;
+    }
+
+    /**
+     * Read raw rows of a sheet selected by name
+     * @return Number of rows handed to the handler
+     */
+    public long readRows(String sheetName, RowHandler handler) {
+        long[] rows = {-1};
+        readSheets((index, name) -> {
+            if (!name.equals(sheetName)) {
+                return null;
+            }
+            rows[0] = 0;
+            return counting(handler, rows);
+        });
+        if (rows[0] < 0) {
+            throw new IllegalArgumentException("Sheet '" + sheetName + "' not found in Excel file: " + filePath);
+        }
+        return rows[0];
+    }
+
+    /**
+     * Read raw rows of a sheet selected by index
+     * @return Number of rows handed to the handler
+     */
+    public long readRows(int sheetIndex, RowHandler handler) {
+        long[] rows = {-1};
+        int sheetCount = readSheets((index, name) -> {
+            if (index != sheetIndex) {
+                return null;
+            }
+            rows[0] = 0;
+            return counting(handler, rows);
+        });
+        if (rows[0] < 0) {
+            throw new IllegalArgumentException("Sheet index (" + sheetIndex + ") is out of range (0.."
+                    + (sheetCount - 1) + ")");
+        }
+        return rows[0];
+    }
+
+    /**
+     * Read raw rows of every sheet in workbook order
+     * @param handlerForSheet Returns the handler for a sheet name, or null to skip the sheet
+     */
+    public void readAllRows(Function<String, RowHandler> handlerForSheet) {
+        readSheets((index, name) -> handlerForSheet.apply(name));
+    }
+
+    /**
+     * Stream the data rows of a sheet selected by name as maps keyed by the header row
+     * @return Number of data rows
+     */
+    public long forEachRow(String sheetName, Consumer<Map<String, String>> consumer) {
+        return forEachRowWhile(sheetName, row -> {
+            consumer.accept(row);
+            return true;
+        });
+    }
+
+    /**
+     * Stream the data rows of a sheet selected by name until the consumer returns false
+     * @return Number of data rows handed to the consumer
+     */
+    public long forEachRowWhile(String sheetName, Predicate<Map<String, String>> consumer) {
+        HeaderMapper mapper = new HeaderMapper(consumer);
+        readRows(sheetName, mapper);
+        return mapper.dataRows;
+    }
+
+    /**
+     * Stream the data rows of a sheet selected by index as maps keyed by the header row
+     * @return Number of data rows
+     */
+    public long forEachRow(int sheetIndex, Consumer<Map<String, String>> consumer) {
+        return forEachRowWhile(sheetIndex, row -> {
+            consumer.accept(row);
+            return true;
+        });
+    }
+
+    /**
+     * Stream the data rows of a sheet selected by index until the consumer returns false
+     * @return Number of data rows handed to the consumer
+     */
+    public long forEachRowWhile(int sheetIndex, Predicate<Map<String, String>> consumer) {
+        HeaderMapper mapper = new HeaderMapper(consumer);
+        readRows(sheetIndex, mapper);
+        return mapper.dataRows;
+    }
+
+    /**
+     * Stream the data rows of a sheet selected by name as typed records
+     * Header names are matched to record properties, unknown columns are ignored
+     * @return Number of data rows
+     */
+    public <T> long forEachRecord(String sheetName, Class<T> type, Consumer<T> consumer) {
+        return forEachRow(sheetName, row -> consumer.accept(objectMapper.convertValue(row, type)));
+    }
+
+    /**
+     * Stream the data rows of a sheet selected by index as typed records
+     * @return Number of data rows
+     */
+    public <T> long forEachRecord(int sheetIndex, Class<T> type, Consumer<T> consumer) {
+        return forEachRow(sheetIndex, row -> consumer.accept(objectMapper.convertValue(row, type)));
+    }
+
+    /**
+     * Open the package and parse the sheets chosen by the selector
+     * @return Number of sheets in the workbook
+     */
+    private int readSheets(SheetSelector selector) {
+        long startTime = System.currentTimeMillis();
+        try (OPCPackage pkg = OPCPackage.open(filePath, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = null;
+            StylesTable styles = null;
+            boolean date1904 = false;
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            int index = 0;
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    RowHandler handler = selector.select(index, sheets.getSheetName());
+                    if (handler != null) {
+                        if (strings == null) {
+                            strings = new ReadOnlySharedStringsTable(pkg);
+                            styles = reader.getStylesTable();
+                            date1904 = isDate1904(reader);
+                        }
+                        boolean completed = parseSheet(sheet, new SheetHandler(strings, styles, date1904, handler));
+                        logger.debug("Streamed sheet '{}' from {} in {} ms", sheets.getSheetName(), filePath,
+                                System.currentTimeMillis() - startTime);
+                        if (!completed) {
+                            return index + 1;
+                        }
+                    }
+                }
+                index++;
+            }
+            return index;
+        } catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException e) {
+            logger.error("Error streaming Excel file: {}", filePath, e);
+            throw new RuntimeException("Failed to read Excel file: " + filePath, e);
+        }
+    }
+
+    /**
+     * Parse one sheet
+     * @return false when the row handler stopped the read
+     */
+    private static boolean parseSheet(InputStream sheet, SheetHandler handler)
+            throws IOException, SAXException, ParserConfigurationException {
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(handler);
+        try {
+            xmlReader.parse(new InputSource(sheet));
+            return true;
+        } catch (StopReading e) {
+            return false;
+        }
+    }
+
+    /**
+     * Check if dates are stored as days since 1904 instead of 1900, set by older Mac workbooks
+     */
+    private static boolean isDate1904(XSSFReader reader)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+        boolean[] date1904 = {false};
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(new DefaultHandler() {
+            @Override
+            public void startElement(String uri, String localName, String qName, Attributes attributes)
+                    throws SAXException {
+                if ("workbookPr".equals(localName != null && !localName.isEmpty() ? localName : qName)) {
+                    String value = attributes.getValue("date1904");
+                    date1904[0] = "1".equals(value) || "true".equals(value);
+                    throw new StopReading();
+                }
+            }
+        });
+        try (InputStream workbook = reader.getWorkbookData()) {
+            xmlReader.parse(new InputSource(workbook));
+        } catch (StopReading e) {
+            // workbookPr found, the rest of the workbook part is not needed
+        }
+        return date1904[0];
+    }
+
+    private static RowHandler counting(RowHandler handler, long[] rows) {
+        return (rowIndex, cells) -> {
+            rows[0]++;
+            return handler.handleRow(rowIndex, cells);
+        };
+    }
+
+    /**
+     * Receives the rows of a sheet in order
+     * Missing rows are skipped, missing cells are null
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * Handle one row
+         * @param rowIndex Row index (0-based)
+         * @param cells Cell values by column index
+         * @return false to stop reading
+         */
+        boolean handleRow(int rowIndex, String[] cells);
+    }
+
+    @FunctionalInterface
+    private interface SheetSelector {
+        RowHandler select(int index, String name);
+    }
+
+    /**
+     * Maps rows to the header row, skipping empty rows
+     */
+    private static class HeaderMapper implements RowHandler {
+        private final Predicate<Map<String, String>> consumer;
+        private String[] headers;
+        private long dataRows;
+
+        private HeaderMapper(Predicate<Map<String, String>> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public boolean handleRow(int rowIndex, String[] cells) {
+            if (headers == null) {
+                headers = cells;
+                return true;
+            }
+            if (isEmpty(cells)) {
+                return true;
+            }
+
+            Map<String, String> row = new HashMap<>((int) (headers.length / 0.75f) + 1);
+            for (int i = 0; i < headers.length; i++) {
+                if (headers[i] != null && !headers[i].isEmpty()) {
+                    row.put(headers[i], i < cells.length && cells[i] != null ? cells[i] : "");
+                }
+            }
+            dataRows++;
+            return consumer.test(row);
+        }
+
+        private static boolean isEmpty(String[] cells) {
+            for (String cell : cells) {
+                if (cell != null && !cell.isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * SAX handler for the sheetData part of a worksheet
+     * Cell values are converted to strings the same way as ExcelDataProvider
+     */
+    private class SheetHandler extends DefaultHandler {
+        private final ReadOnlySharedStringsTable strings;
+        private final StylesTable styles;
+        private final boolean date1904;
+        private final RowHandler handler;
+        private final StringBuilder text = new StringBuilder(64);
+        private final StringBuilder formula = new StringBuilder(64);
+        private String[] cells = new String[16];
+        private int rowIndex = -1;
+        private int lastColumn = -1;
+        private int column;
+        private String cellType;
+        private String cellStyle;
+        private boolean hasValue;
+        private boolean inValue;
+        private boolean inFormula;
+        private boolean inInlineString;
+        private boolean inPhonetic;
+
+        private SheetHandler(ReadOnlySharedStringsTable strings, StylesTable styles, boolean date1904,
+                             RowHandler handler) {
+            this.strings = strings;
+            this.styles = styles;
+            this.date1904 = date1904;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (name(localName, qName)) {
+                case "row":
+                    String rowRef = attributes.getValue("r");
+                    rowIndex = rowRef != null ? Integer.parseInt(rowRef) - 1 : rowIndex + 1;
+                    Arrays.fill(cells, 0, lastColumn + 1, null);
+                    lastColumn = -1;
+                    break;
+                case "c":
+                    String cellRef = attributes.getValue("r");
+                    column = cellRef != null ? columnIndex(cellRef) : lastColumn + 1;
+                    cellType = attributes.getValue("t");
+                    cellStyle = attributes.getValue("s");
+                    hasValue = false;
+                    text.setLength(0);
+                    formula.setLength(0);
+                    break;
+                case "v":
+                    inValue = true;
+                    hasValue = true;
+                    break;
+                case "f":
+                    inFormula = true;
+                    break;
+                case "is":
+                    inInlineString = true;
+                    hasValue = true;
+                    break;
+                case "rPh":
+                    inPhonetic = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue || (inInlineString && !inPhonetic)) {
+                text.append(ch, start, length);
+            } else if (inFormula) {
+                formula.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            switch (name(localName, qName)) {
+                case "v":
+                    inValue = false;
+                    break;
+                case "f":
+                    inFormula = false;
+                    break;
+                case "is":
+                    inInlineString = false;
+                    break;
+                case "rPh":
+                    inPhonetic = false;
+                    break;
+                case "c":
+                    setCell(column, cellValue());
+                    break;
+                case "row":
+                    if (!handler.handleRow(rowIndex, Arrays.copyOf(cells, lastColumn + 1))) {
+                        throw new StopReading();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void setCell(int columnIndex, String value) {
+            if (columnIndex >= cells.length) {
+                cells = Arrays.copyOf(cells, Math.max(cells.length * 2, columnIndex + 1));
+            }
+            cells[columnIndex] = value;
+            lastColumn = Math.max(lastColumn, columnIndex);
+        }
+
+        private String cellValue() {
+            // Shared formulas only carry their text on the first cell, the others fall back to the result
+            if (formulaText && formula.length() > 0) {
+                return formula.toString();
+            }
+            if (!hasValue) {
+                return "";
+            }
+
+            String value = text.toString();
+            if (cellType == null || "n".equals(cellType)) {
+                return formatNumber(value);
+            }
+            switch (cellType) {
+                case "s":
+                    return text(strings.getItemAt(Integer.parseInt(value)).getString());
+                case "inlineStr":
+                    return text(value);
+                case "b":
+                    return String.valueOf("1".equals(value));
+                case "e":
+                    return "";
+                default:
+                    // str (formula string result) and d (ISO date)
+                    return value;
+            }
+        }
+
+        private String text(String value) {
+            return trimStrings ? value.trim() : value;
+        }
+
+        private String formatNumber(String value) {
+            if (value.isEmpty()) {
+                return "";
+            }
+            double number = Double.parseDouble(value);
+            if (cellStyle != null && styles != null) {
+                XSSFCellStyle style = styles.getStyleAt(Integer.parseInt(cellStyle));
+                if (style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString())
+                        && DateUtil.isValidExcelDate(number)) {
+                    return DateUtil.getJavaDate(number, date1904).toString();
+                }
+            }
+            // Avoid decimal places for whole numbers
+            if (number == (long) number) {
+                return String.valueOf((long) number);
+            }
+            return String.valueOf(number);
+        }
+
+        private String name(String localName, String qName) {
+            return localName != null && !localName.isEmpty() ? localName : qName;
+        }
+    }
+
+    /**
+     * Convert a cell reference such as "AB12" to its column index
+     */
+    private static int columnIndex(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char c = cellRef.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    /**
+     * Thrown from the SAX handler to stop reading when a row handler returns false
+     */
+    private static class StopReading extends SAXException {
+        private static final long serialVersionUID = 1L;
+
+        private StopReading() {
+            super("Read stopped by row handler");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.automation.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for JSON test data built on Jackson's token API
+ * Seeks to a top-level array, either the document itself or a named field of the
+ * root object, and reads its elements one at a time. Other fields are skipped without
+ * being bound, so large fixtures are never loaded into the heap as a whole
+ */
+public class StreamingJSONReader {
+    private static final Logger logger = LogManager.getLogger(StreamingJSONReader.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final JavaType MAP_TYPE = objectMapper.getTypeFactory()
+            .constructMapType(Map.class, String.class, Object.class);
+    private static final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private final String filePath;
+
+    /**
+     * Create a reader for a JSON file, the file is opened on every read
+     */
+    public StreamingJSONReader(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Iterate over the elements of an array as maps
+     * @param arrayName Name of a top-level field holding the array, null when the document is the array
+     * @return Iterator that must be exhausted or closed to release the file
+     */
+    public ElementIterator<Map<String, Object>> iterator(String arrayName) {
+        return new ElementIterator<>(arrayName, readerFor(MAP_TYPE));
+    }
+
+    /**
+     * Iterate over the elements of an array bound to a target type
+     * @param arrayName Name of a top-level field holding the array, null when the document is the array
+     * @param type Element type, unknown properties are ignored
+     * @return Iterator that must be exhausted or closed to release the file
+     */
+    public <T> ElementIterator<T> iterator(String arrayName, Class<T> type) {
+        return new ElementIterator<>(arrayName, readerFor(objectMapper.constructType(type)));
+    }
+
+    /**
+     * Call the consumer for every element of an array as a map
+     * @return Number of elements read
+     */
+    public long forEachElement(String arrayName, Consumer<Map<String, Object>> consumer) {
+        return forEach(iterator(arrayName), consumer);
+    }
+
+    /**
+     * Call the consumer for every element of an array bound to a target type
+     * @return Number of elements read
+     */
+    public <T> long forEachElement(String arrayName, Class<T> type, Consumer<T> consumer) {
+        return forEach(iterator(arrayName, type), consumer);
+    }
+
+    private static <T> long forEach(ElementIterator<T> elements, Consumer<T> consumer) {
+        try (ElementIterator<T> iterator = elements) {
+            long count = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Get the reader for a type, readers are immutable and shared between threads
+     */
+    private static ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    /**
+     * Open a parser positioned on the start of the array
+     */
+    private JsonParser openArray(String arrayName) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(new File(filePath));
+        try {
+            JsonToken token = parser.nextToken();
+            if (arrayName == null) {
+                if (token != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("Expected a JSON array in: " + filePath);
+                }
+                return parser;
+            }
+
+            if (token != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Expected a JSON object in: " + filePath);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                token = parser.nextToken();
+                if (arrayName.equals(fieldName)) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new IllegalArgumentException("Field '" + arrayName + "' is not an array in: " + filePath);
+                    }
+                    return parser;
+                }
+                parser.skipChildren();
+            }
+            throw new IllegalArgumentException("Array '" + arrayName + "' not found in JSON file: " + filePath);
+        } catch (IOException | RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Iterator over array elements, the file is opened on the first call to hasNext
+     */
+    public class ElementIterator<T> implements Iterator<T>, AutoCloseable {
+        private final String arrayName;
+        private final ObjectReader reader;
+        private JsonParser parser;
+        private boolean hasNext;
+        private boolean finished;
+        private long count;
+
+        private ElementIterator(String arrayName, ObjectReader reader) {
+            this.arrayName = arrayName;
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (finished) {
+                return false;
+            }
+            if (!hasNext) {
+                try {
+                    if (parser == null) {
+                        parser = openArray(arrayName);
+                    }
+                    JsonToken token = parser.nextToken();
+                    hasNext = token != null && token != JsonToken.END_ARRAY;
+                } catch (IOException e) {
+                    close();
+                    logger.error("Error reading JSON file: {}", filePath, e);
+                    throw new RuntimeException("Failed to read JSON file: " + filePath, e);
+                }
+                if (!hasNext) {
+                    logger.debug("Read {} elements of {} from {}", count, arrayName != null ? arrayName : "array",
+                            filePath);
+                    close();
+                }
+            }
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more elements in " + filePath);
+            }
+            hasNext = false;
+            try {
+                T element = reader.readValue(parser);
+                count++;
+                return element;
+            } catch (IOException e) {
+                close();
+                logger.error("Error reading JSON file: {}", filePath, e);
+                throw new RuntimeException("Failed to read JSON file: " + filePath, e);
+            }
+        }
+
+        /**
+         * Get number of elements read so far
+         */
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            hasNext = false;
+            if (parser != null) {
+                try {
+                    parser.close();
+                } catch (IOException e) {
+                    logger.debug("Error closing JSON parser for: {}", filePath, e);
+                }
+            }
+        }
+    }
+}
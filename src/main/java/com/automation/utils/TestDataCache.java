@@ -0,0 +1,268 @@
+package com.automation.utils;
+
+import com.automation.core.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of parsed test data shared by the data readers and providers
+ * Entries are keyed by file path and parse variant and are reloaded when the file's
+ * modification time or size changes. Cached values are immutable and shared between
+ * threads, so each data file is parsed once per suite. The least recently used entries
+ * are evicted when the entry count or total cell count exceeds the configured limits
+ */
+public final class TestDataCache {
+    private static final Logger logger = LogManager.getLogger(TestDataCache.class);
+    private static final ConfigManager config = ConfigManager.getInstance();
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private static final AtomicLong accessClock = new AtomicLong();
+    private static final AtomicLong cachedCells = new AtomicLong();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder reloads = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final LongAdder parseNanos = new LongAdder();
+
+    private TestDataCache() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get parsed data for a file, parsing it on first use or when the file changed
+     * @param filePath Data file path
+     * @param variant Parse variant, such as the separator used or the derived view
+     * @param loader Parser producing an immutable value, called at most once per file version
+     * @return Cached or freshly parsed value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T get(String filePath, String variant, Supplier<T> loader) {
+        if (!config.isTestDataCacheEnabled()) {
+            return loader.get();
+        }
+
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // Let the loader report the missing or unreadable file
+            misses.increment();
+            return loader.get();
+        }
+
+        String key = path + "#" + variant;
+        Entry entry = entries.computeIfAbsent(key, Entry::new);
+        Loaded loaded = entry.loaded;
+        if (loaded != null && loaded.matches(attributes)) {
+            hits.increment();
+            entry.lastAccess = accessClock.incrementAndGet();
+            return (T) loaded.value;
+        }
+
+        T value;
+        synchronized (entry) {
+            loaded = entry.loaded;
+            if (loaded != null && loaded.matches(attributes)) {
+                hits.increment();
+                entry.lastAccess = accessClock.incrementAndGet();
+                return (T) loaded.value;
+            }
+
+            misses.increment();
+            if (loaded != null) {
+                reloads.increment();
+                logger.info("Test data file changed, reloading: {}", path);
+            }
+
+            long startTime = System.nanoTime();
+            value = loader.get();
+            long elapsed = System.nanoTime() - startTime;
+            parseNanos.add(elapsed);
+
+            long cells = countCells(value, 0);
+            entry.loaded = new Loaded(value, attributes, cells);
+            entry.lastAccess = accessClock.incrementAndGet();
+            cachedCells.addAndGet(cells - (loaded != null ? loaded.cells : 0));
+            logger.debug("Parsed {} ({}) in {} ms, {} cells", path, variant,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), cells);
+        }
+
+        evictIfNeeded();
+        return value;
+    }
+
+    /**
+     * Remove all cached data
+     */
+    public static synchronized void clear() {
+        entries.clear();
+        cachedCells.set(0);
+    }
+
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get number of entries parsed again because the file changed on disk
+     */
+    public static long getReloadCount() {
+        return reloads.sum();
+    }
+
+    public static long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get total time spent parsing test data files in milliseconds
+     */
+    public static long getParseTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(parseNanos.sum());
+    }
+
+    public static int getEntryCount() {
+        return entries.size();
+    }
+
+    public static long getCachedCells() {
+        return cachedCells.get();
+    }
+
+    /**
+     * Get hit ratio between 0 and 1
+     */
+    public static double getHitRatio() {
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Get a one-line summary of the cache statistics
+     */
+    public static String getStats() {
+        return String.format("TestDataCache[entries=%d, cells=%d, hits=%d, misses=%d, hitRatio=%.2f, "
+                        + "reloads=%d, evictions=%d, parseTime=%dms]",
+                getEntryCount(), getCachedCells(), getHitCount(), getMissCount(), getHitRatio(),
+                getReloadCount(), getEvictionCount(), getParseTimeMillis());
+    }
+
+    /**
+     * Evict least recently used entries until the cache is within its limits
+     */
+    private static synchronized void evictIfNeeded() {
+        int maxEntries = config.getTestDataCacheMaxEntries();
+        long maxCells = config.getTestDataCacheMaxCells();
+
+        while (entries.size() > maxEntries || (maxCells > 0 && cachedCells.get() > maxCells)) {
+            Entry eldest = null;
+            for (Entry entry : entries.values()) {
+                if (entry.loaded != null && (eldest == null || entry.lastAccess < eldest.lastAccess)) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null || !entries.remove(eldest.key, eldest)) {
+                return;
+            }
+
+            Loaded loaded = eldest.loaded;
+            if (loaded != null) {
+                cachedCells.addAndGet(-loaded.cells);
+            }
+            evictions.increment();
+            logger.debug("Evicted test data from cache: {}", eldest.key);
+        }
+    }
+
+    /**
+     * Estimate the size of a parsed value as the number of cells it holds
+     */
+    private static long countCells(Object value, int depth) {
+        if (value == null || CompiledTestData.isCompiledView(value)) {
+            // Compiled rows live in a memory-mapped file, not on the heap
+            return 0;
+        }
+        if (depth > 2) {
+            return 1;
+        }
+        if (value instanceof Object[]) {
+            long cells = 0;
+            for (Object element : (Object[]) value) {
+                cells += countCells(element, depth + 1);
+            }
+            return cells;
+        }
+        if (value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        if (value instanceof Collection) {
+            long cells = 0;
+            for (Object element : (Collection<?>) value) {
+                cells += countCells(element, depth + 1);
+            }
+            return cells;
+        }
+        if (value instanceof Map) {
+            long cells = 0;
+            for (Object element : ((Map<?, ?>) value).values()) {
+                cells += countCells(element, depth + 1);
+            }
+            return cells;
+        }
+        return 1;
+    }
+
+    /**
+     * Cache slot for one file and parse variant
+     */
+    private static class Entry {
+        private final String key;
+        private volatile Loaded loaded;
+        private volatile long lastAccess;
+
+        private Entry(String key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Parsed value together with the file version it was parsed from
+     */
+    private static class Loaded {
+        private final Object value;
+        private final long lastModified;
+        private final long size;
+        private final long cells;
+
+        private Loaded(Object value, BasicFileAttributes attributes, long cells) {
+            this.value = value;
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+            this.size = attributes.size();
+            this.cells = cells;
+        }
+
+        private boolean matches(BasicFileAttributes attributes) {
+            return lastModified == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.automation.listeners;
+
+import org.testng.Assert;
+import org.testng.IMethodInstance;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Unit tests for the shard partition of ShardingInterceptor
+ * Every shard of a run is computed in this JVM by switching shard.index, the way separate CI
+ * runners would compute it from the same method list
+ */
+public class ShardingInterceptorTest {
+    private static final int SHARDS = 3;
+
+    private Path durationsFile;
+
+    @AfterMethod(alwaysRun = true)
+    public void clearShardProperties() throws IOException {
+        System.clearProperty("shard.index");
+        System.clearProperty("shard.count");
+        System.clearProperty("shard.durations.path");
+        if (durationsFile != null) {
+            Files.deleteIfExists(durationsFile);
+            durationsFile = null;
+        }
+    }
+
+    @Test(groups = {"unit"}, description = "Every method runs on exactly one shard")
+    public void testEveryMethodOnExactlyOneShard() {
+        assertPartition(methods(), partition(methods()));
+    }
+
+    @Test(groups = {"unit"}, description = "The partition is independent of method order and repeated runs")
+    public void testPartitionIsStable() {
+        List<Set<String>> first = partition(methods());
+        List<IMethodInstance> shuffled = methods();
+        Collections.shuffle(shuffled, new Random(7));
+
+        Assert.assertEquals(partition(shuffled), first, "Partition changed with the method order");
+        Assert.assertEquals(partition(methods()), first, "Partition changed between runs");
+    }
+
+    @Test(groups = {"unit"}, description = "Independent methods go to the shard picked by a CRC32 of their name")
+    public void testHashAssignmentMatchesAcrossJvms() {
+        List<Set<String>> shards = partition(methods());
+        for (int i = 0; i < 20; i++) {
+            String key = Independent.class.getName() + "#test" + i;
+            CRC32 crc = new CRC32();
+            crc.update(key.getBytes(StandardCharsets.UTF_8));
+            int expected = (int) (crc.getValue() % SHARDS);
+            Assert.assertTrue(shards.get(expected).contains(key), key + " should run on shard " + expected);
+        }
+    }
+
+    @Test(groups = {"unit"}, description = "Methods of a class with dependencies share one shard")
+    public void testDependentClassStaysTogether() {
+        List<Set<String>> shards = partition(methods());
+        int holding = 0;
+        for (Set<String> shard : shards) {
+            long dependent = shard.stream().filter(key -> key.startsWith(Dependent.class.getName() + "#")).count();
+            if (dependent > 0) {
+                holding++;
+                Assert.assertEquals(dependent, 5, "All dependent methods should be on the same shard");
+            }
+        }
+        Assert.assertEquals(holding, 1, "Dependent methods were spread over several shards");
+    }
+
+    @Test(groups = {"unit"}, description = "Recorded durations are packed longest-first onto the least loaded shard")
+    public void testSharedDurationsPartition() throws IOException {
+        StringBuilder durations = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            durations.append(Independent.class.getName()).append("\\#test").append(i)
+                    .append('=').append(1000 + i * 100).append('\n');
+        }
+        Files.createDirectories(Paths.get("target"));
+        durationsFile = Files.createTempFile(Paths.get("target"), "shard-durations", ".properties");
+        Files.write(durationsFile, durations.toString().getBytes(StandardCharsets.ISO_8859_1));
+        System.setProperty("shard.durations.path", durationsFile.toString());
+
+        List<Set<String>> shards = partition(methods());
+        assertPartition(methods(), shards);
+        Assert.assertEquals(partition(methods()), shards, "Partition changed between runs");
+        Assert.assertTrue(shards.get(0).contains(Independent.class.getName() + "#test19"),
+                "Longest method should go to the first empty shard");
+
+        // 20 units of 1000-2900 ms (39000 ms in total) split greedily stay within one unit of even
+        long[] load = new long[SHARDS];
+        for (int shard = 0; shard < SHARDS; shard++) {
+            for (String key : shards.get(shard)) {
+                String prefix = Independent.class.getName() + "#test";
+                if (key.startsWith(prefix)) {
+                    load[shard] += 1000 + Integer.parseInt(key.substring(prefix.length())) * 100;
+                }
+            }
+        }
+        long max = Arrays.stream(load).max().getAsLong();
+        long min = Arrays.stream(load).min().getAsLong();
+        Assert.assertTrue(max - min <= 2900, "Shard loads are unbalanced: " + Arrays.toString(load));
+    }
+
+    @Test(groups = {"unit"}, description = "Every data provider row runs on exactly one shard")
+    public void testDataProviderRowsOnExactlyOneShard() {
+        ITestNGMethod method = method(Independent.class, "dataDriven", true);
+        ITestContext context = context(Collections.singletonList(method));
+        Map<Integer, Integer> rowShards = new HashMap<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            selectShard(shard);
+            List<Object[]> rows = new ArrayList<>();
+            for (int row = 0; row < 10; row++) {
+                rows.add(new Object[] {row});
+            }
+            Iterator<Object[]> selected = new ShardingInterceptor().intercept(rows.iterator(), null, method, context);
+            while (selected.hasNext()) {
+                int row = (Integer) selected.next()[0];
+                Assert.assertNull(rowShards.put(row, shard), "Row " + row + " ran on two shards");
+            }
+        }
+        Assert.assertEquals(rowShards.keySet(), new TreeSet<>(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9)));
+    }
+
+    /**
+     * Check that every method without a data provider is on exactly one shard and every
+     * data-driven method is on all shards
+     */
+    private static void assertPartition(List<IMethodInstance> methods, List<Set<String>> shards) {
+        for (IMethodInstance instance : methods) {
+            String key = key(instance.getMethod());
+            int count = 0;
+            for (Set<String> shard : shards) {
+                if (shard.contains(key)) {
+                    count++;
+                }
+            }
+            int expected = instance.getMethod().isDataDriven() ? SHARDS : 1;
+            Assert.assertEquals(count, expected, key + " ran on " + count + " shards");
+        }
+    }
+
+    private static List<Set<String>> partition(List<IMethodInstance> methods) {
+        ITestContext context = context(new ArrayList<>());
+        List<Set<String>> shards = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            selectShard(shard);
+            Set<String> keys = new TreeSet<>();
+            for (IMethodInstance instance : new ShardingInterceptor().intercept(new ArrayList<>(methods), context)) {
+                keys.add(key(instance.getMethod()));
+            }
+            shards.add(keys);
+        }
+        return shards;
+    }
+
+    private static void selectShard(int shard) {
+        System.setProperty("shard.count", String.valueOf(SHARDS));
+        System.setProperty("shard.index", String.valueOf(shard));
+    }
+
+    private static List<IMethodInstance> methods() {
+        List<IMethodInstance> methods = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            methods.add(instance(method(Independent.class, "test" + i, false)));
+        }
+        for (int i = 0; i < 5; i++) {
+            methods.add(instance(method(Dependent.class, "step" + i, false, i > 0 ? "step" + (i - 1) : null)));
+        }
+        methods.add(instance(method(Independent.class, "dataDriven", true)));
+        return methods;
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    private static ITestNGMethod method(Class<?> testClass, String name, boolean dataDriven, String... dependsOn) {
+        List<String> dependencies = new ArrayList<>();
+        for (String dependency : dependsOn) {
+            if (dependency != null) {
+                dependencies.add(testClass.getName() + "." + dependency);
+            }
+        }
+        Map<String, Object> values = new HashMap<>();
+        values.put("getRealClass", testClass);
+        values.put("getMethodName", name);
+        values.put("isDataDriven", dataDriven);
+        values.put("getMethodsDependedUpon", dependencies.toArray(new String[0]));
+        values.put("getGroupsDependedUpon", new String[0]);
+        values.put("toString", testClass.getSimpleName() + "." + name);
+        return proxy(ITestNGMethod.class, values);
+    }
+
+    private static IMethodInstance instance(ITestNGMethod method) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getMethod", method);
+        values.put("toString", method.toString());
+        return proxy(IMethodInstance.class, values);
+    }
+
+    private static ITestContext context(List<ITestNGMethod> methods) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getName", "Sharding Unit Test");
+        values.put("getAllTestMethods", methods.toArray(new ITestNGMethod[0]));
+        return proxy(ITestContext.class, values);
+    }
+
+    /**
+     * Implement an interface with fixed return values by method name, identity for equals and hashCode
+     */
+    private static <T> T proxy(Class<T> type, Map<String, Object> values) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return self == args[0];
+                case "hashCode":
+                    return System.identityHashCode(self);
+                default:
+                    if (values.containsKey(method.getName())) {
+                        return values.get(method.getName());
+                    }
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    private static class Independent {
+    }
+
+    private static class Dependent {
+    }
+}
@@ -0,0 +1,162 @@
+package com.automation.performance;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the log-linear bucket layout and percentile queries of LatencyHistogram
+ */
+public class LatencyHistogramTest {
+
+    @Test(groups = {"unit"}, description = "Values below 256 us get a bucket each")
+    public void testExactBucketsBelow256() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 0; value < 256; value++) {
+            histogram.recordValue(value);
+        }
+
+        long[][] buckets = histogram.getBuckets();
+        Assert.assertEquals(buckets.length, 256, "Every value below 256 should have its own bucket");
+        for (int i = 0; i < buckets.length; i++) {
+            Assert.assertEquals(buckets[i][0], i, "Highest value of bucket " + i);
+            Assert.assertEquals(buckets[i][1], 1, "Count of bucket " + i);
+        }
+    }
+
+    @Test(groups = {"unit"}, description = "Bucket boundaries above 256 us double in width per power of two")
+    public void testBucketBoundaries() {
+        // 256 and 257 share a bucket of width 2, 258 starts the next one
+        assertSameBucket(256, 257);
+        assertHighestEquivalent(256, 257);
+        assertHighestEquivalent(258, 259);
+
+        // 511 closes the width-2 range, 512 opens the width-4 range
+        assertHighestEquivalent(511, 511);
+        assertHighestEquivalent(512, 515);
+        assertSameBucket(512, 515);
+        assertHighestEquivalent(516, 519);
+
+        assertHighestEquivalent(1023, 1023);
+        assertHighestEquivalent(1024, 1031);
+    }
+
+    @Test(groups = {"unit"}, description = "Every value is reported within 1% of its true value")
+    public void testRelativeError() {
+        Random random = new Random(42);
+        long highest = TimeUnit.HOURS.toMicros(1);
+        for (int i = 0; i < 10_000; i++) {
+            long value = (long) Math.pow(highest, random.nextDouble());
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.recordValue(value);
+            long reported = histogram.getBuckets()[0][0];
+            Assert.assertTrue(reported >= value && reported <= value * 1.01,
+                    "Value " + value + " reported as " + reported);
+        }
+    }
+
+    @Test(groups = {"unit"}, description = "Values outside the trackable range are clamped")
+    public void testClamping() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(-5);
+        histogram.recordValue(TimeUnit.HOURS.toMicros(2));
+
+        Assert.assertEquals(histogram.getMinValue(), 0);
+        Assert.assertEquals(histogram.getMaxValue(), TimeUnit.HOURS.toMicros(1));
+        Assert.assertEquals(histogram.getTotalCount(), 2);
+    }
+
+    @Test(groups = {"unit"}, description = "Percentiles of exactly counted values")
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100; value++) {
+            histogram.recordValue(value);
+        }
+
+        Assert.assertEquals(histogram.getValueAtPercentile(0), 1);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 50);
+        Assert.assertEquals(histogram.getValueAtPercentile(90), 90);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 99);
+        Assert.assertEquals(histogram.getValueAtPercentile(99.5), 100);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 100);
+        Assert.assertEquals(histogram.getMean(), 50.5, 0.0001);
+    }
+
+    @Test(groups = {"unit"}, description = "Tail percentiles of bucketed values stay within 1% and never exceed the max")
+    public void testTailPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 990; i++) {
+            histogram.recordValue(10_000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.recordValue(2_000_000);
+        }
+
+        long p50 = histogram.getValueAtPercentile(50);
+        Assert.assertTrue(p50 >= 10_000 && p50 <= 10_100, "p50 was " + p50);
+        long p99 = histogram.getValueAtPercentile(99);
+        Assert.assertTrue(p99 >= 10_000 && p99 <= 10_100, "p99 was " + p99);
+        Assert.assertEquals(histogram.getValueAtPercentile(99.9), 2_000_000, "Tail is capped at the max");
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 2_000_000);
+    }
+
+    @Test(groups = {"unit"}, description = "An empty histogram reports zeros")
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 0);
+        Assert.assertEquals(histogram.getMinValue(), 0);
+        Assert.assertEquals(histogram.getMaxValue(), 0);
+        Assert.assertEquals(histogram.getMean(), 0.0);
+        Assert.assertEquals(histogram.getBuckets().length, 0);
+    }
+
+    @Test(groups = {"unit"}, description = "Responses slower than the interval add the requests they held back")
+    public void testExpectedIntervalCorrection() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValueWithExpectedInterval(1000, 100);
+
+        // 1000 as measured, then 900 down to 100 for the requests that should have started meanwhile
+        Assert.assertEquals(histogram.getTotalCount(), 10);
+        Assert.assertEquals(histogram.getMinValue(), 100);
+        Assert.assertEquals(histogram.getMaxValue(), 1000);
+        // 500 shares a width-2 bucket with 501
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 501);
+
+        LatencyHistogram fast = new LatencyHistogram();
+        fast.recordValueWithExpectedInterval(50, 100);
+        fast.recordValueWithExpectedInterval(5000, 0);
+        Assert.assertEquals(fast.getTotalCount(), 2, "Fast responses and interval 0 record one value");
+    }
+
+    @Test(groups = {"unit"}, description = "Adding a histogram merges counts, min and max")
+    public void testAdd() {
+        LatencyHistogram first = new LatencyHistogram();
+        first.recordValue(10);
+        first.recordValue(300);
+        LatencyHistogram second = new LatencyHistogram();
+        second.recordValue(5);
+        second.recordValue(70_000);
+
+        first.add(second);
+        Assert.assertEquals(first.getTotalCount(), 4);
+        Assert.assertEquals(first.getMinValue(), 5);
+        Assert.assertEquals(first.getMaxValue(), 70_000);
+        Assert.assertEquals(first.getBuckets().length, 4);
+    }
+
+    private static void assertSameBucket(long first, long second) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(first);
+        histogram.recordValue(second);
+        Assert.assertEquals(histogram.getBuckets().length, 1, first + " and " + second + " should share a bucket");
+    }
+
+    private static void assertHighestEquivalent(long value, long highest) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordValue(value);
+        Assert.assertEquals(histogram.getBuckets()[0][0], highest, "Highest equivalent value of " + value);
+    }
+}
@@ -0,0 +1,107 @@
+package com.automation.performance;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for the open-model arrival schedule of LoadTest
+ * Arrival offsets are pure functions of the rate profile, so the schedule is checked without
+ * sending requests; one short run checks that latency is measured from the scheduled start
+ */
+public class LoadTestTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test(groups = {"unit"}, description = "Steady-state arrivals are evenly spaced at the target rate")
+    public void testSteadyStateArrivals() {
+        LoadTest test = LoadTest.openModel(10).withSteadyState(Duration.ofSeconds(2));
+
+        Assert.assertEquals(test.arrivalOffsetNanos(1), SECOND / 10);
+        Assert.assertEquals(test.arrivalOffsetNanos(10), SECOND);
+        Assert.assertEquals(test.arrivalOffsetNanos(20), 2 * SECOND);
+        Assert.assertEquals(test.arrivalOffsetNanos(21), -1, "No arrival after the steady state");
+        Assert.assertEquals(countArrivals(test), 20);
+    }
+
+    @Test(groups = {"unit"}, description = "Arrivals during the ramp-up follow a linearly rising rate")
+    public void testRampUpArrivals() {
+        LoadTest test = LoadTest.openModel(10).withRampUp(Duration.ofSeconds(10))
+                .withSteadyState(Duration.ofSeconds(1));
+
+        // rate * t^2 / (2 * rampUp) arrivals by time t: 12.5 by 5 s, 50 by the end of the ramp-up
+        Assert.assertEquals(arrivalsBefore(test, 5 * SECOND), 12);
+        Assert.assertEquals(test.arrivalOffsetNanos(50), 10 * SECOND, 1000);
+        Assert.assertEquals(test.arrivalOffsetNanos(51), 10 * SECOND + SECOND / 10, 1000);
+        Assert.assertEquals(countArrivals(test), 60);
+    }
+
+    @Test(groups = {"unit"}, description = "Arrivals during the ramp-down follow a linearly falling rate")
+    public void testRampDownArrivals() {
+        LoadTest test = LoadTest.openModel(10).withSteadyState(Duration.ZERO)
+                .withRampDown(Duration.ofSeconds(10));
+
+        // rate * (t - t^2 / (2 * rampDown)) arrivals by time t: 37.5 by 5 s, 50 in total
+        Assert.assertEquals(arrivalsBefore(test, 5 * SECOND), 37);
+        Assert.assertEquals(countArrivals(test), 50);
+        Assert.assertTrue(test.arrivalOffsetNanos(50) <= 10 * SECOND, "Last arrival within the ramp-down");
+    }
+
+    @Test(groups = {"unit"}, description = "Arrival offsets never decrease across phase boundaries")
+    public void testArrivalsAreOrdered() {
+        LoadTest test = LoadTest.openModel(7.5).withRampUp(Duration.ofSeconds(3))
+                .withSteadyState(Duration.ofSeconds(4)).withRampDown(Duration.ofSeconds(3));
+
+        long previous = 0;
+        for (long arrival = 1; ; arrival++) {
+            long offset = test.arrivalOffsetNanos(arrival);
+            if (offset < 0) {
+                break;
+            }
+            Assert.assertTrue(offset >= previous, "Arrival " + arrival + " scheduled before the previous one");
+            Assert.assertTrue(offset <= 10 * SECOND, "Arrival " + arrival + " scheduled after the test");
+            previous = offset;
+        }
+    }
+
+    @Test(groups = {"unit"}, description = "Queueing behind slow responses counts as latency")
+    public void testLatencyIsMeasuredFromScheduledStart() {
+        // 10 arrivals 100 ms apart on one worker, each response takes 300 ms: request k starts
+        // at 100 ms + 300 ms * (k - 1) and completes 100 ms + 200 ms * k after it was scheduled
+        LoadResult result = LoadTest.openModel(10)
+                .withSteadyState(Duration.ofSeconds(1))
+                .withMaxConcurrency(1)
+                .withName("unit")
+                .run(() -> {
+                    Thread.sleep(300);
+                    return null;
+                });
+
+        LatencyHistogram latencies = result.getTotalHistogram();
+        Assert.assertEquals(latencies.getTotalCount(), 10);
+        long minMillis = TimeUnit.MICROSECONDS.toMillis(latencies.getMinValue());
+        long maxMillis = TimeUnit.MICROSECONDS.toMillis(latencies.getMaxValue());
+        Assert.assertTrue(minMillis >= 300 && minMillis < 600, "First request latency was " + minMillis + " ms");
+        Assert.assertTrue(maxMillis >= 2000, "Last request waited behind the others, latency was " + maxMillis + " ms");
+    }
+
+    private static long countArrivals(LoadTest test) {
+        long arrival = 1;
+        while (test.arrivalOffsetNanos(arrival) >= 0) {
+            arrival++;
+        }
+        return arrival - 1;
+    }
+
+    private static long arrivalsBefore(LoadTest test, long offsetNanos) {
+        long count = 0;
+        for (long arrival = 1; ; arrival++) {
+            long offset = test.arrivalOffsetNanos(arrival);
+            if (offset < 0 || offset > offsetNanos) {
+                return count;
+            }
+            count++;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.automation.tests.database;
 
 import com.automation.core.BaseDBTest;
+import com.automation.database.ConnectionPool;
 import com.automation.utils.CSVDataProvider;
 
 import org.testng.Assert;
@@ -11,8 +12,16 @@ import org.testng.annotations.Test;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Database Test Suite
@@ -204,6 +213,16 @@ public class DatabaseTestSuite extends BaseDBTest {
         List<Map<String, Object>> duplicateEmails = getResultAsList(duplicateEmailSql);
         Assert.assertEquals(duplicateEmails.size(), 0, "No duplicate emails should exist");
         
+        // Scan the whole table through a cursor instead of loading it into memory
+        long[] missingEmails = new long[1];
+        long scannedRows = forEachRow("SELECT id, email FROM users", row -> {
+            if (row.getString("email") == null) {
+                missingEmails[0]++;
+            }
+        });
+        Assert.assertTrue(scannedRows > 0, "Users table should not be empty");
+        Assert.assertEquals(missingEmails[0], 0, "Every user should have an email");
+        
         logger.info("Data validation test completed successfully");
     }
 
@@ -297,6 +316,7 @@ public class DatabaseTestSuite extends BaseDBTest {
     public void testDatabasePerformance() {
         logger.info("Starting database performance test");
         
+        long cacheHitsBefore = getConnectionPool().getStatementCacheHits();
         long startTime = System.currentTimeMillis();
         
         // Execute multiple queries
@@ -313,6 +333,16 @@ public class DatabaseTestSuite extends BaseDBTest {
         // Assert performance (should complete within 5 seconds)
         Assert.assertTrue(totalTime < 5000, "Database queries should complete within 5 seconds");
         
+        // Repeated SQL should be served from the statement cache after the first prepare
+        if (config.getDbStatementCacheSize() > 0) {
+            Assert.assertTrue(getConnectionPool().getStatementCacheHits() - cacheHitsBefore >= 99,
+                    "Repeated queries should reuse the cached prepared statement");
+        }
+        
+        // Every query closes its cursor before the next one runs
+        Assert.assertEquals(getOpenCursorCount(), 0, "No cursors should be left open");
+        Assert.assertEquals(getCursorHighWaterMark(), 1, "At most one cursor should be open at a time");
+        
         logger.info("Database performance test completed successfully");
     }
 
@@ -384,22 +414,36 @@ public class DatabaseTestSuite extends BaseDBTest {
      * Test database connection pooling
      */
     @Test(description = "Test database connection pooling")
-    public void testConnectionPooling() {
+    public void testConnectionPooling() throws Exception {
         logger.info("Starting connection pooling test");
         
-        // Test multiple concurrent connections
-        for (int i = 0; i < 10; i++) {
-            try {
-                getConnection();
-                String sql = "SELECT COUNT(*) FROM users";
-                Object result = getSingleValue(sql, "COUNT(*)");
-                Assert.assertNotNull(result, "Query should return result");
-            } catch (Exception e) {
-                logger.error("Connection test failed for iteration {}", i, e);
-                Assert.fail("Connection test failed: " + e.getMessage());
+        ConnectionPool pool = getConnectionPool();
+        long borrowsBefore = pool.getBorrowCount();
+        int workers = 10;
+        
+        // Borrow connections concurrently, more workers than the pool may hold
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                results.add(executor.submit(() -> {
+                    try (Connection connection = pool.getConnection();
+                         Statement statement = connection.createStatement();
+                         ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+                        Assert.assertTrue(pool.getTotalCount() <= pool.getMaxSize(),
+                                "Pool should never exceed its maximum size");
+                        return rs.next() ? rs.getObject(1) : null;
+                    }
+                }));
+            }
+            for (Future<Object> result : results) {
+                Assert.assertNotNull(result.get(60, TimeUnit.SECONDS), "Query should return result");
             }
+        } finally {
+            executor.shutdownNow();
         }
         
-        logger.info("Connection pooling test completed successfully");
+        Assert.assertEquals(pool.getBorrowCount() - borrowsBefore, workers, "Every worker should borrow once");
+        logger.info("Connection pooling test completed successfully: {}", pool);
     }
 }
\ No newline at end of file
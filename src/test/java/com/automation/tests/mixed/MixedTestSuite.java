@@ -4,12 +4,11 @@ import com.automation.api.GETRequest;
 import com.automation.api.POSTRequest;
 import com.automation.api.PUTRequest;
 import com.automation.api.DELETERequest;
-import com.automation.core.BaseDBTest;
 import com.automation.core.BaseUITest;
+import com.automation.core.Browserless;
 import com.automation.core.ConfigManager;
-import com.automation.utils.ExcelDataProvider;
-import com.automation.utils.JSONDataProvider;
-import com.automation.utils.CSVDataProvider;
+import com.automation.database.ConnectionPool;
+import com.automation.utils.LazyDataProvider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
@@ -26,7 +25,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -37,8 +36,7 @@ public class MixedTestSuite extends BaseUITest {
     private static final Logger logger = LogManager.getLogger(MixedTestSuite.class);
     private static final ConfigManager config = ConfigManager.getInstance();
     
-    private BaseDBTest dbTest;
-    private Connection dbConnection;
+    private ConnectionPool dbPool;
     private GETRequest getRequest;
     private POSTRequest postRequest;
     private PUTRequest putRequest;
@@ -51,9 +49,8 @@ public class MixedTestSuite extends BaseUITest {
     public void setUp() {
         logger.info("Setting up Mixed Test Suite");
         
-        // Initialize database connection
-        dbTest = new BaseDBTest();
-        dbConnection = dbTest.getConnection();
+        // Connections are borrowed per query, parallel test threads never share one
+        dbPool = ConnectionPool.getInstance("mysql");
         
         // Initialize API request objects
         getRequest = new GETRequest();
@@ -79,8 +76,8 @@ public class MixedTestSuite extends BaseUITest {
         }
         
         // Clean up database test data
-        try {
-            Statement stmt = dbConnection.createStatement();
+        try (Connection connection = dbPool.getConnection();
+             Statement stmt = connection.createStatement()) {
             stmt.execute("DELETE FROM users WHERE email LIKE '%test%'");
             logger.info("Cleaned up test data from database");
         } catch (SQLException e) {
@@ -195,6 +192,7 @@ public class MixedTestSuite extends BaseUITest {
     /**
      * Test: JSON data-driven API testing
      */
+    @Browserless
     @Test(description = "JSON data-driven API testing", dataProvider = "jsonAPIData")
     public void testJSONDataDrivenAPI(String endpoint, String method, Map<String, Object> payload, int expectedStatus) {
         logger.info("Starting JSON data-driven API test for endpoint: {}", endpoint);
@@ -216,12 +214,14 @@ public class MixedTestSuite extends BaseUITest {
     /**
      * Test: CSV data-driven database validation
      */
+    @Browserless
     @Test(description = "CSV data-driven database validation", dataProvider = "csvDatabaseData")
     public void testCSVDataDrivenDatabaseValidation(String query, String expectedResult, String tableName) {
         logger.info("Starting CSV data-driven database validation for table: {}", tableName);
         
-        try {
-            ResultSet rs = dbTest.executeQuery(query);
+        try (Connection connection = dbPool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(query)) {
             
             switch (expectedResult) {
                 case "user exists":
@@ -281,31 +281,22 @@ public class MixedTestSuite extends BaseUITest {
 
     // Data Providers
     @DataProvider(name = "excelUserData")
-    public Object[][] getExcelUserData() {
-        ExcelDataProvider excelProvider = new ExcelDataProvider();
-        return excelProvider.getData("src/test/resources/testdata/TestData.xlsx", "UserData");
+    public Iterator<Object[]> getExcelUserData() {
+        return LazyDataProvider.fromExcel("src/test/resources/testdata/TestData.xlsx", "UserData",
+                "name", "email", "role", "status");
     }
 
     @DataProvider(name = "jsonAPIData")
-    public Object[][] getJSONAPIData() {
-        JSONDataProvider jsonProvider = new JSONDataProvider();
-        List<Map<String, Object>> apiData = jsonProvider.getData("src/test/resources/testdata/TestData.json", "apiTestData");
-        
-        Object[][] result = new Object[apiData.size()][4];
-        for (int i = 0; i < apiData.size(); i++) {
-            Map<String, Object> data = apiData.get(i);
-            result[i][0] = data.get("endpoint");
-            result[i][1] = data.get("method");
-            result[i][2] = data.get("payload");
-            result[i][3] = data.get("expectedStatus");
-        }
-        return result;
+    public Iterator<Object[]> getJSONAPIData() {
+        return LazyDataProvider.fromJsonArray("src/test/resources/testdata/TestData.json", "apiTestData",
+                "endpoint", "method", "payload", "expectedStatus");
     }
 
     @DataProvider(name = "csvDatabaseData")
-    public Object[][] getCSVDatabaseData() {
-        CSVDataProvider csvProvider = new CSVDataProvider();
-        return csvProvider.getData("src/test/resources/testdata/TestData.csv", 3); // Skip header rows
+    public Iterator<Object[]> getCSVDatabaseData() {
+        // Fourth table in the file: query, expected_result, table_name
+        return LazyDataProvider.fromCsvSection("src/test/resources/testdata/TestData.csv", 3,
+                "query", "expected_result", "table_name");
     }
 
     // Helper methods
@@ -323,9 +314,10 @@ public class MixedTestSuite extends BaseUITest {
     }
 
     private void verifyUserInDatabase(String email, Map<String, Object> expectedData) {
-        try {
-            String query = "SELECT * FROM users WHERE email = '" + email + "'";
-            ResultSet rs = dbTest.executeQuery(query);
+        String query = "SELECT * FROM users WHERE email = '" + email + "'";
+        try (Connection connection = dbPool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(query)) {
             
             Assert.assertTrue(rs.next(), "User should exist in database");
             
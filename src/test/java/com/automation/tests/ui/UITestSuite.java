@@ -126,17 +126,17 @@ public class UITestSuite extends BaseUITest {
         logger.info("Starting responsive design test");
         
         // Test on desktop size
-        driver.manage().window().maximize();
+        getDriver().manage().window().maximize();
         loginPage.navigateToLoginPage();
         Assert.assertTrue(loginPage.isDesktopLayoutCorrect(), "Desktop layout should be correct");
         
         // Test on tablet size
-        driver.manage().window().setSize(new org.openqa.selenium.Dimension(768, 1024));
+        getDriver().manage().window().setSize(new org.openqa.selenium.Dimension(768, 1024));
         loginPage.refreshPage();
         Assert.assertTrue(loginPage.isTabletLayoutCorrect(), "Tablet layout should be correct");
         
         // Test on mobile size
-        driver.manage().window().setSize(new org.openqa.selenium.Dimension(375, 667));
+        getDriver().manage().window().setSize(new org.openqa.selenium.Dimension(375, 667));
         loginPage.refreshPage();
         Assert.assertTrue(loginPage.isMobileLayoutCorrect(), "Mobile layout should be correct");
         
@@ -7,6 +7,7 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -175,8 +176,8 @@ public class LoginTest extends UIBaseTest {
      * Data provider for login test data from CSV file
      */
     @DataProvider(name = "loginData")
-    public Object[][] getLoginData() {
+    public Iterator<Object[]> getLoginData() {
         String csvFilePath = config.getCsvDataPath() + "login_data.csv";
-        return CSVDataReader.readCSVDataForTestNG(csvFilePath);
+        return CSVDataReader.streamCSVDataForTestNG(csvFilePath);
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.automation.utils;
+
+import com.automation.core.ConfigManager;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Unit tests for the compiled test data file format
+ * Covers the round trip through a compiled file and the fallback to the parser when the
+ * source changed or the compiled file is damaged
+ */
+public class CompiledTestDataTest {
+    private static final String VARIANT = "unit-test";
+
+    private Path source;
+    private AtomicInteger parses;
+    private Map<String, List<String[]>> expected;
+
+    @BeforeMethod
+    public void createSource() throws IOException {
+        Files.createDirectories(Paths.get("target"));
+        source = Files.createTempFile(Paths.get("target"), "compiled-test-data", ".csv");
+        Files.write(source, "id,name\n1,Ann\n".getBytes(StandardCharsets.UTF_8));
+        parses = new AtomicInteger();
+
+        expected = new LinkedHashMap<>();
+        List<String[]> users = new ArrayList<>();
+        users.add(new String[]{"id", "name", "city"});
+        users.add(new String[]{"1", "Ann", null});
+        users.add(null);
+        users.add(new String[]{"2", "Zoë é中", "Köln"});
+        users.add(new String[]{"3"});
+        users.add(new String[0]);
+        expected.put("users", users);
+        expected.put("empty", new ArrayList<>());
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteFiles() throws IOException {
+        for (Path compiled : compiledFiles()) {
+            Files.deleteIfExists(compiled);
+        }
+        Files.deleteIfExists(source);
+    }
+
+    @Test(groups = {"unit"}, description = "Compiled tables read back equal to the parsed tables")
+    public void testRoundTrip() throws IOException {
+        assertTables(load(), expected);
+        Assert.assertEquals(parses.get(), 1, "First load should parse the source");
+        Assert.assertEquals(compiledFiles().size(), 1, "First load should write one compiled file");
+
+        Map<String, List<String[]>> compiled = load();
+        Assert.assertEquals(parses.get(), 1, "Second load should read the compiled file");
+        assertTables(compiled, expected);
+        Assert.assertTrue(CompiledTestData.isCompiledView(compiled.get("users")),
+                "Second load should return rows mapped from the compiled file");
+    }
+
+    @Test(groups = {"unit"}, description = "A changed source is parsed again")
+    public void testChangedSourceIsParsedAgain() throws IOException {
+        load();
+        Files.write(source, "id,name\n1,Ann\n2,Bob\n".getBytes(StandardCharsets.UTF_8));
+
+        assertTables(load(), expected);
+        Assert.assertEquals(parses.get(), 2, "Changed source should be parsed again");
+    }
+
+    @Test(groups = {"unit"}, description = "A truncated compiled file is rejected and rewritten")
+    public void testTruncatedFileIsRejected() throws IOException {
+        load();
+        Path compiled = compiledFiles().get(0);
+        try (FileChannel channel = FileChannel.open(compiled, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        assertTables(load(), expected);
+        Assert.assertEquals(parses.get(), 2, "Truncated compiled file should not be used");
+
+        assertTables(load(), expected);
+        Assert.assertEquals(parses.get(), 2, "Compiled file should have been rewritten");
+    }
+
+    @Test(groups = {"unit"}, description = "A compiled file with a damaged header is rejected")
+    public void testCorruptHeaderIsRejected() throws IOException {
+        load();
+        Path compiled = compiledFiles().get(0);
+        byte[] bytes = Files.readAllBytes(compiled);
+        bytes[0] ^= 0x7F;
+        Files.write(compiled, bytes);
+
+        assertTables(load(), expected);
+        Assert.assertEquals(parses.get(), 2, "Compiled file with a damaged header should not be used");
+    }
+
+    @Test(groups = {"unit"}, description = "A compiled file with a damaged directory is rejected")
+    public void testCorruptDirectoryIsRejected() throws IOException {
+        load();
+        Path compiled = compiledFiles().get(0);
+        byte[] bytes = Files.readAllBytes(compiled);
+        // Row count of the first table, the entry starts after the 40 byte header
+        bytes[44] = 0x7F;
+        Files.write(compiled, bytes);
+
+        assertTables(load(), expected);
+        Assert.assertEquals(parses.get(), 2, "Compiled file with a damaged directory should not be used");
+    }
+
+    private Map<String, List<String[]>> load() {
+        Supplier<Map<String, List<String[]>>> parser = () -> {
+            parses.incrementAndGet();
+            return expected;
+        };
+        return CompiledTestData.load(source.toString(), VARIANT, parser);
+    }
+
+    private List<Path> compiledFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        Path directory = Paths.get(ConfigManager.getInstance().getTestDataCompiledPath());
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, source.getFileName() + ".*.tdc")) {
+            stream.forEach(files::add);
+        }
+        return files;
+    }
+
+    private static void assertTables(Map<String, List<String[]>> actual, Map<String, List<String[]>> expected) {
+        Assert.assertEquals(new ArrayList<>(actual.keySet()), new ArrayList<>(expected.keySet()), "Table names");
+        for (Map.Entry<String, List<String[]>> table : expected.entrySet()) {
+            List<String[]> rows = actual.get(table.getKey());
+            Assert.assertEquals(rows.size(), table.getValue().size(), "Row count of " + table.getKey());
+            for (int i = 0; i < rows.size(); i++) {
+                Assert.assertTrue(Arrays.equals(rows.get(i), table.getValue().get(i)),
+                        "Row " + i + " of " + table.getKey() + ": " + Arrays.toString(rows.get(i)));
+            }
+        }
+    }
+}